@@ -0,0 +1,3 @@
+-- Keyset pagination index for customer book browsing (/api/customer/books)
+-- ORDER BY ENTERED_AT DESC, ID DESC + keyset predicate on (ENTERED_AT, ID)
+CREATE INDEX IDX_BOOK_BROWSE ON BOOK (STATE, ENTERED_AT DESC, ID DESC);
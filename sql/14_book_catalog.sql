@@ -0,0 +1,47 @@
+-- BOOK_CATALOG: customer-facing read model (flattened CustomerBookDetailVO)
+-- Maintained by BookCatalogService on every book / owner write path.
+-- Rebuild: POST /api/admin/catalog/rebuild
+CREATE TABLE BOOK_CATALOG (
+    BOOK_ID NUMBER PRIMARY KEY,
+    BOOK_NAME VARCHAR2(200) NOT NULL,
+    PUBLISHER_HOUSE VARCHAR2(200),
+    PRICE NUMBER NOT NULL,
+    ENTERED_AT DATE NOT NULL,
+    STATE VARCHAR2(30) NOT NULL,
+    BOOK_OWNER_ID NUMBER NOT NULL,
+    BOOK_OWNER_NAME VARCHAR2(100),
+    BOOK_OWNER_NICKNAME VARCHAR2(100),
+    GENRE_CODE VARCHAR2(50),
+    GENRE_NAME VARCHAR2(100),
+    LOCATION_CODE VARCHAR2(50),
+    LOCATION_NAME VARCHAR2(100),
+    BOOK_CASE_ID NUMBER,
+    BOOK_CASE_TYPE_CODE VARCHAR2(50),
+    ISBN VARCHAR2(13),
+    AUTHOR VARCHAR2(200),
+    THUMBNAIL_URL VARCHAR2(500)
+);
+
+CREATE INDEX IDX_BOOK_CATALOG_BROWSE ON BOOK_CATALOG (STATE, ENTERED_AT DESC, BOOK_ID DESC);
+CREATE INDEX IDX_BOOK_CATALOG_OWNER ON BOOK_CATALOG (BOOK_OWNER_ID);
+
+-- Initial load (same as the rebuild query)
+INSERT INTO BOOK_CATALOG (BOOK_ID, BOOK_NAME, PUBLISHER_HOUSE, PRICE, ENTERED_AT, STATE,
+                          BOOK_OWNER_ID, BOOK_OWNER_NAME, BOOK_OWNER_NICKNAME,
+                          GENRE_CODE, GENRE_NAME, LOCATION_CODE, LOCATION_NAME,
+                          BOOK_CASE_ID, BOOK_CASE_TYPE_CODE, ISBN, AUTHOR, THUMBNAIL_URL)
+SELECT B.ID, B.BOOK_NAME, B.PUBLISHER_HOUSE, B.PRICE, B.ENTERED_AT, B.STATE,
+       B.BOOK_OWNER_ID, U.NAME, BOP.NICKNAME,
+       B.COMMON_CODE_ID, CC_GENRE.CODE_NAME, BC.COMMON_CODE_ID, CC_LOC.CODE_NAME,
+       BC.ID, BCT.CODE, B.ISBN, B.AUTHOR, B.THUMBNAIL_URL
+FROM BOOK B
+JOIN USERS U ON B.BOOK_OWNER_ID = U.ID
+JOIN BOOK_CASE BC ON B.BOOK_CASE_ID = BC.ID
+JOIN BOOK_CASE_TYPE BCT ON BC.BOOK_CASE_TYPE_ID = BCT.ID
+LEFT JOIN BOOK_OWNER_PROFILE BOP ON B.BOOK_OWNER_ID = BOP.BOOK_OWNER_ID
+LEFT JOIN COMMON_CODE CC_GENRE ON CC_GENRE.GROUP_CODE = 'BOOK_TYPE' AND CC_GENRE.CODE = B.COMMON_CODE_ID
+LEFT JOIN COMMON_CODE CC_LOC ON CC_LOC.GROUP_CODE = 'LOCATION' AND CC_LOC.CODE = BC.COMMON_CODE_ID
+WHERE B.DELETED_AT IS NULL
+  AND U.DELETED_AT IS NULL;
+
+COMMIT;
@@ -0,0 +1,17 @@
+-- Bulk book registration (BookCaseServiceImpl.registerBooks) pre-allocates IDs
+-- from a named sequence and inserts them explicitly.
+-- The system-generated identity sequence (ISEQ$$_nnnnn) differs per schema, so
+-- replace the identity with BOOK_SEQ, started past the existing IDs.
+-- Single-row inserts (no ID column) take the same sequence through DEFAULT ON NULL.
+-- CACHE 20 keeps the allocation cost of the old identity sequence.
+ALTER TABLE BOOK MODIFY (ID DROP IDENTITY);
+
+DECLARE
+    v_start NUMBER;
+BEGIN
+    SELECT NVL(MAX(ID), 0) + 1 INTO v_start FROM BOOK;
+    EXECUTE IMMEDIATE 'CREATE SEQUENCE BOOK_SEQ START WITH ' || v_start || ' INCREMENT BY 1 CACHE 20';
+END;
+/
+
+ALTER TABLE BOOK MODIFY (ID DEFAULT ON NULL BOOK_SEQ.NEXTVAL);
@@ -0,0 +1,12 @@
+-- REFRESH_TOKEN_REVOCATION: JTIs of refresh tokens retired by rotation (POST /api/auth/refresh)
+-- Rows that have not expired yet are loaded into RefreshTokenRevocations (Bloom filter + set) on startup.
+-- The JTI primary key rejects concurrent reuse of the same token (the second INSERT hits a duplicate key).
+-- Expired rows are removed hourly by RefreshTokenRevocations.purgeExpired().
+CREATE TABLE REFRESH_TOKEN_REVOCATION (
+    JTI VARCHAR2(36) PRIMARY KEY,
+    USER_ID NUMBER NOT NULL,
+    EXPIRES_AT TIMESTAMP NOT NULL,
+    REVOKED_AT TIMESTAMP DEFAULT SYSTIMESTAMP NOT NULL
+);
+
+CREATE INDEX IDX_REFRESH_REVOCATION_EXPIRES ON REFRESH_TOKEN_REVOCATION (EXPIRES_AT);
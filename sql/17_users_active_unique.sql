@@ -0,0 +1,12 @@
+-- Unique keys for active (not soft-deleted) users: PHONE, RESIDENT_NUMBER.
+-- EMAIL already has the conditional unique index UQ_USERS_EMAIL (dbdiagram.dbml), so it is not repeated here.
+-- Signup checks these columns with SignupUniquenessFilter (Bloom filter) and one combined
+-- existence query (UserMapper.selectDuplicateFields); these indexes are the final guard when
+-- two signups race. UserAuthServiceImpl maps a violation of each index (and UQ_USERS_EMAIL) back
+-- to its ErrorCode by index name, so keep the names in sync with UserAuthServiceImpl.
+-- Soft-deleted rows map to NULL and are not indexed, so a deleted user's values can be reused.
+CREATE UNIQUE INDEX UX_USERS_ACTIVE_PHONE
+    ON USERS (CASE WHEN DELETED_AT IS NULL THEN PHONE END);
+
+CREATE UNIQUE INDEX UX_USERS_ACTIVE_RESIDENT_NUMBER
+    ON USERS (CASE WHEN DELETED_AT IS NULL THEN RESIDENT_NUMBER END);
@@ -0,0 +1,33 @@
+-- SETTLEMENT_RUN / SETTLEMENT_RUN_ITEM: progress of the monthly batch settlement (SettlementBatchEngine)
+-- A run snapshots the owners with unsettled sales into SETTLEMENT_RUN_ITEM (PENDING).
+-- Each owner is settled in its own transaction, which also flips its item PENDING -> DONE,
+-- so a crashed run is resumed from the remaining PENDING items instead of starting over.
+-- Owners that fail are marked FAILED with the error code and are picked up again by the next run.
+CREATE SEQUENCE SETTLEMENT_RUN_SEQ START WITH 1 INCREMENT BY 1 NOCACHE;
+
+CREATE TABLE SETTLEMENT_RUN (
+    ID NUMBER DEFAULT SETTLEMENT_RUN_SEQ.NEXTVAL PRIMARY KEY,
+    STATUS VARCHAR2(20) DEFAULT 'RUNNING' NOT NULL,
+    TOTAL_COUNT NUMBER DEFAULT 0 NOT NULL,
+    SETTLED_COUNT NUMBER DEFAULT 0 NOT NULL,
+    FAILED_COUNT NUMBER DEFAULT 0 NOT NULL,
+    STARTED_AT TIMESTAMP DEFAULT SYSTIMESTAMP NOT NULL,
+    FINISHED_AT TIMESTAMP,
+    CONSTRAINT CHK_SETTLEMENT_RUN_STATUS CHECK (STATUS IN ('RUNNING', 'COMPLETED'))
+);
+
+-- At most one RUNNING run: a second instance that loses the INSERT race joins the running one.
+CREATE UNIQUE INDEX UX_SETTLEMENT_RUN_RUNNING
+    ON SETTLEMENT_RUN (CASE WHEN STATUS = 'RUNNING' THEN 1 END);
+
+CREATE TABLE SETTLEMENT_RUN_ITEM (
+    RUN_ID NUMBER NOT NULL,
+    BOOK_OWNER_ID NUMBER NOT NULL,
+    STATUS VARCHAR2(20) DEFAULT 'PENDING' NOT NULL,
+    SETTLEMENT_ID NUMBER,
+    ERROR_CODE VARCHAR2(100),
+    UPDATED_AT TIMESTAMP,
+    CONSTRAINT PK_SETTLEMENT_RUN_ITEM PRIMARY KEY (RUN_ID, BOOK_OWNER_ID),
+    CONSTRAINT FK_SETTLEMENT_RUN_ITEM_RUN FOREIGN KEY (RUN_ID) REFERENCES SETTLEMENT_RUN(ID),
+    CONSTRAINT CHK_SETTLEMENT_RUN_ITEM_STATUS CHECK (STATUS IN ('PENDING', 'DONE', 'FAILED'))
+);
@@ -0,0 +1,31 @@
+-- PAYOUT_OUTBOX: owner payouts waiting to be sent to the payment provider
+-- SettlementServiceImpl.settle() inserts a row in the same transaction as BOOK_OWNER_SETTLEMENT
+-- (TRANSFER_STATUS = 'PENDING') and no longer calls the provider while holding the transaction.
+-- PayoutDispatcher sends due rows outside any transaction, then marks the row SENT and copies
+-- PAYOUT_KEY / TRANSFER_STATUS onto the settlement. Failed sends are retried with backoff until
+-- MAX attempts, after which the row and the settlement become FAILED.
+-- IDEMPOTENCY_KEY is sent as the Idempotency-Key header, so a retry after a lost response
+-- (or a crash between the transfer and the status update) does not pay twice.
+CREATE SEQUENCE PAYOUT_OUTBOX_SEQ START WITH 1 INCREMENT BY 1 NOCACHE;
+
+CREATE TABLE PAYOUT_OUTBOX (
+    ID NUMBER DEFAULT PAYOUT_OUTBOX_SEQ.NEXTVAL PRIMARY KEY,
+    SETTLEMENT_ID NUMBER NOT NULL,
+    BANK_CODE VARCHAR2(10) NOT NULL,
+    ACCOUNT_NUMBER VARCHAR2(50) NOT NULL,
+    HOLDER_NAME VARCHAR2(100) NOT NULL,
+    AMOUNT NUMBER NOT NULL,
+    IDEMPOTENCY_KEY VARCHAR2(64) NOT NULL,
+    STATUS VARCHAR2(20) DEFAULT 'PENDING' NOT NULL,
+    ATTEMPTS NUMBER DEFAULT 0 NOT NULL,
+    NEXT_ATTEMPT_AT TIMESTAMP DEFAULT SYSTIMESTAMP NOT NULL,
+    LAST_ERROR VARCHAR2(500),
+    CREATED_AT TIMESTAMP DEFAULT SYSTIMESTAMP NOT NULL,
+    SENT_AT TIMESTAMP,
+    CONSTRAINT UQ_PAYOUT_OUTBOX_SETTLEMENT UNIQUE (SETTLEMENT_ID),
+    CONSTRAINT UQ_PAYOUT_OUTBOX_IDEMPOTENCY UNIQUE (IDEMPOTENCY_KEY),
+    CONSTRAINT FK_PAYOUT_OUTBOX_SETTLEMENT FOREIGN KEY (SETTLEMENT_ID) REFERENCES BOOK_OWNER_SETTLEMENT(ID),
+    CONSTRAINT CHK_PAYOUT_OUTBOX_STATUS CHECK (STATUS IN ('PENDING', 'SENT', 'FAILED'))
+);
+
+CREATE INDEX IDX_PAYOUT_OUTBOX_DUE ON PAYOUT_OUTBOX (STATUS, NEXT_ATTEMPT_AT);
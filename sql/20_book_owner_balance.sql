@@ -0,0 +1,31 @@
+-- BOOK_OWNER_BALANCE: running unsettled balance per book owner
+-- BookSoldRecordServiceImpl.sellBooks() adds each inserted sale (MERGE, same transaction) and
+-- SettlementServiceImpl.settle() subtracts the settled records when it stamps the settlement ID,
+-- so "how much is pending for this owner" is a primary key lookup instead of the
+-- BOOK_SALE_RECORD / BOOK / SETTLEMENT_RATIO aggregation.
+-- OWNER_AMOUNT uses the same per-row FLOOR(SOLD_PRICE * OWNER_RATIO) as settle(), and
+-- STORE_AMOUNT = GROSS_AMOUNT - OWNER_AMOUNT, so the balance matches what a full settlement pays.
+-- BookOwnerBalanceReconciler compares the table against the raw rows nightly and repairs drift.
+CREATE TABLE BOOK_OWNER_BALANCE (
+    BOOK_OWNER_ID NUMBER PRIMARY KEY,
+    GROSS_AMOUNT NUMBER DEFAULT 0 NOT NULL,
+    OWNER_AMOUNT NUMBER DEFAULT 0 NOT NULL,
+    STORE_AMOUNT NUMBER DEFAULT 0 NOT NULL,
+    RECORD_COUNT NUMBER DEFAULT 0 NOT NULL,
+    UPDATED_AT TIMESTAMP DEFAULT SYSTIMESTAMP NOT NULL
+);
+
+-- Backfill from the current unsettled sales
+INSERT INTO BOOK_OWNER_BALANCE (BOOK_OWNER_ID, GROSS_AMOUNT, OWNER_AMOUNT, STORE_AMOUNT, RECORD_COUNT)
+SELECT B.BOOK_OWNER_ID,
+       SUM(BSR.SOLD_PRICE),
+       SUM(FLOOR(BSR.SOLD_PRICE * SR.OWNER_RATIO)),
+       SUM(BSR.SOLD_PRICE) - SUM(FLOOR(BSR.SOLD_PRICE * SR.OWNER_RATIO)),
+       COUNT(*)
+FROM BOOK_SALE_RECORD BSR
+JOIN BOOK B ON BSR.ID = B.ID
+JOIN SETTLEMENT_RATIO SR ON BSR.RATIO_ID = SR.ID
+WHERE BSR.BOOK_OWNER_SETTLEMENT_ID IS NULL
+GROUP BY B.BOOK_OWNER_ID;
+
+COMMIT;
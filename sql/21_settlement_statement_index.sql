@@ -0,0 +1,6 @@
+-- Month-end settlement statement export (GET /api/settlements/statements/export)
+-- The statement cursor ranges BOOK_OWNER_SETTLEMENT by SETTLED_AT and joins each settlement
+-- to its sale records; without these indexes every export is two full scans.
+CREATE INDEX IDX_SETTLEMENT_SETTLED_AT ON BOOK_OWNER_SETTLEMENT (SETTLED_AT, BOOK_OWNER_ID);
+
+CREATE INDEX IDX_SALE_RECORD_SETTLEMENT ON BOOK_SALE_RECORD (BOOK_OWNER_SETTLEMENT_ID);
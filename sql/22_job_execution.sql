@@ -0,0 +1,56 @@
+-- JOB_EXECUTION / JOB_CHECKPOINT / JOB_LOCK: month-end jobs that several app instances share (JobRunner)
+-- Every instance fires the same cron. The one that takes the JOB_LOCK lease plans the run:
+-- one JOB_EXECUTION per (JOB_NAME, JOB_KEY), e.g. ('deposit-overdue', '2026-11'), and the target
+-- BookOwner IDs split into ID ranges as JOB_CHECKPOINT rows (PENDING).
+-- Every instance then claims PENDING partitions with a conditional UPDATE and processes them in
+-- parallel; a partition whose instance died stays RUNNING past LEASE_UNTIL and is claimed again.
+-- Failed partitions stay FAILED (and the execution FAILED) until resumed from the admin API.
+-- TARGET_ID: what the job planned against, e.g. the SETTLEMENT_RUN of a monthly-settlement execution,
+-- so partitions keep working on that run even if another run is opened or the run is closed under them.
+CREATE SEQUENCE JOB_EXECUTION_SEQ START WITH 1 INCREMENT BY 1 NOCACHE;
+
+CREATE TABLE JOB_EXECUTION (
+    ID NUMBER DEFAULT JOB_EXECUTION_SEQ.NEXTVAL PRIMARY KEY,
+    JOB_NAME VARCHAR2(50) NOT NULL,
+    JOB_KEY VARCHAR2(50) NOT NULL,
+    STATUS VARCHAR2(20) DEFAULT 'RUNNING' NOT NULL,
+    TARGET_ID NUMBER,
+    PARTITION_COUNT NUMBER DEFAULT 0 NOT NULL,
+    PROCESSED_COUNT NUMBER DEFAULT 0 NOT NULL,
+    FAILED_COUNT NUMBER DEFAULT 0 NOT NULL,
+    STARTED_BY VARCHAR2(100) NOT NULL,
+    STARTED_AT TIMESTAMP DEFAULT SYSTIMESTAMP NOT NULL,
+    FINISHED_AT TIMESTAMP,
+    CONSTRAINT UQ_JOB_EXECUTION_KEY UNIQUE (JOB_NAME, JOB_KEY),
+    CONSTRAINT CHK_JOB_EXECUTION_STATUS CHECK (STATUS IN ('RUNNING', 'COMPLETED', 'FAILED'))
+);
+
+CREATE INDEX IDX_JOB_EXECUTION_STATUS ON JOB_EXECUTION (STATUS);
+
+-- FROM_ID / TO_ID: inclusive BookOwner ID range of the partition
+CREATE TABLE JOB_CHECKPOINT (
+    EXECUTION_ID NUMBER NOT NULL,
+    PARTITION_NO NUMBER NOT NULL,
+    FROM_ID NUMBER NOT NULL,
+    TO_ID NUMBER NOT NULL,
+    STATUS VARCHAR2(20) DEFAULT 'PENDING' NOT NULL,
+    NODE_ID VARCHAR2(100),
+    ATTEMPTS NUMBER DEFAULT 0 NOT NULL,
+    LEASE_UNTIL TIMESTAMP,
+    PROCESSED_COUNT NUMBER DEFAULT 0 NOT NULL,
+    FAILED_COUNT NUMBER DEFAULT 0 NOT NULL,
+    LAST_ERROR VARCHAR2(500),
+    UPDATED_AT TIMESTAMP,
+    CONSTRAINT PK_JOB_CHECKPOINT PRIMARY KEY (EXECUTION_ID, PARTITION_NO),
+    CONSTRAINT FK_JOB_CHECKPOINT_EXECUTION FOREIGN KEY (EXECUTION_ID) REFERENCES JOB_EXECUTION(ID),
+    CONSTRAINT CHK_JOB_CHECKPOINT_STATUS CHECK (STATUS IN ('PENDING', 'RUNNING', 'DONE', 'FAILED'))
+);
+
+CREATE INDEX IDX_JOB_CHECKPOINT_STATUS ON JOB_CHECKPOINT (EXECUTION_ID, STATUS);
+
+-- One row per job: the instance holding an unexpired lease is the only one allowed to plan a new execution
+CREATE TABLE JOB_LOCK (
+    JOB_NAME VARCHAR2(50) PRIMARY KEY,
+    LOCKED_BY VARCHAR2(100) NOT NULL,
+    LOCKED_UNTIL TIMESTAMP NOT NULL
+);
@@ -0,0 +1,8 @@
+-- CATALOG_*_VERSION_SEQ: shared versions of the customer book list and bookstore list
+-- CatalogVersion takes NEXTVAL after each write commits and derives the list ETags from the
+-- sequence's LAST_NUMBER, so every instance answers If-None-Match with the same ETag and a
+-- write on one node invalidates all of them. A sequence needs no row lock, so writers do not
+-- queue behind each other. NOCACHE keeps LAST_NUMBER in step with every NEXTVAL.
+-- Books list: BOOK_CATALOG writes. Bookstore list: the same writes (book count, nickname) and follows.
+CREATE SEQUENCE CATALOG_BOOKS_VERSION_SEQ START WITH 1 INCREMENT BY 1 NOCACHE;
+CREATE SEQUENCE CATALOG_BOOKSTORES_VERSION_SEQ START WITH 1 INCREMENT BY 1 NOCACHE;
@@ -0,0 +1,75 @@
+package my.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import my.common.response.ApiResponse;
+import my.domain.book.CustomerBookDetailVO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 고객 도서 목록 응답(ApiResponse&lt;List&lt;CustomerBookDetailVO&gt;&gt;) JSON 직렬화.
+ * ObjectMapper는 Spring MVC가 쓰는 것과 같은 Jackson2ObjectMapperBuilder 기본값으로 만든다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiResponseSerializationBenchmark {
+
+    @Param({"20", "100"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<List<CustomerBookDetailVO>> response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        List<CustomerBookDetailVO> books = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            CustomerBookDetailVO book = new CustomerBookDetailVO();
+            book.setId((long) i);
+            book.setBookName("데미안 " + i);
+            book.setPublisherHouse("민음사");
+            book.setPrice(12000 + i);
+            book.setEnteredAt(new Date());
+            book.setBookOwnerId(10L + i % 5);
+            book.setBookOwnerName("홍길동");
+            book.setBookOwnerNickname("책방주인" + i % 5);
+            book.setGenreCode("NOVEL");
+            book.setGenreName("소설");
+            book.setLocationCode("SEOUL");
+            book.setLocationName("서울");
+            book.setBookCaseId(100L + i % 10);
+            book.setBookCaseTypeCode("A");
+            book.setIsbn("97889374600" + String.format("%02d", i % 100));
+            book.setAuthor("헤르만 헤세");
+            book.setThumbnailUrl("https://example.com/covers/" + i + ".jpg");
+            books.add(book);
+        }
+        response = ApiResponse.success(books);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
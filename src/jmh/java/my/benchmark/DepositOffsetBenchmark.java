@@ -0,0 +1,80 @@
+package my.benchmark;
+
+import my.domain.deposit.DepositOffsetPlan;
+import my.domain.deposit.DepositVO;
+import my.domain.rental.RentalSettlementVO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 월 연체 처리의 보증금 FIFO 공제 계산 (BookOwner 한 명, DepositOffsetPlan).
+ * 보증금은 연체 개월 수의 절반만 덮도록 잡아 공제 / 소진 / 중지 분기를 모두 탄다.
+ * 계산은 입력을 바꾸지 않으므로 같은 VO를 매번 다시 쓴다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DepositOffsetBenchmark {
+
+    private static final int MONTHLY_PRICE = 50000;
+
+    @Param({"3", "12", "36"})
+    public int overdueMonths;
+
+    private DepositVO deposit;
+    private List<RentalSettlementVO> overdueRentals;
+
+    @Setup
+    public void setUp() {
+        deposit = deposit();
+        overdueRentals = overdueRentals();
+    }
+
+    private List<RentalSettlementVO> overdueRentals() {
+        List<RentalSettlementVO> rentals = new ArrayList<>(overdueMonths);
+        YearMonth month = YearMonth.now().minusMonths(overdueMonths);
+        for (int i = 0; i < overdueMonths; i++) {
+            RentalSettlementVO rental = new RentalSettlementVO();
+            rental.setId((long) i);
+            rental.setTargetMonth(month.plusMonths(i).toString());
+            rental.setAmount(MONTHLY_PRICE);
+            rental.setDeductedAmount(0);
+            rental.setRemainingAmount(MONTHLY_PRICE);
+            rental.setStatus("UNPAID");
+            rentals.add(rental);
+        }
+        return rentals;
+    }
+
+    private DepositVO deposit() {
+        DepositVO deposit = new DepositVO();
+        deposit.setId(1L);
+        deposit.setBookOwnerId(1L);
+        deposit.setAmount(MONTHLY_PRICE * overdueMonths / 2);
+        deposit.setRemainingAmount(MONTHLY_PRICE * overdueMonths / 2);
+        deposit.setStatus("HELD");
+        return deposit;
+    }
+
+    @Benchmark
+    public DepositOffsetPlan plan() {
+        return DepositOffsetPlan.plan(deposit, overdueRentals);
+    }
+}
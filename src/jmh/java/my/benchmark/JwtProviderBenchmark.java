@@ -0,0 +1,73 @@
+package my.benchmark;
+
+import my.domain.user.UserVO;
+import my.enums.Role;
+import my.jwt.JwtPrincipal;
+import my.jwt.JwtProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 검증 / 클레임 추출 비용.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtProviderBenchmark {
+
+    private JwtProvider jwtProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtProvider = new JwtProvider();
+        ReflectionTestUtils.setField(jwtProvider, "secretKey", "benchmark-secret-key-benchmark-secret-key-0123456789");
+        ReflectionTestUtils.setField(jwtProvider, "exp", TimeUnit.HOURS.toMillis(1));
+        jwtProvider.init();
+
+        UserVO user = new UserVO();
+        user.setId(1L);
+        user.setRole(Role.BOOK_OWNER);
+        token = jwtProvider.createToken(user);
+    }
+
+    @Benchmark
+    public JwtPrincipal parse() {
+        return jwtProvider.parse(token);
+    }
+
+    // JwtFilter 경로: 같은 토큰 재사용 시 캐시 조회만 한다
+    @Benchmark
+    public JwtPrincipal authenticate() {
+        return jwtProvider.authenticate(token);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public Long getUserId() {
+        return jwtProvider.getUserId(token);
+    }
+
+    @Benchmark
+    public String getRole() {
+        return jwtProvider.getRole(token);
+    }
+}
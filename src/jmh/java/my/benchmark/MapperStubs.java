@@ -0,0 +1,32 @@
+package my.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 벤치마크용 mapper stub.
+ * 지정한 메서드만 응답하고, 나머지 int 반환(INSERT / UPDATE)은 1, 그 외는 null.
+ * Mockito는 호출 기록 비용이 측정값에 섞이므로 쓰지 않는다.
+ */
+public final class MapperStubs {
+
+    private MapperStubs() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> T stub(Class<T> mapperType, Map<String, Function<Object[], Object>> answers) {
+        return (T) Proxy.newProxyInstance(mapperType.getClassLoader(), new Class<?>[]{mapperType},
+                (proxy, method, args) -> {
+                    Function<Object[], Object> answer = answers.get(method.getName());
+                    if (answer != null) {
+                        return answer.apply(args);
+                    }
+                    return method.getReturnType() == int.class ? 1 : null;
+                });
+    }
+
+    public static <T> T stub(Class<T> mapperType) {
+        return stub(mapperType, Map.of());
+    }
+}
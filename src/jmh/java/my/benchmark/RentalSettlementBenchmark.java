@@ -0,0 +1,53 @@
+package my.benchmark;
+
+import my.domain.rental.RentalSettlementMapper;
+import my.domain.rental.service.RentalSettlementServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 책장 점유 시 월별 임대료 생성 (첫 달 일할 계산 포함).
+ * 다중 행 INSERT는 넘긴 행 수를 돌려주는 stub이라 계산 / VO 생성 비용만 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RentalSettlementBenchmark {
+
+    @Param({"1", "12", "36"})
+    public int months;
+
+    private RentalSettlementServiceImpl rentalSettlementService;
+    private LocalDate startDate;
+    private LocalDate expirationDate;
+
+    @Setup
+    public void setUp() {
+        rentalSettlementService = new RentalSettlementServiceImpl(MapperStubs.stub(RentalSettlementMapper.class,
+                Map.of("insertAll", args -> ((List<?>) args[0]).size())));
+        startDate = LocalDate.of(2025, 1, 17);
+        expirationDate = startDate.plusMonths(months - 1);
+    }
+
+    @Benchmark
+    public void generateSettlements() {
+        rentalSettlementService.generateSettlements(1L, 1L, startDate, expirationDate, 50000);
+    }
+}
@@ -1,67 +1,62 @@
-package my.aop;
-
-import jakarta.servlet.http.HttpServletRequest;
-import my.annotation.RequireRole;
-import my.common.exception.ApplicationException;
-import my.common.exception.ErrorCode;
-import my.enums.Role;
-import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.annotation.Before;
-import org.springframework.stereotype.Component;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
-import org.springframework.web.servlet.HandlerMapping;
-
-import java.util.Map;
-
-@Aspect
-@Component
-public class RoleCheckAspect {
-
-    @Before("@annotation(requireRole)")
-    public void checkRole(RequireRole requireRole) {
-
-        ServletRequestAttributes attr = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-        HttpServletRequest request = attr.getRequest();
-
-        String role = (String) request.getAttribute("userRole");
-
-        Role[] permittedRoles = requireRole.value();
-
-        boolean hasPermission = false;
-        for (Role permittedRole : permittedRoles) {
-            if (permittedRole.name().equals(role)) {
-                hasPermission = true;
-                break;
-            }
-        }
-
-        if (!hasPermission) {
-            throw new ApplicationException(ErrorCode.FORBIDDEN);
-        }
-
-        if (requireRole.checkOwnership() && Role.BOOK_OWNER.name().equals(role)) {
-            checkOwnership(request);
-        }
-    }
-
-    
-
-    private void checkOwnership(HttpServletRequest request) {
-        @SuppressWarnings("unchecked")
-        Map<String, String> pathVariables =
-                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
-
-        if (pathVariables == null || !pathVariables.containsKey("id")) {
-            return;
-        }
-
-        Long pathId = Long.parseLong(pathVariables.get("id"));
-        Long userId = (Long) request.getAttribute("userId");
-
-        if (!userId.equals(pathId)) {
-            throw new ApplicationException(ErrorCode.FORBIDDEN);
-        }
-    }
-}
-
+package my.benchmark;
+
+import jakarta.servlet.http.HttpServletRequest;
+import my.annotation.RequireRole;
+import my.common.exception.ApplicationException;
+import my.common.exception.ErrorCode;
+import my.enums.Role;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * RoleCheckInterceptor 이전의 RoleCheckAspect.checkRole 본문 (비교 기준선).
+ * AspectJ 프록시 비용은 빠져 있으므로 실제 차이는 이 결과보다 크다.
+ */
+public class RoleCheckAspectBaseline {
+
+    public void checkRole(RequireRole requireRole) {
+
+        ServletRequestAttributes attr = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+        HttpServletRequest request = attr.getRequest();
+
+        String role = (String) request.getAttribute("userRole");
+
+        Role[] permittedRoles = requireRole.value();
+
+        boolean hasPermission = false;
+        for (Role permittedRole : permittedRoles) {
+            if (permittedRole.name().equals(role)) {
+                hasPermission = true;
+                break;
+            }
+        }
+
+        if (!hasPermission) {
+            throw new ApplicationException(ErrorCode.FORBIDDEN);
+        }
+
+        if (requireRole.checkOwnership() && Role.BOOK_OWNER.name().equals(role)) {
+            checkOwnership(request);
+        }
+    }
+
+    private void checkOwnership(HttpServletRequest request) {
+        @SuppressWarnings("unchecked")
+        Map<String, String> pathVariables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+
+        if (pathVariables == null || !pathVariables.containsKey("id")) {
+            return;
+        }
+
+        Long pathId = Long.parseLong(pathVariables.get("id"));
+        Long userId = (Long) request.getAttribute("userId");
+
+        if (!userId.equals(pathId)) {
+            throw new ApplicationException(ErrorCode.FORBIDDEN);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package my.benchmark;
+
+import my.annotation.RequireRole;
+import my.enums.Role;
+import my.interceptor.RoleCheckInterceptor;
+import my.jwt.JwtPrincipal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @RequireRole 권한 / 소유권 검사: 기존 aspect 본문 vs RoleCheckInterceptor.
+ * RequestContextHolder가 스레드 로컬이므로 스레드별 State로 요청을 묶는다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoleCheckBenchmark {
+
+    private final RoleCheckAspectBaseline aspect = new RoleCheckAspectBaseline();
+    private final RoleCheckInterceptor interceptor = new RoleCheckInterceptor();
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+    private MockHttpServletRequest request;
+    private RequireRole roleOnly;
+    private RequireRole withOwnership;
+    private HandlerMethod roleOnlyHandler;
+    private HandlerMethod ownershipHandler;
+
+    @RequireRole({Role.ADMIN, Role.EMPLOYEE, Role.BOOK_OWNER})
+    public void roleOnlyTarget() {
+    }
+
+    @RequireRole(value = {Role.ADMIN, Role.BOOK_OWNER}, checkOwnership = true)
+    public void ownershipTarget() {
+    }
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        roleOnlyHandler = new HandlerMethod(this, "roleOnlyTarget");
+        ownershipHandler = new HandlerMethod(this, "ownershipTarget");
+        roleOnly = roleOnlyHandler.getMethodAnnotation(RequireRole.class);
+        withOwnership = ownershipHandler.getMethodAnnotation(RequireRole.class);
+
+        request = new MockHttpServletRequest();
+        request.setAttribute(JwtPrincipal.ATTRIBUTE, new JwtPrincipal(1L, Role.BOOK_OWNER, Instant.MAX));
+        request.setAttribute("userId", 1L);
+        request.setAttribute("userRole", Role.BOOK_OWNER.name());
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("id", "1"));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @Benchmark
+    public void aspectRoleOnly() {
+        aspect.checkRole(roleOnly);
+    }
+
+    @Benchmark
+    public void aspectWithOwnership() {
+        aspect.checkRole(withOwnership);
+    }
+
+    @Benchmark
+    public boolean interceptorRoleOnly() {
+        return interceptor.preHandle(request, response, roleOnlyHandler);
+    }
+
+    @Benchmark
+    public boolean interceptorWithOwnership() {
+        return interceptor.preHandle(request, response, ownershipHandler);
+    }
+}
@@ -2,6 +2,8 @@ package my.api.auth;
 
 import lombok.RequiredArgsConstructor;
 import my.common.response.ApiResponse;
+import my.common.security.LoginThrottle;
+import my.domain.auth.service.RefreshTokenService;
 import my.domain.bookcase.BookCaseVO;
 import my.domain.bookowner.dto.request.BookOwnerJoinRequestDto;
 import my.domain.bookowner.service.auth.BookOwnerAuthService;
@@ -11,8 +13,9 @@ import my.domain.user.UserVO;
 import my.domain.user.dto.request.LoginRequestDto;
 import my.domain.user.dto.request.UserJoinRequestDto;
 import my.domain.user.service.auth.UserAuthService;
-import my.jwt.JwtProvider;
 import my.jwt.JwtTokenResponseDto;
+import my.jwt.RefreshTokenRequestDto;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.JstlUtils;
@@ -25,14 +28,23 @@ public class AuthApiController {
     private final UserAuthService userAuthService;
     private final BookOwnerAuthService bookOwnerAuthService;
     private final CustomerAuthService customerAuthService;
-    private final JwtProvider jwtProvider;
+    private final RefreshTokenService refreshTokenService;
+    private final LoginThrottle loginThrottle;
 
 
     @PostMapping("/login")
-    public ApiResponse<JwtTokenResponseDto> login(@RequestBody @Valid LoginRequestDto loginRequestDto) {
-        UserVO user = userAuthService.login(loginRequestDto);
-        String token = jwtProvider.createToken(user);
-        return ApiResponse.success(new JwtTokenResponseDto(token));
+    public ApiResponse<JwtTokenResponseDto> login(@RequestBody @Valid LoginRequestDto loginRequestDto,
+                                                  HttpServletRequest request) {
+        // 이메일 / IP별 시도 제한: 걸리면 사용자 조회와 BCrypt 검증 없이 429
+        UserVO user = loginThrottle.guard(loginRequestDto.getEmail(), request.getRemoteAddr(),
+                () -> userAuthService.login(loginRequestDto));
+        return ApiResponse.success(refreshTokenService.issue(user));
+    }
+
+    // access token 만료 시 비밀번호 없이 재발급 (refresh token은 1회용, 새 토큰으로 교체)
+    @PostMapping("/refresh")
+    public ApiResponse<JwtTokenResponseDto> refresh(@RequestBody @Valid RefreshTokenRequestDto dto) {
+        return ApiResponse.success(refreshTokenService.rotate(dto.getRefreshToken()));
     }
 
 
@@ -40,16 +52,13 @@ public class AuthApiController {
     public ApiResponse<JwtTokenResponseDto> registerBookOwner(@RequestBody @Valid BookOwnerJoinRequestDto dto) {
         BookOwnerVO bookOwner = bookOwnerAuthService.signup(dto);
 
-        String token = jwtProvider.createToken(bookOwner);
-
-        return ApiResponse.created(new JwtTokenResponseDto(token));
+        return ApiResponse.created(refreshTokenService.issue(bookOwner));
     }
 
     @PostMapping("/customer")
     public ApiResponse<JwtTokenResponseDto> registerCustomer(@RequestBody @Valid UserJoinRequestDto dto) {
         UserVO customer = customerAuthService.signup(dto);
-        String token = jwtProvider.createToken(customer);
-        return ApiResponse.created(new JwtTokenResponseDto(token));
+        return ApiResponse.created(refreshTokenService.issue(customer));
     }
 
 }
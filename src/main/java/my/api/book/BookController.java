@@ -3,15 +3,18 @@ package my.api.book;
 import lombok.RequiredArgsConstructor;
 import my.annotation.RequireRole;
 import my.common.response.ApiResponse;
+import my.common.response.ApiResponseStreamer;
 import my.domain.book.BookService;
 import my.domain.book.BookWithBookCaseVO;
 import my.enums.Role;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -21,6 +24,7 @@ import java.util.List;
 public class BookController {
 
     private final BookService bookService;
+    private final ApiResponseStreamer apiResponseStreamer;
 
     @RequireRole({Role.ADMIN, Role.BOOK_OWNER, Role.CUSTOMER})
     @GetMapping
@@ -29,7 +33,11 @@ public class BookController {
         return ApiResponse.success(result);
     }
 
-
+    @RequireRole({Role.ADMIN, Role.BOOK_OWNER, Role.CUSTOMER})
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamAllWithBookCase(@RequestParam(required = false) String state) {
+        return apiResponseStreamer.stream(() -> bookService.streamAllWithBookCase(state));
+    }
 
     @RequireRole(Role.ADMIN)
     @PostMapping("/retrieve")
@@ -8,6 +8,7 @@ import my.domain.bookcase.BookCaseVO;
 import my.domain.bookowner.service.BookOwnerService;
 import my.domain.bookowner.vo.BookOwnerVO;
 import my.domain.booksoldrecord.vo.BookSoldRecordVO;
+import my.domain.settlement.vo.BookOwnerBalanceVO;
 import my.domain.settlement.vo.SettlementVO;
 import my.enums.Role;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -75,6 +76,13 @@ public class BookOwnerController {
         return ApiResponse.success(myUnSettled);
     }
 
+    @RequireRole(value = {Role.ADMIN, Role.BOOK_OWNER}, checkOwnership = true)
+    @GetMapping("/{id}/settlements/pending/balance")
+    public ApiResponse<BookOwnerBalanceVO> findMyUnsettledBalance(@PathVariable("id") Long id) {
+        BookOwnerBalanceVO balance = bookOwnerService.findMyUnsettledBalance(id);
+        return ApiResponse.success(balance);
+    }
+
     @RequireRole(value = {Role.ADMIN, Role.BOOK_OWNER}, checkOwnership = true)
     @GetMapping("/{id}/bookcases")
     public ApiResponse<List<BookCaseVO>> findMyBookCases(@PathVariable("id") Long id) {
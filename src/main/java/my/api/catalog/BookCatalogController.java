@@ -0,0 +1,24 @@
+package my.api.catalog;
+
+import lombok.RequiredArgsConstructor;
+import my.annotation.RequireRole;
+import my.common.response.ApiResponse;
+import my.domain.catalog.service.BookCatalogService;
+import my.enums.Role;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/catalog")
+public class BookCatalogController {
+
+    private final BookCatalogService bookCatalogService;
+
+    @RequireRole(Role.ADMIN)
+    @PostMapping("/rebuild")
+    public ApiResponse<Integer> rebuild() {
+        return ApiResponse.success(bookCatalogService.rebuild());
+    }
+}
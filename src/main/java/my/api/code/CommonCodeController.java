@@ -2,12 +2,13 @@ package my.api.code;
 
 import lombok.RequiredArgsConstructor;
 import my.common.response.ApiResponse;
+import my.domain.code.CommonCodeCache;
 import my.domain.code.CommonCodeVO;
-import my.domain.code.service.CommonCodeService;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -16,10 +17,15 @@ import java.util.List;
 @RequestMapping("/api/common-codes")
 public class CommonCodeController {
 
-    private final CommonCodeService commonCodeService;
+    private final CommonCodeCache commonCodeCache;
 
+    // 캐시된 그룹이면 DB 조회 없이 304
     @GetMapping
-    public ApiResponse<List<CommonCodeVO>> findByGroupCode(@RequestParam String groupCode) {
-        return ApiResponse.success(commonCodeService.findByGroupCode(groupCode));
+    public ApiResponse<List<CommonCodeVO>> findByGroupCode(@RequestParam String groupCode, WebRequest webRequest) {
+        CommonCodeCache.CodeGroup group = commonCodeCache.get(groupCode);
+        if (webRequest.checkNotModified(group.etag())) {
+            return null;
+        }
+        return ApiResponse.success(group.codes());
     }
 }
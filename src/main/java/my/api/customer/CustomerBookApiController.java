@@ -4,6 +4,7 @@ import java.util.List;
 
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import lombok.RequiredArgsConstructor;
 import my.annotation.RequireRole;
@@ -12,6 +13,7 @@ import my.domain.book.BookService;
 import my.domain.book.CustomerBookDetailVO;
 import my.domain.booksoldrecord.BookSoldRecordMapper;
 import my.domain.booksoldrecord.vo.BookSoldRecordVO;
+import my.domain.catalog.CatalogVersion;
 import my.enums.Role;
 
 @RestController
@@ -21,6 +23,7 @@ public class CustomerBookApiController {
 
     private final BookService bookService;
     private final BookSoldRecordMapper bookSoldRecordMapper;
+    private final CatalogVersion catalogVersion;
 
     @RequireRole({Role.ADMIN, Role.CUSTOMER})
     @GetMapping
@@ -28,8 +31,15 @@ public class CustomerBookApiController {
             @RequestParam(value = "search", required = false) String search,
             @RequestParam(value = "genre", required = false) String genreCode,
             @RequestParam(value = "location", required = false) String locationCode,
-            @RequestParam(value = "bookOwnerId", required = false) Long bookOwnerId) {
-        return ApiResponse.success(bookService.findForCustomerBrowse(search, genreCode, locationCode, bookOwnerId));
+            @RequestParam(value = "bookOwnerId", required = false) Long bookOwnerId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            WebRequest webRequest) {
+        // 변경이 없으면 목록 조회 없이 304 (버전 시퀀스만 읽는다)
+        if (webRequest.checkNotModified(catalogVersion.etag(CatalogVersion.Scope.BOOKS))) {
+            return null;
+        }
+        return ApiResponse.page(bookService.findForCustomerBrowse(search, genreCode, locationCode, bookOwnerId, cursor, size));
     }
 
     @RequireRole({Role.ADMIN, Role.CUSTOMER})
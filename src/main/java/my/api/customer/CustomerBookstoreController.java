@@ -5,12 +5,14 @@ import java.util.List;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import lombok.RequiredArgsConstructor;
 import my.annotation.RequireRole;
 import my.common.response.ApiResponse;
 import my.domain.bookowner_profile.BookOwnerProfileVO;
 import my.domain.bookowner_profile.service.BookOwnerProfileService;
+import my.domain.catalog.CatalogVersion;
 import my.enums.Role;
 
 @RestController
@@ -19,10 +21,14 @@ import my.enums.Role;
 public class CustomerBookstoreController {
 
     private final BookOwnerProfileService bookOwnerProfileService;
+    private final CatalogVersion catalogVersion;
 
     @RequireRole({Role.CUSTOMER, Role.ADMIN})
     @GetMapping
-    public ApiResponse<List<BookOwnerProfileVO>> getAllBookstores() {
+    public ApiResponse<List<BookOwnerProfileVO>> getAllBookstores(WebRequest webRequest) {
+        if (webRequest.checkNotModified(catalogVersion.etag(CatalogVersion.Scope.BOOKSTORES))) {
+            return null;
+        }
         return ApiResponse.success(bookOwnerProfileService.findAllProfiles());
     }
 }
@@ -8,6 +8,7 @@ import my.domain.deposit.DepositRentalOffsetMapper;
 import my.domain.deposit.DepositRentalOffsetVO;
 import my.domain.deposit.DepositVO;
 import my.domain.deposit.service.DepositService;
+import my.domain.job.vo.JobExecutionVO;
 import my.enums.Role;
 import org.springframework.web.bind.annotation.*;
 
@@ -40,11 +41,13 @@ public class DepositController {
         return ApiResponse.success(offsets);
     }
 
+    /**
+     * 이번 달 연체 공제 작업 실행 (/api/admin/jobs/deposit-overdue/executions 와 같은 실행). 진행 상황은 작업 API로 조회한다.
+     */
     @RequireRole(Role.ADMIN)
     @PostMapping("/process-overdue")
-    public ApiResponse<Void> processMonthlyOverdue() {
-        depositService.processMonthlyOverdue();
-        return ApiResponse.success(null);
+    public ApiResponse<JobExecutionVO> processMonthlyOverdue() {
+        return ApiResponse.created(depositService.processMonthlyOverdue());
     }
 
     @RequireRole(Role.BOOK_OWNER)
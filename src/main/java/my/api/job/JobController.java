@@ -0,0 +1,55 @@
+package my.api.job;
+
+import static my.common.util.EntityUtil.requireNonNull;
+
+import lombok.RequiredArgsConstructor;
+import my.annotation.RequireRole;
+import my.common.exception.ErrorCode;
+import my.common.response.ApiResponse;
+import my.domain.job.JobRunner;
+import my.domain.job.vo.JobCheckpointVO;
+import my.domain.job.vo.JobExecutionVO;
+import my.enums.Role;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/jobs")
+public class JobController {
+
+    private final JobRunner jobRunner;
+
+    /**
+     * 작업 실행 (key: 작업 키, 월 작업은 yyyy-MM). 실행을 계획해 바로 돌려주고 파티션은 각 인스턴스가 나눠 처리한다.
+     * 같은 키의 실행이 이미 있으면 그 실행을 돌려준다.
+     */
+    @RequireRole(Role.ADMIN)
+    @PostMapping("/{jobName}/executions")
+    public ApiResponse<JobExecutionVO> launch(@PathVariable("jobName") String jobName,
+                                              @RequestParam("key") String key) {
+        return ApiResponse.created(requireNonNull(jobRunner.launch(jobName, key), ErrorCode.JOB_LOCKED));
+    }
+
+    @RequireRole(Role.ADMIN)
+    @GetMapping("/{jobName}/executions")
+    public ApiResponse<List<JobExecutionVO>> findExecutions(@PathVariable("jobName") String jobName) {
+        return ApiResponse.success(jobRunner.findExecutions(jobName));
+    }
+
+    @RequireRole(Role.ADMIN)
+    @GetMapping("/executions/{executionId}/checkpoints")
+    public ApiResponse<List<JobCheckpointVO>> findCheckpoints(@PathVariable("executionId") Long executionId) {
+        return ApiResponse.success(jobRunner.findCheckpoints(executionId));
+    }
+
+    /**
+     * 실패한 파티션을 되돌려 다시 처리하게 한다.
+     */
+    @RequireRole(Role.ADMIN)
+    @PostMapping("/executions/{executionId}/resume")
+    public ApiResponse<JobExecutionVO> resume(@PathVariable("executionId") Long executionId) {
+        return ApiResponse.success(jobRunner.resume(executionId));
+    }
+}
@@ -3,11 +3,14 @@ package my.api.rental;
 import lombok.RequiredArgsConstructor;
 import my.annotation.RequireRole;
 import my.common.response.ApiResponse;
+import my.common.response.ApiResponseStreamer;
 import my.domain.rental.RentalSettlementDetailVO;
 import my.domain.rental.RentalSettlementVO;
 import my.domain.rental.service.RentalSettlementService;
 import my.enums.Role;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -17,6 +20,7 @@ import java.util.List;
 public class RentalSettlementController {
 
     private final RentalSettlementService rentalSettlementService;
+    private final ApiResponseStreamer apiResponseStreamer;
 
     @RequireRole(Role.ADMIN)
     @GetMapping
@@ -31,6 +35,12 @@ public class RentalSettlementController {
         return ApiResponse.success(result);
     }
 
+    @RequireRole(Role.ADMIN)
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        return apiResponseStreamer.stream(rentalSettlementService::streamAll);
+    }
+
     @RequireRole(value = {Role.ADMIN, Role.BOOK_OWNER}, checkOwnership = true)
     @GetMapping("/book-owner/{id}")
     public ApiResponse<List<RentalSettlementDetailVO>> findByBookOwner(
@@ -1,16 +1,29 @@
 package my.api.settlments;
 
+import static my.common.util.EntityUtil.requireNonNull;
+
 import lombok.RequiredArgsConstructor;
 import my.annotation.RequireRole;
+import my.common.exception.ErrorCode;
 import my.common.response.ApiResponse;
+import my.common.response.ApiResponseStreamer;
+import my.common.response.CsvResponseStreamer;
 import my.domain.booksoldrecord.vo.BookSoldRecordVO;
+import my.domain.job.JobRunner;
+import my.domain.job.vo.JobExecutionVO;
+import my.domain.settlement.MonthlySettlementJob;
 import my.domain.settlement.dto.SettlementRequestDto;
 import my.domain.settlement.service.SettlementService;
+import my.domain.settlement.vo.SettlementStatementRowVO;
 import my.domain.settlement.vo.SettlementVO;
 import my.enums.Role;
 import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.YearMonth;
+import java.util.Arrays;
 import java.util.List;
 
 @RestController
@@ -19,6 +32,13 @@ import java.util.List;
 public class SettlementController {
 
     private final SettlementService settlementService;
+    private final JobRunner jobRunner;
+    private final ApiResponseStreamer apiResponseStreamer;
+    private final CsvResponseStreamer csvResponseStreamer;
+
+    private static final List<String> STATEMENT_HEADER = List.of(
+            "정산ID", "정산일시", "BookOwnerID", "BookOwner명", "판매기록ID", "도서명", "판매일시", "구매유형",
+            "판매가", "소유주비율", "매장비율", "소유주금액", "매장금액", "송금키", "송금상태");
 
     @RequireRole(Role.ADMIN)
     @GetMapping
@@ -27,6 +47,26 @@ public class SettlementController {
         return ApiResponse.success(settlements);
     }
 
+    @RequireRole(Role.ADMIN)
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        return apiResponseStreamer.stream(settlementService::streamAll);
+    }
+
+    /**
+     * 월 정산 명세서 (판매 기록 단위) gzip CSV 다운로드. month=yyyy-MM, bookOwnerId를 주면 해당 BookOwner만.
+     */
+    @RequireRole(Role.ADMIN)
+    @GetMapping("/statements/export")
+    public ResponseEntity<StreamingResponseBody> exportStatement(
+            @RequestParam("month") YearMonth month,
+            @RequestParam(value = "bookOwnerId", required = false) Long bookOwnerId) {
+        String filename = "settlement-statement-" + month + (bookOwnerId != null ? "-" + bookOwnerId : "") + ".csv.gz";
+        return csvResponseStreamer.streamGzip(filename, STATEMENT_HEADER,
+                () -> settlementService.streamStatement(month, bookOwnerId),
+                SettlementController::toStatementRow);
+    }
+
     @RequireRole(Role.ADMIN)
     @GetMapping("/completed")
     public ApiResponse<List<SettlementVO>> findAllCompleted() {
@@ -41,6 +81,12 @@ public class SettlementController {
         return ApiResponse.success(unsettled);
     }
 
+    @RequireRole(Role.ADMIN)
+    @GetMapping("/pending/stream")
+    public ResponseEntity<StreamingResponseBody> streamAllUnsettled() {
+        return apiResponseStreamer.stream(settlementService::streamAllUnsettled);
+    }
+
     @RequireRole(Role.ADMIN)
     @PostMapping
     public ApiResponse<SettlementVO> settle(@RequestBody @Valid SettlementRequestDto requestDto) {
@@ -48,10 +94,20 @@ public class SettlementController {
         return ApiResponse.created(settlement);
     }
 
+    /**
+     * 이번 달 배치 정산 작업 실행 (/api/admin/jobs/monthly-settlement/executions 와 같은 실행). 진행 상황은 작업 API로 조회한다.
+     */
     @RequireRole(Role.ADMIN)
     @PostMapping("/batch")
-    public ApiResponse<List<SettlementVO>> settleAll() {
-        List<SettlementVO> results = settlementService.settleAll();
-        return ApiResponse.created(results);
+    public ApiResponse<JobExecutionVO> settleAll() {
+        JobExecutionVO execution = jobRunner.launch(MonthlySettlementJob.NAME, YearMonth.now().toString());
+        return ApiResponse.created(requireNonNull(execution, ErrorCode.JOB_LOCKED));
+    }
+
+    private static List<?> toStatementRow(SettlementStatementRowVO row) {
+        return Arrays.asList(row.getSettlementId(), row.getSettledAt(), row.getBookOwnerId(), row.getBookOwnerName(),
+                row.getSaleRecordId(), row.getBookName(), row.getSoldAt(), row.getBuyTypeName(),
+                row.getSoldPrice(), row.getOwnerRatio(), row.getStoreRatio(), row.getOwnerAmount(), row.getStoreAmount(),
+                row.getPayoutKey(), row.getTransferStatus());
     }
 }
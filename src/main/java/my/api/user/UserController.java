@@ -4,11 +4,14 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import my.annotation.RequireRole;
 import my.common.response.ApiResponse;
+import my.common.response.ApiResponseStreamer;
 import my.domain.user.UserVO;
 import my.domain.user.dto.request.UserUpdateDto;
 import my.domain.user.service.UserService;
 import my.enums.Role;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -18,6 +21,7 @@ import java.util.List;
 public class UserController {
 
     private final UserService userService;
+    private final ApiResponseStreamer apiResponseStreamer;
 
     @RequireRole(Role.ADMIN)
     @GetMapping
@@ -26,6 +30,12 @@ public class UserController {
         return ApiResponse.success(users);
     }
 
+    @RequireRole(Role.ADMIN)
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        return apiResponseStreamer.stream(userService::streamAll);
+    }
+
     @RequireRole(Role.ADMIN)
     @GetMapping("/{id}")
     public ApiResponse<UserVO> findById(@PathVariable Long id) {
@@ -0,0 +1,20 @@
+package my.common.config;
+
+import lombok.RequiredArgsConstructor;
+import my.interceptor.RoleCheckInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final RoleCheckInterceptor roleCheckInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(roleCheckInterceptor)
+                .addPathPatterns("/api/**");   // JwtFilter와 같은 범위
+    }
+}
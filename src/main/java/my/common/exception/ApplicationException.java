@@ -6,9 +6,16 @@ import lombok.Getter;
 public class ApplicationException extends RuntimeException {
 
     private final ErrorCode errorCode;
+    /** 응답 data로 함께 내려줄 상세 정보 (예: 항목별 실패 목록) */
+    private final Object data;
 
     public ApplicationException(ErrorCode errorCode) {
+        this(errorCode, null);
+    }
+
+    public ApplicationException(ErrorCode errorCode, Object data) {
         super(errorCode.getMessage());
         this.errorCode = errorCode;
+        this.data = data;
     }
 }
@@ -58,6 +58,7 @@ public enum ErrorCode {
     UNSETTLED_SALE_RECORD_EXISTS("미정산 판매기록이 존재하여 임대 종료할 수 없습니다", 400),
     DEPOSIT_INSERT_FAIL("보증금 저장 실패", 500),
     SETTLEMENT_RATIO_NOT_FOUND("정산비율이 설정되지 않았습니다. 먼저 정산비율을 설정해주세요", 400),
+    INVALID_CURSOR("올바르지 않은 페이지 커서입니다", 400),
 
     // Profile
     PROFILE_ALREADY_EXISTS("이미 프로필이 존재합니다", 409),
@@ -116,6 +117,23 @@ public enum ErrorCode {
     // Announcement
     ANNOUNCEMENT_NOT_FOUND("존재하지 않는 공지사항입니다", 404),
     ANNOUNCEMENT_INSERT_FAIL("공지사항 저장 실패", 500),
+
+    // Password hashing
+    PASSWORD_HASHER_BUSY("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요", 503),
+
+    // Login throttle
+    TOO_MANY_LOGIN_ATTEMPTS("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요", 429),
+
+    // Refresh token
+    REFRESH_TOKEN_INVALID("유효하지 않은 refresh token입니다", 401),
+    REFRESH_TOKEN_REVOKED("이미 사용된 refresh token입니다", 401),
+
+    // Job
+    JOB_NOT_FOUND("등록되지 않은 작업입니다", 404),
+    JOB_KEY_INVALID("올바르지 않은 작업 키입니다", 400),
+    JOB_EXECUTION_NOT_FOUND("존재하지 않는 작업 실행입니다", 404),
+    JOB_EXECUTION_ALREADY_COMPLETED("이미 완료된 작업 실행입니다", 409),
+    JOB_LOCKED("다른 서버에서 작업을 준비 중입니다. 잠시 후 다시 시도해주세요", 409),
     ;
 
     private final String message;
@@ -25,7 +25,7 @@ public class GlobalExceptionHandler {
 
         return ResponseEntity
                 .status(errorCode.getStatus())
-                .body(ApiResponse.error(errorCode.getStatus(), errorCode.getMessage()));
+                .body(ApiResponse.error(errorCode.getStatus(), errorCode.getMessage(), e.getData()));
     }
 
     // @Valid 유효성 검증 실패
@@ -0,0 +1,168 @@
+package my.common.http;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import my.common.http.OutboundHttpProperties.Integration;
+import my.common.http.OutboundHttpProperties.Pool;
+
+/**
+ * 외부 API 호출용 RestTemplate 공급처.
+ *
+ * 모든 연동이 커넥션 풀 하나(keep-alive 재사용, idle 정리)를 공유하고,
+ * restTemplate("toss"), restTemplate("naver") 처럼 연동 이름마다 타임아웃 / circuit breaker / bulkhead를 따로 둔다.
+ * RestTemplateBuilder로 만들기 때문에 지연 / 에러는 http.client.requests 로,
+ * 차단 상태는 resilience4j.circuitbreaker.* / resilience4j.bulkhead.*(name=연동 이름)로,
+ * 풀 상태는 http.client.pool.connections{state} 로 노출된다.
+ *
+ * 연결 타임아웃은 풀의 ConnectionConfig로 정한다. 풀은 연동끼리 공유하므로 연동 RestTemplate으로
+ * 처음 호출한 호스트에 그 연동의 ConnectionConfig를 묶어 두고, 새 연결을 만들 때 호스트로 찾는다.
+ */
+@Component
+public class OutboundHttpClients {
+
+    private final OutboundHttpProperties properties;
+    private final RestTemplateBuilder restTemplateBuilder;
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final CloseableHttpClient httpClient;
+    private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+    private final BulkheadRegistry bulkheadRegistry = BulkheadRegistry.ofDefaults();
+    private final Map<String, RestTemplate> restTemplates = new ConcurrentHashMap<>();
+    private final Map<String, ConnectionConfig> connectionConfigsByHost = new ConcurrentHashMap<>();
+    private final ConnectionConfig defaultConnectionConfig;
+
+    public OutboundHttpClients(OutboundHttpProperties properties, RestTemplateBuilder restTemplateBuilder,
+                               MeterRegistry meterRegistry) {
+        Pool pool = properties.getPool();
+
+        this.properties = properties;
+        this.restTemplateBuilder = restTemplateBuilder;
+        this.defaultConnectionConfig = connectionConfig(new Integration());
+        this.connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(pool.getMaxTotal())
+                .setMaxConnPerRoute(pool.getMaxPerRoute())
+                .setConnectionConfigResolver(this::connectionConfig)
+                .build();
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(pool.getIdleEvict()))
+                .build();
+
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+        registerPoolGauge(meterRegistry, "leased");
+        registerPoolGauge(meterRegistry, "available");
+        registerPoolGauge(meterRegistry, "pending");
+    }
+
+    /**
+     * 연동 이름별 RestTemplate (처음 요청할 때 만들어 재사용).
+     */
+    public RestTemplate restTemplate(String integration) {
+        return restTemplates.computeIfAbsent(integration, this::createRestTemplate);
+    }
+
+    CircuitBreaker circuitBreaker(String integration) {
+        return circuitBreakerRegistry.circuitBreaker(integration);
+    }
+
+    ConnectionConfig connectionConfig(HttpRoute route) {
+        return connectionConfigsByHost.getOrDefault(route.getTargetHost().getHostName(), defaultConnectionConfig);
+    }
+
+    private RestTemplate createRestTemplate(String name) {
+        Integration config = properties.integration(name);
+
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(name, CircuitBreakerConfig.custom()
+                .failureRateThreshold(config.getFailureRateThreshold())
+                .slidingWindowSize(config.getSlidingWindowSize())
+                .minimumNumberOfCalls(config.getMinimumNumberOfCalls())
+                .waitDurationInOpenState(config.getOpenDuration())
+                .build());
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(name, BulkheadConfig.custom()
+                .maxConcurrentCalls(config.getMaxConcurrentCalls())
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+
+        ConnectionConfig connectionConfig = connectionConfig(config);
+        RequestConfig requestConfig = requestConfig(config);
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        requestFactory.setHttpContextFactory((method, uri) -> {
+            HttpClientContext context = HttpClientContext.create();
+            context.setRequestConfig(requestConfig);
+            return context;
+        });
+
+        return restTemplateBuilder
+                .requestFactory(() -> requestFactory)
+                .additionalInterceptors(
+                        (request, body, execution) -> {
+                            connectionConfigsByHost.putIfAbsent(request.getURI().getHost(), connectionConfig);
+                            return execution.execute(request, body);
+                        },
+                        new ResilienceInterceptor(circuitBreaker, bulkhead))
+                .build();
+    }
+
+    // 연결 단위 설정: 연결 타임아웃, 수명, 재사용 전 검증
+    private ConnectionConfig connectionConfig(Integration config) {
+        return ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(config.getConnectTimeout()))
+                .setTimeToLive(TimeValue.of(properties.getPool().getTimeToLive()))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                .build();
+    }
+
+    // 요청 단위 설정: 풀 대기, 응답 대기
+    private static RequestConfig requestConfig(Integration config) {
+        return RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(config.getConnectionRequestTimeout()))
+                .setResponseTimeout(Timeout.of(config.getReadTimeout()))
+                .build();
+    }
+
+    private void registerPoolGauge(MeterRegistry meterRegistry, String state) {
+        Gauge.builder("http.client.pool.connections", connectionManager, manager -> switch (state) {
+                    case "leased" -> manager.getTotalStats().getLeased();
+                    case "available" -> manager.getTotalStats().getAvailable();
+                    default -> manager.getTotalStats().getPending();
+                })
+                .tag("state", state)
+                .description("외부 API 커넥션 풀 상태")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        httpClient.close(CloseMode.GRACEFUL);
+    }
+}
@@ -0,0 +1,57 @@
+package my.common.http;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 외부 API 호출 설정 (application.yml의 outbound-http).
+ * pool은 모든 연동이 공유하고, 타임아웃 / circuit breaker / bulkhead는 integrations.<이름> 별로 둔다.
+ * 설정이 없는 연동은 Integration 기본값을 쓴다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "outbound-http")
+public class OutboundHttpProperties {
+
+    private Pool pool = new Pool();
+    private Map<String, Integration> integrations = new HashMap<>();
+
+    public Integration integration(String name) {
+        return integrations.getOrDefault(name, new Integration());
+    }
+
+    @Getter
+    @Setter
+    public static class Pool {
+        private int maxTotal = 100;
+        private int maxPerRoute = 20;
+        private Duration idleEvict = Duration.ofSeconds(30);
+        private Duration timeToLive = Duration.ofMinutes(5);
+    }
+
+    @Getter
+    @Setter
+    public static class Integration {
+        /** TCP 연결 */
+        private Duration connectTimeout = Duration.ofSeconds(2);
+        /** 응답 대기 (소켓 read) */
+        private Duration readTimeout = Duration.ofSeconds(5);
+        /** 풀에서 커넥션을 빌릴 때까지 */
+        private Duration connectionRequestTimeout = Duration.ofSeconds(1);
+        /** bulkhead: 동시 호출 수, 넘치면 기다리지 않고 실패 */
+        private int maxConcurrentCalls = 20;
+        /** circuit breaker: 최근 slidingWindowSize 건 중 실패율(%)이 넘으면 openDuration 동안 차단 */
+        private float failureRateThreshold = 50;
+        private int slidingWindowSize = 20;
+        private int minimumNumberOfCalls = 10;
+        private Duration openDuration = Duration.ofSeconds(30);
+    }
+}
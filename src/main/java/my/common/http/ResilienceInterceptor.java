@@ -0,0 +1,61 @@
+package my.common.http;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+
+/**
+ * 연동별 bulkhead + circuit breaker.
+ *
+ * 차단 / 포화 시에는 바로 ResourceAccessException(RestClientException)을 던져
+ * 호출하는 쪽의 기존 RestClientException 처리로 흘러가게 한다.
+ * 연결 / 타임아웃 예외와 5xx 응답은 실패로, 나머지는 성공으로 센다 (4xx는 상대가 살아 있다는 뜻).
+ */
+class ResilienceInterceptor implements ClientHttpRequestInterceptor {
+
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+
+    ResilienceInterceptor(CircuitBreaker circuitBreaker, Bulkhead bulkhead) {
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            throw new ResourceAccessException(circuitBreaker.getName() + " circuit open: " + request.getURI().getHost());
+        }
+        if (!bulkhead.tryAcquirePermission()) {
+            circuitBreaker.releasePermission();
+            throw new ResourceAccessException(bulkhead.getName() + " bulkhead full: " + request.getURI().getHost());
+        }
+
+        long start = circuitBreaker.getCurrentTimestamp();
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            long duration = circuitBreaker.getCurrentTimestamp() - start;
+            if (response.getStatusCode().is5xxServerError()) {
+                circuitBreaker.onError(duration, circuitBreaker.getTimestampUnit(),
+                        new HttpServerErrorException(response.getStatusCode()));
+            } else {
+                circuitBreaker.onSuccess(duration, circuitBreaker.getTimestampUnit());
+            }
+            return response;
+        } catch (IOException | RuntimeException e) {
+            circuitBreaker.onError(circuitBreaker.getCurrentTimestamp() - start, circuitBreaker.getTimestampUnit(), e);
+            throw e;
+        } finally {
+            bulkhead.onComplete();
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package my.common.response;
 
+import java.util.List;
+import java.util.Map;
+
 import lombok.Getter;
 
 @Getter
@@ -8,6 +11,8 @@ public class ApiResponse<T> {
     private int code;
     private String message;
     private T data;
+    private String next;
+    private Map<String, Map<String, Integer>> facets;
 
     private ApiResponse(boolean success, int code, String message, T data) {
         this.success = success;
@@ -16,10 +21,21 @@ public class ApiResponse<T> {
         this.data = data;
     }
 
+    private ApiResponse(boolean success, int code, String message, T data, String next,
+                        Map<String, Map<String, Integer>> facets) {
+        this(success, code, message, data);
+        this.next = next;
+        this.facets = facets;
+    }
+
     public static <T> ApiResponse<T> success(T data) {
         return new ApiResponse<>(true, 200, "요청 성공", data);
     }
 
+    public static <T> ApiResponse<List<T>> page(CursorPage<T> page) {
+        return new ApiResponse<>(true, 200, "요청 성공", page.getItems(), page.getNext(), page.getFacets());
+    }
+
     public static <T> ApiResponse<T> success(String message, T data) {
         return new ApiResponse<>(true, 200, message, data);
     }
@@ -32,6 +48,10 @@ public class ApiResponse<T> {
         return new ApiResponse<>(false, code, message, null);
     }
 
+    public static <T> ApiResponse<T> error(int code, String message, T data) {
+        return new ApiResponse<>(false, code, message, data);
+    }
+
     public static <T> ApiResponse<T> badRequest(String message) {
         return new ApiResponse<>(false, 400, message, null);
     }
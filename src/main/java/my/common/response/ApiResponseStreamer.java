@@ -0,0 +1,83 @@
+package my.common.response;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * MyBatis Cursor를 ApiResponse 형식 그대로 한 건씩 JSON으로 흘려보낸다.
+ * 전체 목록을 List로 올리지 않으므로 테이블 크기와 무관하게 힙 사용량이 일정하다.
+ *
+ * Cursor는 SqlSession이 열려 있는 동안만 읽을 수 있으므로
+ * 조회와 출력 전체를 읽기 전용 트랜잭션 안에서 수행한다.
+ * 중간에 실패하면 닫는 괄호를 쓰지 않아, 잘린 응답이 완전한 JSON으로 보이지 않는다.
+ */
+@Slf4j
+@Component
+public class ApiResponseStreamer {
+
+    private final ObjectWriter itemWriter;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ApiResponseStreamer(ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        this.objectMapper = objectMapper;
+        // 항목마다 flush하지 않고 서블릿 버퍼가 찰 때만 내보낸다
+        this.itemWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public <T> ResponseEntity<StreamingResponseBody> stream(Supplier<Cursor<T>> query) {
+        StreamingResponseBody body = outputStream -> readOnlyTransaction.executeWithoutResult(status -> {
+            try (Cursor<T> cursor = query.get()) {
+                write(cursor, outputStream);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    <T> void write(Iterable<T> items, OutputStream outputStream) throws IOException {
+        long start = System.currentTimeMillis();
+        long count = 0;
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+            generator.writeStartObject();
+            generator.writeBooleanField("success", true);
+            generator.writeNumberField("code", 200);
+            generator.writeStringField("message", "요청 성공");
+            generator.writeArrayFieldStart("data");
+            for (T item : items) {
+                itemWriter.writeValue(generator, item);
+                count++;
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+
+        log.debug("스트리밍 응답 완료 - {}건, {}ms", count, System.currentTimeMillis() - start);
+    }
+}
@@ -0,0 +1,28 @@
+package my.common.response;
+
+import java.util.List;
+import java.util.Map;
+
+import lombok.Getter;
+
+/**
+ * 커서 기반 페이지. next가 null이면 마지막 페이지.
+ * facets는 필터 값별 건수 (첫 페이지에만 포함).
+ */
+@Getter
+public class CursorPage<T> {
+
+    private final List<T> items;
+    private final String next;
+    private final Map<String, Map<String, Integer>> facets;
+
+    public CursorPage(List<T> items, String next) {
+        this(items, next, null);
+    }
+
+    public CursorPage(List<T> items, String next, Map<String, Map<String, Integer>> facets) {
+        this.items = items;
+        this.next = next;
+        this.facets = facets;
+    }
+}
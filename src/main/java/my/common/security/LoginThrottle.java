@@ -0,0 +1,171 @@
+package my.common.security;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import my.common.exception.ApplicationException;
+import my.common.exception.ErrorCode;
+
+/**
+ * 로그인 무차별 대입 차단.
+ *
+ * 이메일별 / IP별 token bucket으로 시도 횟수를 제한하고, 연속 실패가 임계치를 넘으면
+ * 실패할 때마다 두 배씩 늘어나는 잠금을 건다. 거절은 사용자 조회와 BCrypt 검증 전에 일어나므로
+ * login.throttle.rejected 카운터가 곧 아낀 해시 계산 횟수다.
+ *
+ * IP 키는 request.getRemoteAddr()다. 프록시 뒤에서는 server.forward-headers-strategy=native로
+ * 신뢰 프록시가 보낸 X-Forwarded-For가 반영된 값이어야 한다 (그렇지 않으면 모든 요청이 프록시 IP 하나로 묶인다).
+ *
+ * 버킷 상태는 불변 State를 CAS로 교체해 락 없이 갱신하고,
+ * 마지막 접근 후 일정 시간이 지나면 사라지는 크기 제한 Caffeine 맵에 둔다.
+ */
+@Component
+public class LoginThrottle {
+
+    static final long MAXIMUM_KEYS = 100_000;
+    static final Duration IDLE_EXPIRY = Duration.ofMinutes(30);
+    static final Duration LOCKOUT_BASE = Duration.ofSeconds(1);
+    static final Duration LOCKOUT_MAX = Duration.ofMinutes(15);
+
+    // 이메일: 5회 연속 시도 후 12초에 1회, 연속 실패 5회부터 잠금
+    static final Policy EMAIL_POLICY = new Policy("email", 5, Duration.ofSeconds(12), 5);
+    // IP: NAT 뒤 여러 사용자를 고려해 더 넉넉하게
+    static final Policy IP_POLICY = new Policy("ip", 30, Duration.ofSeconds(1), 50);
+
+    private final Cache<String, Bucket> buckets;
+    private final LongSupplier nanoClock;
+    private final Counter rejectedByEmail;
+    private final Counter rejectedByIp;
+
+    @Autowired
+    public LoginThrottle(MeterRegistry meterRegistry) {
+        this(meterRegistry, System::nanoTime);
+    }
+
+    LoginThrottle(MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_KEYS)
+                .expireAfterAccess(IDLE_EXPIRY)
+                .build();
+        this.rejectedByEmail = rejectedCounter(meterRegistry, EMAIL_POLICY);
+        this.rejectedByIp = rejectedCounter(meterRegistry, IP_POLICY);
+        Gauge.builder("login.throttle.keys", buckets, Cache::estimatedSize)
+                .description("추적 중인 이메일 / IP 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 제한을 통과하면 login을 실행하고 결과로 실패 횟수를 갱신한다.
+     * 제한에 걸리면 login을 실행하지 않고 TOO_MANY_LOGIN_ATTEMPTS(429).
+     */
+    public <T> T guard(String email, String clientIp, Supplier<T> login) {
+        String emailKey = EMAIL_POLICY.key(email == null ? "" : email.trim().toLowerCase(Locale.ROOT));
+        String ipKey = IP_POLICY.key(clientIp);
+
+        acquire(ipKey, IP_POLICY, rejectedByIp);
+        acquire(emailKey, EMAIL_POLICY, rejectedByEmail);
+
+        try {
+            T result = login.get();
+            bucket(emailKey, EMAIL_POLICY).reset(nanoClock.getAsLong());
+            return result;
+        } catch (ApplicationException e) {
+            if (e.getErrorCode() == ErrorCode.USER_NOT_FOUND || e.getErrorCode() == ErrorCode.INCORRECT_PASSWORD) {
+                long now = nanoClock.getAsLong();
+                bucket(emailKey, EMAIL_POLICY).fail(now, EMAIL_POLICY);
+                bucket(ipKey, IP_POLICY).fail(now, IP_POLICY);
+            }
+            throw e;
+        }
+    }
+
+    private void acquire(String key, Policy policy, Counter rejected) {
+        if (!bucket(key, policy).tryConsume(nanoClock.getAsLong(), policy)) {
+            rejected.increment();
+            throw new ApplicationException(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+        }
+    }
+
+    private Bucket bucket(String key, Policy policy) {
+        return buckets.get(key, k -> new Bucket(policy.capacity(), nanoClock.getAsLong()));
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, Policy policy) {
+        return Counter.builder("login.throttle.rejected")
+                .description("BCrypt 검증 전에 거절된 로그인 시도 수")
+                .tag("key", policy.name())
+                .register(meterRegistry);
+    }
+
+    record Policy(String name, int capacity, Duration refillInterval, int lockoutThreshold) {
+
+        String key(String value) {
+            return name + ":" + value;
+        }
+
+        double tokensPerNano() {
+            return 1.0 / refillInterval.toNanos();
+        }
+    }
+
+    private record State(double tokens, long refilledAt, int failures, long lockedUntil) {
+    }
+
+    static final class Bucket {
+
+        private final AtomicReference<State> state;
+
+        Bucket(int capacity, long now) {
+            this.state = new AtomicReference<>(new State(capacity, now, 0, now));
+        }
+
+        boolean tryConsume(long now, Policy policy) {
+            while (true) {
+                State current = state.get();
+                if (now - current.lockedUntil() < 0) {
+                    return false;
+                }
+                double tokens = Math.min(policy.capacity(),
+                        current.tokens() + (now - current.refilledAt()) * policy.tokensPerNano());
+                if (tokens < 1) {
+                    return false;
+                }
+                State next = new State(tokens - 1, now, current.failures(), current.lockedUntil());
+                if (state.compareAndSet(current, next)) {
+                    return true;
+                }
+            }
+        }
+
+        // 임계치부터 1s, 2s, 4s ... 최대 LOCKOUT_MAX 잠금
+        void fail(long now, Policy policy) {
+            state.updateAndGet(current -> {
+                int failures = current.failures() + 1;
+                long lockedUntil = current.lockedUntil();
+                if (failures >= policy.lockoutThreshold()) {
+                    int exponent = Math.min(failures - policy.lockoutThreshold(), 30);
+                    long lockout = Math.min(LOCKOUT_BASE.toNanos() << exponent, LOCKOUT_MAX.toNanos());
+                    lockedUntil = now + lockout;
+                }
+                return new State(current.tokens(), current.refilledAt(), failures, lockedUntil);
+            });
+        }
+
+        void reset(long now) {
+            state.updateAndGet(current -> new State(current.tokens(), current.refilledAt(), 0, now));
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package my.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ListUtil {
+
+    /** Oracle IN 절 최대 개수 */
+    public static final int IN_CLAUSE_LIMIT = 1000;
+
+    private ListUtil() {}
+
+    /** size 단위로 자른 subList 목록 (원본 list의 view) */
+    public static <T> List<List<T>> partition(List<T> list, int size) {
+        List<List<T>> chunks = new ArrayList<>();
+        if (list == null) {
+            return chunks;
+        }
+        for (int from = 0; from < list.size(); from += size) {
+            chunks.add(list.subList(from, Math.min(from + size, list.size())));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,26 @@
+package my.common.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class TransactionUtil {
+
+    private TransactionUtil() {}
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤에 실행한다. 트랜잭션 밖이면 즉시 실행.
+     * 롤백된 쓰기가 인메모리 구조에 반영되지 않도록 할 때 사용한다.
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
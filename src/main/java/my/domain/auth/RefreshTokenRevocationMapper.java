@@ -0,0 +1,13 @@
+package my.domain.auth;
+
+import org.apache.ibatis.annotations.Mapper;
+
+import java.util.List;
+
+@Mapper
+public interface RefreshTokenRevocationMapper {
+
+    int insert(RefreshTokenRevocationVO vo);
+    List<RefreshTokenRevocationVO> selectActive();
+    int deleteExpired();
+}
@@ -0,0 +1,17 @@
+package my.domain.auth;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class RefreshTokenRevocationVO {
+    private String jti;
+    private Long userId;
+    private LocalDateTime expiresAt;
+    private LocalDateTime revokedAt;
+}
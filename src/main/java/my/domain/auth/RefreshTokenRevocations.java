@@ -0,0 +1,86 @@
+package my.domain.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 폐기된 refresh token jti 집합 (REFRESH_TOKEN_REVOCATION의 메모리 사본).
+ *
+ * 재발급 요청 대부분은 폐기되지 않은 토큰이므로 Bloom filter에서 바로 "없음"으로 끝난다.
+ * Bloom filter가 "있을 수도"라고 할 때만 정확한 set(jti → 만료시각)을 확인한다.
+ * Bloom filter는 삭제가 안 되므로 만료 정리 때 남은 set으로 다시 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenRevocations {
+
+    static final int EXPECTED_INSERTIONS = 100_000;
+    static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final RefreshTokenRevocationMapper refreshTokenRevocationMapper;
+
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+    private volatile BloomFilter<CharSequence> bloomFilter = newBloomFilter();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        List<RefreshTokenRevocationVO> rows = refreshTokenRevocationMapper.selectActive();
+        rows.forEach(row -> add(row.getJti(), toInstant(row.getExpiresAt())));
+        log.info("폐기 refresh token 로드 완료 - {}건", rows.size());
+    }
+
+    public boolean isRevoked(String jti) {
+        if (!bloomFilter.mightContain(jti)) {
+            return false;
+        }
+        return revoked.containsKey(jti);
+    }
+
+    /**
+     * DB INSERT가 성공(= 이 jti를 처음 폐기)한 뒤에만 호출한다.
+     */
+    public void add(String jti, Instant expiresAt) {
+        revoked.put(jti, expiresAt);
+        bloomFilter.put(jti);
+    }
+
+    @Scheduled(cron = "0 0 * * * *", zone = "Asia/Seoul")
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+
+        BloomFilter<CharSequence> rebuilt = newBloomFilter();
+        revoked.keySet().forEach(rebuilt::put);
+        bloomFilter = rebuilt;
+        // 교체 직전에 이전 filter로 들어간 add를 놓치지 않도록 한 번 더 채운다
+        revoked.keySet().forEach(rebuilt::put);
+
+        int deleted = refreshTokenRevocationMapper.deleteExpired();
+        log.info("만료 refresh token 폐기 기록 정리 - 메모리 {}건 유지, DB {}건 삭제", revoked.size(), deleted);
+    }
+
+    private static BloomFilter<CharSequence> newBloomFilter() {
+        return BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), EXPECTED_INSERTIONS, FALSE_POSITIVE_RATE);
+    }
+
+    private static Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant();
+    }
+}
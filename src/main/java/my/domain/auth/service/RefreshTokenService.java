@@ -0,0 +1,11 @@
+package my.domain.auth.service;
+
+import my.domain.user.UserVO;
+import my.jwt.JwtTokenResponseDto;
+
+public interface RefreshTokenService {
+
+    JwtTokenResponseDto issue(UserVO user);
+
+    JwtTokenResponseDto rotate(String refreshToken);
+}
@@ -0,0 +1,74 @@
+package my.domain.auth.service;
+
+import static my.common.util.EntityUtil.requireNonNull;
+
+import lombok.RequiredArgsConstructor;
+import my.common.exception.ApplicationException;
+import my.common.exception.ErrorCode;
+import my.common.util.TransactionUtil;
+import my.domain.auth.RefreshTokenRevocationMapper;
+import my.domain.auth.RefreshTokenRevocationVO;
+import my.domain.auth.RefreshTokenRevocations;
+import my.domain.user.UserMapper;
+import my.domain.user.UserVO;
+import my.jwt.JwtProvider;
+import my.jwt.JwtTokenResponseDto;
+import my.jwt.RefreshToken;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+
+    private final JwtProvider jwtProvider;
+    private final UserMapper userMapper;
+    private final RefreshTokenRevocationMapper refreshTokenRevocationMapper;
+    private final RefreshTokenRevocations refreshTokenRevocations;
+
+    @Override
+    public JwtTokenResponseDto issue(UserVO user) {
+        return new JwtTokenResponseDto(jwtProvider.createToken(user), jwtProvider.createRefreshToken(user));
+    }
+
+    /**
+     * refresh token 1회 사용 후 폐기하고 새 access / refresh token 쌍을 발급한다 (비밀번호 검증 없음).
+     * 폐기된 토큰 재사용은 메모리에서 먼저 거르고, 동시 요청은 JTI PK 중복으로 거른다.
+     */
+    @Override
+    @Transactional
+    public JwtTokenResponseDto rotate(String refreshToken) {
+        RefreshToken current = requireNonNull(
+                jwtProvider.parseRefreshToken(refreshToken),
+                ErrorCode.REFRESH_TOKEN_INVALID);
+
+        if (refreshTokenRevocations.isRevoked(current.jti())) {
+            throw new ApplicationException(ErrorCode.REFRESH_TOKEN_REVOKED);
+        }
+
+        // 토큰 발급 후 권한이 바뀌었거나 탈퇴했을 수 있으므로 현재 사용자 정보로 발급
+        UserVO user = requireNonNull(userMapper.selectById(current.userId()), ErrorCode.REFRESH_TOKEN_INVALID);
+
+        revoke(current);
+        return issue(user);
+    }
+
+    private void revoke(RefreshToken token) {
+        RefreshTokenRevocationVO revocation = new RefreshTokenRevocationVO();
+        revocation.setJti(token.jti());
+        revocation.setUserId(token.userId());
+        revocation.setExpiresAt(LocalDateTime.ofInstant(token.expiresAt(), ZoneId.systemDefault()));
+
+        try {
+            refreshTokenRevocationMapper.insert(revocation);
+        } catch (DuplicateKeyException e) {
+            throw new ApplicationException(ErrorCode.REFRESH_TOKEN_REVOKED);
+        }
+
+        TransactionUtil.afterCommit(() -> refreshTokenRevocations.add(token.jti(), token.expiresAt()));
+    }
+}
@@ -0,0 +1,36 @@
+package my.domain.book;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+import my.common.exception.ApplicationException;
+import my.common.exception.ErrorCode;
+
+/**
+ * 고객 도서 목록 keyset 커서 (ENTERED_AT DESC, ID DESC).
+ * 클라이언트에는 불투명한 base64url 문자열로만 노출한다.
+ */
+public record BookBrowseCursor(Date enteredAt, Long id) {
+
+    public static BookBrowseCursor after(CustomerBookDetailVO lastItem) {
+        return new BookBrowseCursor(lastItem.getEnteredAt(), lastItem.getId());
+    }
+
+    public String encode() {
+        String raw = enteredAt.getTime() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static BookBrowseCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            long enteredAt = Long.parseLong(raw.substring(0, separator));
+            long id = Long.parseLong(raw.substring(separator + 1));
+            return new BookBrowseCursor(new Date(enteredAt), id);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new ApplicationException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
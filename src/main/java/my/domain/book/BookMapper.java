@@ -3,6 +3,7 @@ package my.domain.book;
 import java.util.List;
 
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.annotations.Param;
 
 @Mapper
@@ -12,16 +13,21 @@ public interface BookMapper {
     List<BookVO> selectBooksByBookOwnerId(Long id);
     List<BookVO> selectSoldBookByBookOwnerId(Long id);
     int insert(BookVO bookVO);
+    List<Long> selectNextIds(int count);
+    int insertAll(@Param("books") List<BookVO> books);
+    List<BookVO> selectByIds(@Param("bookIds") List<Long> bookIds);
+    List<BookVO> selectByIdsForUpdate(@Param("bookIds") List<Long> bookIds);
     BookVO selectById(Long id);
     BookVO selectByIdIncludeDeleted(Long id);
     int updateStateSold(Long id);
+    int updateStateSoldByIds(@Param("bookIds") List<Long> bookIds);
     List<Long> selectNormalBookIdsByBookCaseIds(@Param("bookCaseIds") List<Long> bookCaseIds);
     int updateStateNormalToRetrieve(List<Long>bookIds);
     int softDeleteBooks(@Param("bookIds") List<Long> bookIds);
     int countByIdsAndState(@Param("bookIds") List<Long> bookIds, @Param("state") String state);
     List<BookWithBookCaseVO> selectAllWithBookCase(@Param("state") String state);
+    Cursor<BookWithBookCaseVO> streamAllWithBookCase(@Param("state") String state);
     List<BookVO> selectByBookCaseId(Long bookCaseId);
-    List<CustomerBookDetailVO> selectForCustomerBrowse(@Param("search") String search, @Param("genreCode") String genreCode, @Param("locationCode") String locationCode, @Param("bookOwnerId") Long bookOwnerId);
-    CustomerBookDetailVO selectCustomerBookDetail(Long id);
+    List<BookVO> selectSearchableBooks();
 
 }
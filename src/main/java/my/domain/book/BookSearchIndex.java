@@ -0,0 +1,241 @@
+package my.domain.book;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 고객 도서 검색용 인메모리 역색인 (책 이름 / 출판사 / 저자).
+ *
+ * - 일반 검색어: 음절 bigram (1글자 검색어는 unigram) 교집합 후 부분문자열 검증
+ * - 초성 검색어(ㅎㄹㅍㅌ 등): 초성 변환 문자열에 대해 동일하게 처리
+ *
+ * 색인은 판매중(NORMAL) 도서의 후보 집합이며, 최종 상태 필터는 DB 조회에서 다시 적용된다.
+ * 그래서 제거가 늦게 반영된 항목은 무해하고, 추가 누락만 없으면 된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookSearchIndex {
+
+    /** Oracle IN 절 최대 개수. 이보다 많이 걸리는 검색어는 LIKE 조회로 처리한다. */
+    public static final int MAX_ID_HITS = 1000;
+
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final char HANGUL_BASE = 0xAC00;
+    private static final char HANGUL_LAST = 0xD7A3;
+    private static final int SYLLABLES_PER_CHOSUNG = 21 * 28;
+    private static final String CHOSUNG_KEY_PREFIX = "\u0001";
+
+    private final BookMapper bookMapper;
+
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    private final Map<Long, IndexedBook> documents = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long start = System.currentTimeMillis();
+        List<BookVO> books = bookMapper.selectSearchableBooks();
+        books.forEach(book -> add(book.getId(), book.getBookName(), book.getPublisherHouse(), book.getAuthor()));
+        ready = true;
+        log.info("도서 검색 색인 로드 완료 - {}권, {}ms", books.size(), System.currentTimeMillis() - start);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    public void add(Long bookId, String bookName, String publisherHouse, String author) {
+        IndexedBook book = new IndexedBook(normalize(bookName), normalize(publisherHouse), normalize(author));
+        IndexedBook previous = documents.put(bookId, book);
+        if (previous != null) {
+            previous.keys().forEach(key -> unlink(key, bookId));
+        }
+        book.keys().forEach(key -> link(key, bookId));
+    }
+
+    public void addAll(Collection<BookVO> books) {
+        books.forEach(book -> add(book.getId(), book.getBookName(), book.getPublisherHouse(), book.getAuthor()));
+    }
+
+    public void removeAll(Collection<Long> bookIds) {
+        for (Long bookId : bookIds) {
+            IndexedBook book = documents.remove(bookId);
+            if (book != null) {
+                book.keys().forEach(key -> unlink(key, bookId));
+            }
+        }
+    }
+
+    /**
+     * 검색어에 걸리는 도서 ID (최신 등록순).
+     * 색인이 아직 준비되지 않았거나 결과가 {@link #MAX_ID_HITS}를 넘으면 empty를 반환하며,
+     * 이때 호출자는 DB LIKE 조회로 대체해야 한다.
+     */
+    public Optional<List<Long>> search(String query) {
+        if (!ready) {
+            return Optional.empty();
+        }
+
+        String normalized = normalize(query);
+        boolean chosungQuery = isChosungOnly(normalized);
+        String prefix = chosungQuery ? CHOSUNG_KEY_PREFIX : "";
+
+        Set<Long> candidates = null;
+        for (String gram : grams(normalized)) {
+            Set<Long> posting = postings.get(prefix + gram);
+            if (posting == null) {
+                return Optional.of(List.of());
+            }
+            if (candidates == null) {
+                candidates = new HashSet<>(posting);
+            } else {
+                candidates.retainAll(posting);
+            }
+            if (candidates.isEmpty()) {
+                return Optional.of(List.of());
+            }
+        }
+        if (candidates == null) {
+            return Optional.of(List.of());
+        }
+
+        List<Long> hits = new ArrayList<>();
+        for (Long bookId : candidates) {
+            IndexedBook book = documents.get(bookId);
+            if (book != null && book.matches(normalized, chosungQuery)) {
+                hits.add(bookId);
+            }
+        }
+        if (hits.size() > MAX_ID_HITS) {
+            return Optional.empty();
+        }
+        hits.sort(Comparator.reverseOrder());
+        return Optional.of(hits);
+    }
+
+    private void link(String key, Long bookId) {
+        postings.compute(key, (k, ids) -> {
+            Set<Long> target = ids != null ? ids : ConcurrentHashMap.newKeySet();
+            target.add(bookId);
+            return target;
+        });
+    }
+
+    private void unlink(String key, Long bookId) {
+        postings.computeIfPresent(key, (k, ids) -> {
+            ids.remove(bookId);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    static String toChosung(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= HANGUL_BASE && c <= HANGUL_LAST) {
+                sb.append(CHOSUNG[(c - HANGUL_BASE) / SYLLABLES_PER_CHOSUNG]);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    static boolean isChosungOnly(String text) {
+        boolean hasChosung = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (!isChosung(c)) {
+                return false;
+            }
+            hasChosung = true;
+        }
+        return hasChosung;
+    }
+
+    private static boolean isChosung(char c) {
+        for (char chosung : CHOSUNG) {
+            if (chosung == c) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** 1글자면 unigram, 그 이상이면 bigram 목록 */
+    static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        if (text.length() == 1) {
+            grams.add(text);
+            return grams;
+        }
+        for (int i = 0; i + 1 < text.length(); i++) {
+            grams.add(text.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    private record IndexedBook(String bookName, String publisherHouse, String author) {
+
+        boolean matches(String query, boolean chosungQuery) {
+            if (chosungQuery) {
+                return toChosung(bookName).contains(query)
+                        || toChosung(publisherHouse).contains(query)
+                        || toChosung(author).contains(query);
+            }
+            return bookName.contains(query) || publisherHouse.contains(query) || author.contains(query);
+        }
+
+        /** 필드별 unigram + bigram, 그리고 초성 문자열의 unigram + bigram */
+        Set<String> keys() {
+            Set<String> keys = new HashSet<>();
+            for (String field : List.of(bookName, publisherHouse, author)) {
+                addFieldKeys(keys, field, "");
+                String chosung = toChosung(field);
+                if (chosung.chars().anyMatch(c -> isChosung((char) c))) {
+                    addFieldKeys(keys, chosung, CHOSUNG_KEY_PREFIX);
+                }
+            }
+            return keys;
+        }
+
+        private static void addFieldKeys(Set<String> keys, String field, String prefix) {
+            for (int i = 0; i < field.length(); i++) {
+                keys.add(prefix + field.charAt(i));
+                if (i + 1 < field.length()) {
+                    keys.add(prefix + field.substring(i, i + 2));
+                }
+            }
+        }
+    }
+}
@@ -2,6 +2,10 @@ package my.domain.book;
 
 import java.util.List;
 
+import org.apache.ibatis.cursor.Cursor;
+
+import my.common.response.CursorPage;
+
 public interface BookService {
 
     List<BookVO> findAll();
@@ -9,8 +13,10 @@ public interface BookService {
     List<BookVO> findSoldBookOfBookOwner(Long id);
     List<Long> retrieveBooks(List<Long> bookIds);
     List<BookWithBookCaseVO> findAllWithBookCase(String state);
+    Cursor<BookWithBookCaseVO> streamAllWithBookCase(String state);
     List<BookVO> findByBookCaseId(Long bookCaseId);
-    List<CustomerBookDetailVO> findForCustomerBrowse(String search, String genreCode, String locationCode, Long bookOwnerId);
+    CursorPage<CustomerBookDetailVO> findForCustomerBrowse(String search, String genreCode, String locationCode, Long bookOwnerId,
+                                                           String cursor, int size);
     CustomerBookDetailVO findCustomerBookDetail(Long id);
 
 }
@@ -1,9 +1,18 @@
 package my.domain.book;
 
 import java.util.List;
+import java.util.Map;
+
+import org.apache.ibatis.cursor.Cursor;
 
 import my.common.exception.ApplicationException;
 import my.common.exception.ErrorCode;
+import my.common.response.CursorPage;
+import my.common.util.TransactionUtil;
+import my.domain.catalog.BookCatalogMapper;
+import my.domain.catalog.BookDetailCache;
+import my.domain.catalog.BookFacetIndex;
+import my.domain.catalog.service.BookCatalogService;
 import my.enums.BookState;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,7 +23,15 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class BookServiceImpl implements BookService {
 
+    static final int DEFAULT_BROWSE_SIZE = 20;
+    static final int MAX_BROWSE_SIZE = 100;
+
     private final BookMapper bookMapper;
+    private final BookSearchIndex bookSearchIndex;
+    private final BookCatalogMapper bookCatalogMapper;
+    private final BookCatalogService bookCatalogService;
+    private final BookFacetIndex bookFacetIndex;
+    private final BookDetailCache bookDetailCache;
 
     @Override
     public List<BookVO> findAll() {
@@ -47,7 +64,9 @@ public class BookServiceImpl implements BookService {
         if (result != bookIds.size()) {
             throw new ApplicationException(ErrorCode.RETRIEVE_FAIL);
         }
+        bookCatalogService.remove(bookIds);
 
+        TransactionUtil.afterCommit(() -> bookSearchIndex.removeAll(bookIds));
         return bookIds;
     }
 
@@ -56,19 +75,51 @@ public class BookServiceImpl implements BookService {
         return bookMapper.selectAllWithBookCase(state);
     }
 
+    @Override
+    public Cursor<BookWithBookCaseVO> streamAllWithBookCase(String state) {
+        return bookMapper.streamAllWithBookCase(state);
+    }
+
     @Override
     public List<BookVO> findByBookCaseId(Long bookCaseId) {
         return bookMapper.selectByBookCaseId(bookCaseId);
     }
 
     @Override
-    public List<CustomerBookDetailVO> findForCustomerBrowse(String search, String genreCode, String locationCode, Long bookOwnerId) {
-        return bookMapper.selectForCustomerBrowse(search, genreCode, locationCode, bookOwnerId);
+    public CursorPage<CustomerBookDetailVO> findForCustomerBrowse(String search, String genreCode, String locationCode, Long bookOwnerId,
+                                                                  String cursor, int size) {
+        int pageSize = size < 1 ? DEFAULT_BROWSE_SIZE : Math.min(size, MAX_BROWSE_SIZE);
+        BookBrowseCursor after = (cursor == null || cursor.isBlank()) ? null : BookBrowseCursor.decode(cursor);
+
+        boolean searching = search != null && !search.isBlank();
+        List<Long> bookIds = null;
+        if (searching) {
+            bookIds = bookSearchIndex.search(search).orElse(null);
+            if (bookIds != null && bookIds.isEmpty()) {
+                return new CursorPage<>(List.of(), null);
+            }
+        }
+
+        // facet 건수는 첫 페이지에만 싣는다. 검색어를 색인으로 풀지 못한 경우는 생략
+        Map<String, Map<String, Integer>> facets = null;
+        if (after == null && (!searching || bookIds != null)) {
+            facets = bookFacetIndex.count(genreCode, locationCode, bookOwnerId, bookIds);
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<CustomerBookDetailVO> rows = bookCatalogMapper.selectForCustomerBrowse(
+                search, genreCode, locationCode, bookOwnerId, bookIds, after, pageSize + 1);
+        if (rows.size() <= pageSize) {
+            return new CursorPage<>(rows, null, facets);
+        }
+
+        List<CustomerBookDetailVO> page = rows.subList(0, pageSize);
+        return new CursorPage<>(page, BookBrowseCursor.after(page.get(pageSize - 1)).encode(), facets);
     }
 
     @Override
     public CustomerBookDetailVO findCustomerBookDetail(Long id) {
-        return bookMapper.selectCustomerBookDetail(id);
+        return bookDetailCache.get(id);
     }
 
 }
@@ -3,6 +3,7 @@ package my.domain.book_request.service;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
+import my.common.http.OutboundHttpClients;
 import my.domain.book_request.dto.BookSearchResultDto;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
@@ -26,9 +27,13 @@ public class NaverBookSearchService implements BookSearchService {
     @Value("${naver.api.client-secret:}")
     private String clientSecret;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
+    public NaverBookSearchService(OutboundHttpClients outboundHttpClients) {
+        this.restTemplate = outboundHttpClients.restTemplate("naver");
+    }
+
     @Override
     public List<BookSearchResultDto> search(String query) {
         if (clientId.isEmpty() || clientSecret.isEmpty()) {
@@ -18,5 +18,8 @@ public interface BookCaseOccupiedRecordMapper {
     List<BookCaseOccupiedRecordVO> selectOccupiedRecordByIds(@Param("occupiedRecordIds") List<Long> occupiedRecordIds);
     List<BookCaseVO> selectBookCasesByOwnerId(long id);
     List<BookCaseOccupiedRecordVO> selectAllActive();
+    List<BookCaseOccupiedRecordVO> selectActiveByBookOwnerIdRange(@Param("fromBookOwnerId") long fromBookOwnerId,
+                                                                  @Param("toBookOwnerId") long toBookOwnerId);
+    List<Long> selectActiveBookOwnerIds();
     int updateSuspendedAt(long id);
 }
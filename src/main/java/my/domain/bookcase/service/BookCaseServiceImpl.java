@@ -5,29 +5,43 @@ import static my.common.util.EntityUtil.requireNonNull;
 import lombok.RequiredArgsConstructor;
 import my.common.exception.ApplicationException;
 import my.common.exception.ErrorCode;
+import my.common.util.ListUtil;
+import my.common.util.TransactionUtil;
 import my.domain.book.BookMapper;
+import my.domain.book.BookSearchIndex;
 import my.domain.book.BookVO;
 import my.domain.bookcase.*;
 import my.domain.booksoldrecord.BookSoldRecordMapper;
+import my.domain.catalog.service.BookCatalogService;
 import my.domain.bookcasetype.BookCaseTypeMapper;
 import my.domain.deposit.DepositMapper;
 import my.domain.deposit.DepositVO;
 import my.domain.bookcasetype.BookCaseTypeVO;
 import my.domain.code.CommonCodeMapper;
+import my.domain.rental.RentalSettlementVO;
 import my.domain.rental.service.RentalSettlementService;
 import my.domain.user.UserMapper;
 import my.domain.user.UserVO;
+import my.enums.BookState;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class BookCaseServiceImpl implements BookCaseService {
 
+    /** 다중 행 INSERT 한 번에 넣는 도서 수 (행당 바인드 11개) */
+    static final int INSERT_CHUNK_SIZE = 500;
+
     private final BookCaseMapper bookCaseMapper;
     private final BookCaseTypeMapper bookCaseTypeMapper;
     private final BookCaseOccupiedRecordMapper occupiedRecordMapper;
@@ -37,6 +51,8 @@ public class BookCaseServiceImpl implements BookCaseService {
     private final RentalSettlementService rentalSettlementService;
     private final BookSoldRecordMapper bookSoldRecordMapper;
     private final DepositMapper depositMapper;
+    private final BookSearchIndex bookSearchIndex;
+    private final BookCatalogService bookCatalogService;
 
     @Override
     public long create(BookCaseCreateDto dto) {
@@ -87,6 +103,7 @@ public class BookCaseServiceImpl implements BookCaseService {
     @Transactional
     public List<BookCaseOccupiedRecordVO> occupy(Long bookOwnerId, List<Long> bookCaseIds, LocalDate expirationDate, int depositAmount) {
         List<BookCaseOccupiedRecordVO> results = new ArrayList<>();
+        List<RentalSettlementVO> settlements = new ArrayList<>();
 
         for (Long bookCaseId : bookCaseIds) {
             validateBookCaseExists(bookCaseId);
@@ -105,9 +122,12 @@ public class BookCaseServiceImpl implements BookCaseService {
             record.setExpirationDate(expirationDate);
 
             occupiedRecordMapper.insert(record);
-            rentalSettlementService.generateSettlements(record.getId(), bookOwnerId, LocalDate.now(), expirationDate, monthlyPrice);
+            settlements.addAll(rentalSettlementService.scheduleSettlements(
+                    record.getId(), bookOwnerId, LocalDate.now(), expirationDate, monthlyPrice));
             results.add(occupiedRecordMapper.selectById(record.getId()));
         }
+        // 모든 책장의 임대료 일정을 한 번에 저장
+        rentalSettlementService.saveSettlements(settlements);
 
         DepositVO deposit = depositMapper.selectByBookOwnerId(bookOwnerId);
         if (deposit == null) {
@@ -135,9 +155,22 @@ public class BookCaseServiceImpl implements BookCaseService {
         UserVO bookOwner = requireNonNull(findBookOwnerByNameAndPhone(bookRegisterDtos), ErrorCode.BOOK_OWNER_NOT_FOUND);
         validateOwnerOccupiesBookCase(bookCaseId, bookOwner.getId());
 
-        return bookRegisterDtos.stream()
-                .map(dto -> createBook(dto, bookOwner.getId(), bookCaseId))
-                .toList();
+        validateBookTypeCodes(bookRegisterDtos);
+
+        // ID를 한 번에 발급받아 다중 행 INSERT 후 IN 조회 한 번으로 다시 읽는다
+        List<Long> bookIds = bookMapper.selectNextIds(bookRegisterDtos.size());
+        List<BookVO> newBooks = new ArrayList<>(bookRegisterDtos.size());
+        for (int i = 0; i < bookRegisterDtos.size(); i++) {
+            BookVO bookVO = toBookVO(bookRegisterDtos.get(i), bookOwner.getId(), bookCaseId);
+            bookVO.setId(bookIds.get(i));
+            newBooks.add(bookVO);
+        }
+        insertBooks(newBooks);
+        List<BookVO> books = selectBooksInOrder(bookIds);
+
+        bookCatalogService.upsert(bookIds);
+        TransactionUtil.afterCommit(() -> bookSearchIndex.addAll(books));
+        return books;
     }
 
     private void validateBookCaseExists(Long bookCaseId) {
@@ -151,9 +184,7 @@ public class BookCaseServiceImpl implements BookCaseService {
         }
     }
 
-    private BookVO createBook(BookRegisterDto dto, Long bookOwnerId, Long bookCaseId) {
-        validateBookTypeCode(dto.getBookTypeCode());
-
+    private BookVO toBookVO(BookRegisterDto dto, Long bookOwnerId, Long bookCaseId) {
         BookVO bookVO = new BookVO();
         bookVO.setBookOwnerId(bookOwnerId);
         bookVO.setBookCaseId(bookCaseId);
@@ -165,19 +196,38 @@ public class BookCaseServiceImpl implements BookCaseService {
         bookVO.setIsbn(dto.getIsbn());
         bookVO.setAuthor(dto.getAuthor());
         bookVO.setThumbnailUrl(dto.getThumbnailUrl());
+        return bookVO;
+    }
 
-        int result = bookMapper.insert(bookVO);
-        if (result != 1) {
-            throw new ApplicationException(ErrorCode.BOOK_INSERT_FAIL);
+    private void insertBooks(List<BookVO> books) {
+        for (List<BookVO> chunk : ListUtil.partition(books, INSERT_CHUNK_SIZE)) {
+            if (bookMapper.insertAll(chunk) != chunk.size()) {
+                throw new ApplicationException(ErrorCode.BOOK_INSERT_FAIL);
+            }
         }
+    }
 
-        return bookMapper.selectById(bookVO.getId());
+    private List<BookVO> selectBooksInOrder(List<Long> bookIds) {
+        List<BookVO> selected = new ArrayList<>(bookIds.size());
+        for (List<Long> chunk : ListUtil.partition(bookIds, ListUtil.IN_CLAUSE_LIMIT)) {
+            selected.addAll(bookMapper.selectByIds(chunk));
+        }
+        Map<Long, BookVO> byId = selected.stream().collect(Collectors.toMap(BookVO::getId, Function.identity()));
+        return bookIds.stream().map(byId::get).toList();
     }
 
-    private void validateBookTypeCode(String bookTypeCode) {
-        requireNonNull(
-                commonCodeMapper.selectByGroupCodeAndCode("BOOK_TYPE", bookTypeCode),
-                ErrorCode.INVALID_BOOK_TYPE);
+    /** 요청에 쓰인 도서 유형 코드를 한 번에 검증 */
+    private void validateBookTypeCodes(List<BookRegisterDto> bookRegisterDtos) {
+        Set<String> codes = new HashSet<>();
+        for (BookRegisterDto dto : bookRegisterDtos) {
+            if (dto.getBookTypeCode() == null) {
+                throw new ApplicationException(ErrorCode.INVALID_BOOK_TYPE);
+            }
+            codes.add(dto.getBookTypeCode());
+        }
+        if (commonCodeMapper.selectByGroupCodeAndCodes("BOOK_TYPE", codes).size() != codes.size()) {
+            throw new ApplicationException(ErrorCode.INVALID_BOOK_TYPE);
+        }
     }
 
     private UserVO findBookOwnerByNameAndPhone(List<BookRegisterDto> bookRegisterDtos) {
@@ -220,6 +270,8 @@ public class BookCaseServiceImpl implements BookCaseService {
         List<Long> bookIds = bookMapper.selectNormalBookIdsByBookCaseIds(bookCaseIds);
         if (!bookIds.isEmpty()) {
             bookMapper.updateStateNormalToRetrieve(bookIds);
+            bookCatalogService.changeState(bookIds, BookState.SHOULD_BE_RETRIEVED);
+            TransactionUtil.afterCommit(() -> bookSearchIndex.removeAll(bookIds));
         }
 
         // 퇴거 후 활성 점유가 없는 BookOwner의 보증금 반환 처리
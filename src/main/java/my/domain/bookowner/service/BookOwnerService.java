@@ -4,6 +4,7 @@ import my.domain.book.BookVO;
 import my.domain.bookcase.BookCaseVO;
 import my.domain.bookowner.vo.BookOwnerVO;
 import my.domain.booksoldrecord.vo.BookSoldRecordVO;
+import my.domain.settlement.vo.BookOwnerBalanceVO;
 import my.domain.settlement.vo.SettlementVO;
 
 import java.util.List;
@@ -17,5 +18,6 @@ public interface BookOwnerService {
     List<SettlementVO> findAllMySettlements(Long bookOwnerId);
     List<SettlementVO> findMySettled(Long bookOwnerId);
     List<BookSoldRecordVO> findMyUnSettled(Long bookOwnerId);
+    BookOwnerBalanceVO findMyUnsettledBalance(Long bookOwnerId);
     List<BookCaseVO> findMyBookCases(Long ownerId);
 }
@@ -10,6 +10,7 @@ import my.domain.bookowner.BookOwnerMapper;
 import my.domain.bookowner.vo.BookOwnerVO;
 import my.domain.booksoldrecord.vo.BookSoldRecordVO;
 import my.domain.settlement.service.SettlementService;
+import my.domain.settlement.vo.BookOwnerBalanceVO;
 import my.domain.settlement.vo.SettlementVO;
 import org.springframework.stereotype.Service;
 
@@ -59,6 +60,11 @@ public class BookOwnerServiceImpl implements BookOwnerService{
         return settlementService.findUnSettled(bookOwnerId);
     }
 
+    @Override
+    public BookOwnerBalanceVO findMyUnsettledBalance(Long bookOwnerId) {
+        return settlementService.findUnsettledBalance(bookOwnerId);
+    }
+
     @Override
     public List<BookCaseVO> findMyBookCases(Long ownerId) {
         return occupiedRecordMapper.selectBookCasesByOwnerId(ownerId);
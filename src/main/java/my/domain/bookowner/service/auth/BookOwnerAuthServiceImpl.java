@@ -3,6 +3,7 @@ package my.domain.bookowner.service.auth;
 import lombok.RequiredArgsConstructor;
 import my.common.exception.ApplicationException;
 import my.common.exception.ErrorCode;
+import my.common.security.PasswordHasher;
 import my.domain.address.AddressMapper;
 import my.domain.address.vo.AddressVO;
 import my.domain.bankaccount.service.auth.BankAccountAuthService;
@@ -13,7 +14,6 @@ import my.domain.bookowner.vo.BookOwnerVO;
 import my.domain.user.UserVO;
 import my.domain.user.service.auth.UserAuthService;
 import my.enums.Role;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,7 +24,7 @@ public class BookOwnerAuthServiceImpl implements BookOwnerAuthService {
     private final UserAuthService userAuthService;
     private final BankAccountAuthService bankAccountAuthService;
     private final BookOwnerMapper bookOwnerMapper;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final AddressMapper addressMapper;
 
     @Override
@@ -42,7 +42,7 @@ public class BookOwnerAuthServiceImpl implements BookOwnerAuthService {
                 .phone(dto.getPhone())
                 .email(dto.getEmail())
                 .residentNumber(dto.getResidentNumber())
-                .password(passwordEncoder.encode(dto.getPassword()))
+                .password(passwordHasher.encode(dto.getPassword()))
                 .build();
         userAuthService.save(userVO);
         Long userId = userVO.getId();
@@ -11,6 +11,7 @@ import my.domain.bookowner.BookOwnerMapper;
 import my.domain.bookowner_profile.BookOwnerProfileMapper;
 import my.domain.bookowner_profile.BookOwnerProfileVO;
 import my.domain.bookowner_profile.dto.BookOwnerProfileRequestDto;
+import my.domain.catalog.service.BookCatalogService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +21,7 @@ public class BookOwnerProfileServiceImpl implements BookOwnerProfileService {
 
     private final BookOwnerProfileMapper profileMapper;
     private final BookOwnerMapper bookOwnerMapper;
+    private final BookCatalogService bookCatalogService;
 
     @Override
     @Transactional
@@ -45,6 +47,7 @@ public class BookOwnerProfileServiceImpl implements BookOwnerProfileService {
         if (result != 1) {
             throw new ApplicationException(ErrorCode.PROFILE_INSERT_FAIL);
         }
+        bookCatalogService.refreshOwner(bookOwnerId);
 
         return profileMapper.selectByBookOwnerId(bookOwnerId);
     }
@@ -70,6 +73,7 @@ public class BookOwnerProfileServiceImpl implements BookOwnerProfileService {
         existing.setFavoriteGenres(dto.getFavoriteGenres());
 
         profileMapper.update(existing);
+        bookCatalogService.refreshOwner(bookOwnerId);
 
         return profileMapper.selectByBookOwnerId(bookOwnerId);
     }
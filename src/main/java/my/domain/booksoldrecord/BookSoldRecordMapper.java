@@ -5,6 +5,7 @@ import java.util.Map;
 
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 import my.domain.booksoldrecord.vo.BookSoldRecordVO;
 
@@ -17,7 +18,9 @@ public interface BookSoldRecordMapper {
     List<BookSoldRecordVO> selectDetailByCustomerId(Long customerId);
     List<BookSoldRecordVO> selectBySettlementId(Long settlementId);
     int insert(BookSoldRecordVO bookSoldRecordVO);
+    int insertAll(@Param("records") List<BookSoldRecordVO> records);
     List<BookSoldRecordVO> selectUnsettled();
+    Cursor<BookSoldRecordVO> streamUnsettled();
     List<BookSoldRecordVO> selectUnsettledByBookOwnerId(Long bookOwnerId);
     int countByIdsAndBookOwnerId(@Param("ids") List<Long> ids, @Param("bookOwnerId") Long bookOwnerId);
     int countAlreadySettled(@Param("ids") List<Long> ids);
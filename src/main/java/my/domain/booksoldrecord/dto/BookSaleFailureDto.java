@@ -0,0 +1,13 @@
+package my.domain.booksoldrecord.dto;
+
+import my.common.exception.ErrorCode;
+
+/**
+ * 판매 요청 중 처리할 수 없는 항목. 판매 실패 응답의 data로 내려간다.
+ */
+public record BookSaleFailureDto(Long bookId, String code, String message) {
+
+    public static BookSaleFailureDto of(Long bookId, ErrorCode errorCode) {
+        return new BookSaleFailureDto(bookId, errorCode.name(), errorCode.getMessage());
+    }
+}
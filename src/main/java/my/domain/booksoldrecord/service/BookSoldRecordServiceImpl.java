@@ -5,29 +5,46 @@ import static my.common.util.EntityUtil.requireNonNull;
 import lombok.RequiredArgsConstructor;
 import my.common.exception.ApplicationException;
 import my.common.exception.ErrorCode;
+import my.common.util.ListUtil;
+import my.common.util.TransactionUtil;
 import my.domain.book.BookMapper;
+import my.domain.book.BookSearchIndex;
 import my.domain.book.BookVO;
 import my.domain.booksoldrecord.BookSoldRecordMapper;
+import my.domain.booksoldrecord.dto.BookSaleFailureDto;
 import my.domain.booksoldrecord.dto.BuyBookRequestDto;
 import my.domain.booksoldrecord.vo.BookSoldRecordVO;
+import my.domain.catalog.service.BookCatalogService;
 import my.domain.code.CommonCodeMapper;
+import my.domain.settlement.BookOwnerBalanceLedger;
 import my.domain.settlement_ratio.service.SettlementRatioService;
 import my.domain.settlement_ratio.vo.SettlementRatioVO;
+import my.enums.BookState;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 
 @Service
 @RequiredArgsConstructor
 public class BookSoldRecordServiceImpl implements BookSoldRecordService {
 
+    /** 다중 행 INSERT 한 번에 넣는 판매 기록 수 */
+    static final int INSERT_CHUNK_SIZE = 500;
+
     private final BookMapper bookMapper;
     private final BookSoldRecordMapper bookSoldRecordMapper;
     private final SettlementRatioService settlementRatioService;
     private final CommonCodeMapper commonCodeMapper;
+    private final BookSearchIndex bookSearchIndex;
+    private final BookCatalogService bookCatalogService;
+    private final BookOwnerBalanceLedger bookOwnerBalanceLedger;
 
 
 
@@ -36,20 +53,56 @@ public class BookSoldRecordServiceImpl implements BookSoldRecordService {
     @Transactional
     public List<BookSoldRecordVO> sellBooks(List<BuyBookRequestDto> buyBookRequestDtos) {
 
-        List<BookSoldRecordVO> result = new ArrayList<>();
-
         if (buyBookRequestDtos == null || buyBookRequestDtos.isEmpty()) {
             throw new ApplicationException(ErrorCode.EMPTY_BOOK_SALE_REQUEST);
         }
 
-        for (BuyBookRequestDto buyBookRequestDto : buyBookRequestDtos) {
-            Long bookId = buyBookRequestDto.getBookId();
-            BookVO bookVO = requireNonNull(bookMapper.selectById(bookId), ErrorCode.BOOK_NOT_FOUND);
+        // 요청 전체에 공통인 값은 한 번만 조회
+        validateBuyTypes(buyBookRequestDtos);
+        SettlementRatioVO currentRatio = requireNonNull(settlementRatioService.findCurrentRatio(), ErrorCode.SETTLEMENT_RATIO_NOT_FOUND);
 
-            BookSoldRecordVO soldRecord = createSoldRecord(bookVO, buyBookRequestDto);
-            result.add(soldRecord);
+        List<Long> bookIds = buyBookRequestDtos.stream().map(BuyBookRequestDto::getBookId).toList();
+        Map<Long, BookVO> books = selectBooksForUpdate(bookIds);
+
+        // 항목별 실패를 모두 모아서 한 번에 알려준다. 한 건이라도 실패하면 전체 취소
+        List<BookSaleFailureDto> failures = new ArrayList<>();
+        ErrorCode firstError = null;
+        Set<Long> seen = new HashSet<>();
+        for (Long bookId : bookIds) {
+            BookVO book = books.get(bookId);
+            ErrorCode error = null;
+            if (book == null) {
+                error = ErrorCode.BOOK_NOT_FOUND;
+            } else if (!BookState.NORMAL.name().equals(book.getState()) || !seen.add(bookId)) {
+                error = ErrorCode.BOOK_ALREADY_SOLD;
+            }
+            if (error != null) {
+                failures.add(BookSaleFailureDto.of(bookId, error));
+                firstError = firstError == null ? error : firstError;
+            }
         }
+        if (firstError != null) {
+            throw new ApplicationException(firstError, failures);
+        }
+
+        List<BookSoldRecordVO> result = buyBookRequestDtos.stream()
+                .map(dto -> toSoldRecord(books.get(dto.getBookId()), dto, currentRatio))
+                .toList();
 
+        for (List<Long> chunk : ListUtil.partition(bookIds, ListUtil.IN_CLAUSE_LIMIT)) {
+            if (bookMapper.updateStateSoldByIds(chunk) != chunk.size()) {
+                throw new ApplicationException(ErrorCode.BOOK_ALREADY_SOLD);
+            }
+        }
+        for (List<BookSoldRecordVO> chunk : ListUtil.partition(result, INSERT_CHUNK_SIZE)) {
+            if (bookSoldRecordMapper.insertAll(chunk) != chunk.size()) {
+                throw new ApplicationException(ErrorCode.BOOK_SALE_RECORD_INSERT_FAIL);
+            }
+        }
+        bookOwnerBalanceLedger.addSales(bookIds);
+
+        bookCatalogService.changeState(bookIds, BookState.SOLD);
+        TransactionUtil.afterCommit(() -> bookSearchIndex.removeAll(bookIds));
         return result;
 
     }
@@ -59,11 +112,29 @@ public class BookSoldRecordServiceImpl implements BookSoldRecordService {
         return bookSoldRecordMapper.selectDetailByCustomerId(customerId);
     }
 
-    private BookSoldRecordVO createSoldRecord(BookVO bookVO, BuyBookRequestDto dto) {
-        requireNonNull(
-                commonCodeMapper.selectByGroupCodeAndCode("BUY_TYPE", dto.getBuyTypeCommonCode()),
-                ErrorCode.INVALID_BUY_TYPE);
+    private void validateBuyTypes(List<BuyBookRequestDto> buyBookRequestDtos) {
+        Set<String> buyTypes = new HashSet<>();
+        for (BuyBookRequestDto dto : buyBookRequestDtos) {
+            if (dto.getBuyTypeCommonCode() == null) {
+                throw new ApplicationException(ErrorCode.INVALID_BUY_TYPE);
+            }
+            buyTypes.add(dto.getBuyTypeCommonCode());
+        }
+        if (commonCodeMapper.selectByGroupCodeAndCodes("BUY_TYPE", buyTypes).size() != buyTypes.size()) {
+            throw new ApplicationException(ErrorCode.INVALID_BUY_TYPE);
+        }
+    }
+
+    private Map<Long, BookVO> selectBooksForUpdate(List<Long> bookIds) {
+        Map<Long, BookVO> books = new HashMap<>();
+        List<Long> distinctIds = bookIds.stream().distinct().toList();
+        for (List<Long> chunk : ListUtil.partition(distinctIds, ListUtil.IN_CLAUSE_LIMIT)) {
+            bookMapper.selectByIdsForUpdate(chunk).forEach(book -> books.put(book.getId(), book));
+        }
+        return books;
+    }
 
+    private BookSoldRecordVO toSoldRecord(BookVO bookVO, BuyBookRequestDto dto, SettlementRatioVO currentRatio) {
         BookSoldRecordVO bookSoldRecordVO = new BookSoldRecordVO();
         bookSoldRecordVO.setId(bookVO.getId());
         bookSoldRecordVO.setSoldPrice(bookVO.getPrice());
@@ -71,21 +142,7 @@ public class BookSoldRecordServiceImpl implements BookSoldRecordService {
         bookSoldRecordVO.setGroupCodeId("BUY_TYPE");
         bookSoldRecordVO.setCommonCodeId(dto.getBuyTypeCommonCode());
         bookSoldRecordVO.setBookOwnerSettlementId(null);
-        SettlementRatioVO currentRatio = requireNonNull(settlementRatioService.findCurrentRatio(), ErrorCode.SETTLEMENT_RATIO_NOT_FOUND);
         bookSoldRecordVO.setRatioId(currentRatio.getId());
-
-        int result = bookMapper.updateStateSold(bookVO.getId());
-
-        if (result != 1) {
-            throw new ApplicationException(ErrorCode.BOOK_ALREADY_SOLD);
-        }
-
-        result = bookSoldRecordMapper.insert(bookSoldRecordVO);
-
-        if (result != 1) {
-            throw new ApplicationException(ErrorCode.BOOK_SALE_RECORD_INSERT_FAIL);
-        }
-
         return bookSoldRecordVO;
     }
 
@@ -0,0 +1,29 @@
+package my.domain.catalog;
+
+import java.util.List;
+
+import my.domain.book.BookBrowseCursor;
+import my.domain.book.CustomerBookDetailVO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface BookCatalogMapper {
+
+    // 조회 (단일 테이블)
+    List<CustomerBookDetailVO> selectForCustomerBrowse(@Param("search") String search, @Param("genreCode") String genreCode, @Param("locationCode") String locationCode, @Param("bookOwnerId") Long bookOwnerId, @Param("bookIds") List<Long> bookIds,
+                                                       @Param("cursor") BookBrowseCursor cursor, @Param("limit") int limit);
+    CustomerBookDetailVO selectById(Long bookId);
+    List<CustomerBookDetailVO> selectFacetRows(@Param("bookIds") List<Long> bookIds);
+
+    // 갱신
+    int mergeByBookIds(@Param("bookIds") List<Long> bookIds);
+    int updateState(@Param("bookIds") List<Long> bookIds, @Param("state") String state);
+    int deleteByBookIds(@Param("bookIds") List<Long> bookIds);
+    int updateOwner(Long bookOwnerId);
+    int deleteByBookOwnerId(Long bookOwnerId);
+
+    // 재구축
+    int deleteAll();
+    int insertAll();
+}
@@ -0,0 +1,56 @@
+package my.domain.catalog;
+
+import java.util.Collection;
+import java.util.Objects;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import my.domain.book.CustomerBookDetailVO;
+
+/**
+ * 고객 도서 상세 캐시 (도서 ID → CustomerBookDetailVO).
+ *
+ * 도서는 상태가 몇 번밖에 바뀌지 않으므로 크기 제한(W-TinyLFU)만 두고 만료 시간은 두지 않는다.
+ * 대신 BookCatalogService가 카탈로그를 바꿀 때마다 커밋 후 해당 도서를 무효화한다.
+ * hit / miss / eviction 은 cache.* 메트릭(cache=bookDetail)으로 노출된다.
+ */
+@Component
+public class BookDetailCache {
+
+    static final String CACHE_NAME = "bookDetail";
+    static final long MAXIMUM_SIZE = 10_000;
+
+    private final BookCatalogMapper bookCatalogMapper;
+    private final Cache<Long, CustomerBookDetailVO> cache;
+
+    public BookDetailCache(BookCatalogMapper bookCatalogMapper, MeterRegistry meterRegistry) {
+        this.bookCatalogMapper = bookCatalogMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /** 없는 도서(null)는 캐시하지 않는다 */
+    public CustomerBookDetailVO get(Long bookId) {
+        return cache.get(bookId, bookCatalogMapper::selectById);
+    }
+
+    public void invalidateAll(Collection<Long> bookIds) {
+        cache.invalidateAll(bookIds);
+    }
+
+    public void invalidateBookOwner(Long bookOwnerId) {
+        cache.asMap().values().removeIf(book -> Objects.equals(book.getBookOwnerId(), bookOwnerId));
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+}
@@ -0,0 +1,191 @@
+package my.domain.catalog;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import my.domain.book.CustomerBookDetailVO;
+
+/**
+ * 판매중 도서의 facet(장르 / 위치 / 책 주인)별 비트맵.
+ *
+ * 선택된 필터를 비트맵 교집합으로 적용한 뒤 facet 값마다 건수를 센다.
+ * 각 facet의 건수에는 자기 자신을 제외한 나머지 필터만 적용하므로
+ * 장르를 하나 고른 상태에서도 다른 장르의 건수를 보여줄 수 있다.
+ *
+ * 도서 ID는 int 범위로 저장한다 (BOOK.ID, BOOK_SEQ).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookFacetIndex {
+
+    public static final String GENRE = "genre";
+    public static final String LOCATION = "location";
+    public static final String BOOK_OWNER = "bookOwner";
+
+    private final BookCatalogMapper bookCatalogMapper;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final RoaringBitmap available = new RoaringBitmap();
+    private final Map<String, RoaringBitmap> byGenre = new HashMap<>();
+    private final Map<String, RoaringBitmap> byLocation = new HashMap<>();
+    private final Map<Long, RoaringBitmap> byBookOwner = new HashMap<>();
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long start = System.currentTimeMillis();
+        List<CustomerBookDetailVO> rows = bookCatalogMapper.selectFacetRows(null);
+
+        lock.writeLock().lock();
+        try {
+            available.clear();
+            byGenre.clear();
+            byLocation.clear();
+            byBookOwner.clear();
+            rows.forEach(this::addUnlocked);
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("도서 facet 비트맵 로드 완료 - {}권, {}ms", rows.size(), System.currentTimeMillis() - start);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void addAll(Collection<CustomerBookDetailVO> books) {
+        lock.writeLock().lock();
+        try {
+            books.forEach(this::addUnlocked);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeAll(Collection<Long> bookIds) {
+        RoaringBitmap removed = new RoaringBitmap();
+        bookIds.forEach(id -> removed.add(Math.toIntExact(id)));
+
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(removed);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeBookOwner(Long bookOwnerId) {
+        lock.writeLock().lock();
+        try {
+            RoaringBitmap owned = byBookOwner.get(bookOwnerId);
+            if (owned != null) {
+                removeUnlocked(owned.clone());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * facet별 건수. 색인이 준비되지 않았으면 null.
+     *
+     * @param bookIds 검색어로 좁혀진 후보 ID (null이면 전체)
+     */
+    public Map<String, Map<String, Integer>> count(String genreCode, String locationCode, Long bookOwnerId, List<Long> bookIds) {
+        if (!ready) {
+            return null;
+        }
+
+        lock.readLock().lock();
+        try {
+            RoaringBitmap base = available.clone();
+            if (bookIds != null) {
+                RoaringBitmap candidates = new RoaringBitmap();
+                bookIds.forEach(id -> candidates.add(Math.toIntExact(id)));
+                base.and(candidates);
+            }
+
+            RoaringBitmap genre = filter(byGenre, genreCode);
+            RoaringBitmap location = filter(byLocation, locationCode);
+            RoaringBitmap bookOwner = filter(byBookOwner, bookOwnerId);
+
+            Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+            facets.put(GENRE, countEach(byGenre, intersect(base, location, bookOwner), Function.identity()));
+            facets.put(LOCATION, countEach(byLocation, intersect(base, genre, bookOwner), Function.identity()));
+            facets.put(BOOK_OWNER, countEach(byBookOwner, intersect(base, genre, location), String::valueOf));
+            return facets;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addUnlocked(CustomerBookDetailVO book) {
+        int id = Math.toIntExact(book.getId());
+        available.add(id);
+        if (book.getGenreCode() != null) {
+            byGenre.computeIfAbsent(book.getGenreCode(), k -> new RoaringBitmap()).add(id);
+        }
+        if (book.getLocationCode() != null) {
+            byLocation.computeIfAbsent(book.getLocationCode(), k -> new RoaringBitmap()).add(id);
+        }
+        byBookOwner.computeIfAbsent(book.getBookOwnerId(), k -> new RoaringBitmap()).add(id);
+    }
+
+    private void removeUnlocked(RoaringBitmap removed) {
+        available.andNot(removed);
+        removeFrom(byGenre, removed);
+        removeFrom(byLocation, removed);
+        removeFrom(byBookOwner, removed);
+    }
+
+    private static <K> void removeFrom(Map<K, RoaringBitmap> bitmaps, RoaringBitmap removed) {
+        bitmaps.values().forEach(bitmap -> bitmap.andNot(removed));
+        bitmaps.values().removeIf(RoaringBitmap::isEmpty);
+    }
+
+    /** 필터 미지정이면 null, 없는 값이면 빈 비트맵 */
+    private static <K> RoaringBitmap filter(Map<K, RoaringBitmap> bitmaps, K value) {
+        if (value == null || "".equals(value)) {
+            return null;
+        }
+        return bitmaps.getOrDefault(value, new RoaringBitmap());
+    }
+
+    private static RoaringBitmap intersect(RoaringBitmap base, RoaringBitmap... filters) {
+        RoaringBitmap result = base;
+        for (RoaringBitmap filter : filters) {
+            if (filter != null) {
+                result = RoaringBitmap.and(result, filter);
+            }
+        }
+        return result;
+    }
+
+    /** 0건은 제외하고 건수 내림차순 */
+    private static <K> Map<String, Integer> countEach(Map<K, RoaringBitmap> bitmaps, RoaringBitmap scope,
+                                                      Function<K, String> keyName) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        bitmaps.entrySet().stream()
+                .map(e -> Map.entry(keyName.apply(e.getKey()), RoaringBitmap.andCardinality(e.getValue(), scope)))
+                .filter(e -> e.getValue() > 0)
+                .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder()))
+                .forEach(e -> counts.put(e.getKey(), e.getValue()));
+        return counts;
+    }
+}
@@ -0,0 +1,57 @@
+package my.domain.catalog;
+
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 고객 목록 버전 (sql/23_catalog_version.sql). 도서 목록과 서점 목록은 각자의 시퀀스를 쓴다.
+ *
+ * 버전은 DB 시퀀스라 모든 인스턴스가 같은 ETag를 내고, 한 인스턴스의 쓰기가 다른 인스턴스의 304도 끝낸다.
+ * 쓰기끼리 잠금을 나눠 갖지 않도록 행 대신 시퀀스를 쓰고, 커밋 후에 올린다(TransactionUtil.afterCommit).
+ * 조회 쪽은 반드시 DB 조회 전에 버전을 읽어야 한다. 조회 후에 읽으면 이전 데이터에
+ * 새 버전이 붙을 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogVersion {
+
+    public enum Scope {
+        BOOKS("books", "CATALOG_BOOKS_VERSION_SEQ"),
+        BOOKSTORES("bookstores", "CATALOG_BOOKSTORES_VERSION_SEQ");
+
+        private final String tag;
+        private final String sequenceName;
+
+        Scope(String tag, String sequenceName) {
+            this.tag = tag;
+            this.sequenceName = sequenceName;
+        }
+    }
+
+    private final CatalogVersionMapper catalogVersionMapper;
+
+    public long current(Scope scope) {
+        return catalogVersionMapper.selectVersion(scope.sequenceName);
+    }
+
+    /** 도서 카탈로그 변경: 도서 목록과, 책 수 / 닉네임이 보이는 서점 목록 */
+    public void bumpCatalog() {
+        bump(Scope.BOOKS);
+        bump(Scope.BOOKSTORES);
+    }
+
+    /** 팔로우 변경: 팔로워 수가 보이는 서점 목록만 */
+    public void bumpBookstores() {
+        bump(Scope.BOOKSTORES);
+    }
+
+    private void bump(Scope scope) {
+        catalogVersionMapper.nextVersion(scope.sequenceName);
+    }
+
+    /** 강한 ETag. 목록마다 다른 접두어를 붙인다 */
+    public String etag(Scope scope) {
+        return "\"" + scope.tag + "-" + current(scope) + "\"";
+    }
+}
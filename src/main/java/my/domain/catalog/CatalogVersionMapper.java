@@ -0,0 +1,12 @@
+package my.domain.catalog;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface CatalogVersionMapper {
+
+    long selectVersion(@Param("sequenceName") String sequenceName);
+
+    long nextVersion(@Param("sequenceName") String sequenceName);
+}
@@ -0,0 +1,27 @@
+package my.domain.catalog.service;
+
+import java.util.List;
+
+import my.enums.BookState;
+
+/**
+ * 고객 조회용 도서 카탈로그(BOOK_CATALOG) 갱신.
+ * 원본 테이블을 변경하는 서비스가 같은 트랜잭션 안에서 호출한다.
+ */
+public interface BookCatalogService {
+
+    /** 원본 조인 결과로 카탈로그 행을 추가하거나 덮어쓴다 */
+    void upsert(List<Long> bookIds);
+
+    void changeState(List<Long> bookIds, BookState state);
+
+    void remove(List<Long> bookIds);
+
+    /** 책 주인 이름 / 닉네임 변경 반영 */
+    void refreshOwner(Long bookOwnerId);
+
+    void removeOwner(Long bookOwnerId);
+
+    /** 카탈로그 전체를 원본 테이블로부터 다시 만든다 (복구용) */
+    int rebuild();
+}
@@ -0,0 +1,103 @@
+package my.domain.catalog.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import my.common.util.ListUtil;
+import my.common.util.TransactionUtil;
+import my.domain.book.CustomerBookDetailVO;
+import my.domain.catalog.BookCatalogMapper;
+import my.domain.catalog.BookDetailCache;
+import my.domain.catalog.CatalogVersion;
+import my.domain.catalog.BookFacetIndex;
+import my.enums.BookState;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookCatalogServiceImpl implements BookCatalogService {
+
+    private final BookCatalogMapper bookCatalogMapper;
+    private final BookFacetIndex bookFacetIndex;
+    private final BookDetailCache bookDetailCache;
+    private final CatalogVersion catalogVersion;
+
+    @Override
+    public void upsert(List<Long> bookIds) {
+        List<CustomerBookDetailVO> facetRows = new ArrayList<>();
+        inChunks(bookIds, chunk -> {
+            bookCatalogMapper.mergeByBookIds(chunk);
+            facetRows.addAll(bookCatalogMapper.selectFacetRows(chunk));
+        });
+        TransactionUtil.afterCommit(() -> {
+            bookFacetIndex.addAll(facetRows);
+            bookDetailCache.invalidateAll(bookIds);
+            catalogVersion.bumpCatalog();
+        });
+    }
+
+    @Override
+    public void changeState(List<Long> bookIds, BookState state) {
+        inChunks(bookIds, chunk -> bookCatalogMapper.updateState(chunk, state.name()));
+        TransactionUtil.afterCommit(() -> {
+            if (state != BookState.NORMAL) {
+                bookFacetIndex.removeAll(bookIds);
+            }
+            bookDetailCache.invalidateAll(bookIds);
+            catalogVersion.bumpCatalog();
+        });
+    }
+
+    @Override
+    public void remove(List<Long> bookIds) {
+        inChunks(bookIds, bookCatalogMapper::deleteByBookIds);
+        TransactionUtil.afterCommit(() -> {
+            bookFacetIndex.removeAll(bookIds);
+            bookDetailCache.invalidateAll(bookIds);
+            catalogVersion.bumpCatalog();
+        });
+    }
+
+    @Override
+    public void refreshOwner(Long bookOwnerId) {
+        bookCatalogMapper.updateOwner(bookOwnerId);
+        TransactionUtil.afterCommit(() -> {
+            bookDetailCache.invalidateBookOwner(bookOwnerId);
+            catalogVersion.bumpCatalog();
+        });
+    }
+
+    @Override
+    public void removeOwner(Long bookOwnerId) {
+        bookCatalogMapper.deleteByBookOwnerId(bookOwnerId);
+        TransactionUtil.afterCommit(() -> {
+            bookFacetIndex.removeBookOwner(bookOwnerId);
+            bookDetailCache.invalidateBookOwner(bookOwnerId);
+            catalogVersion.bumpCatalog();
+        });
+    }
+
+    @Override
+    @Transactional
+    public int rebuild() {
+        long start = System.currentTimeMillis();
+        bookCatalogMapper.deleteAll();
+        int count = bookCatalogMapper.insertAll();
+        TransactionUtil.afterCommit(() -> {
+            bookFacetIndex.warmUp();
+            bookDetailCache.clear();
+            catalogVersion.bumpCatalog();
+        });
+        log.info("도서 카탈로그 재구축 완료 - {}건, {}ms", count, System.currentTimeMillis() - start);
+        return count;
+    }
+
+    private void inChunks(List<Long> bookIds, Consumer<List<Long>> action) {
+        ListUtil.partition(bookIds, ListUtil.IN_CLAUSE_LIMIT).forEach(action);
+    }
+}
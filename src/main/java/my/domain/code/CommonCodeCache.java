@@ -0,0 +1,65 @@
+package my.domain.code;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import my.domain.code.service.CommonCodeService;
+
+/**
+ * 공통 코드 그룹 캐시 (그룹 코드 → 코드 목록 + ETag).
+ *
+ * 공통 코드는 배포 때 SQL로만 바뀌므로 cache-seconds 동안 DB를 다시 읽지 않는다. ETag는 코드 내용의 해시라
+ * 인스턴스, 재기동과 무관하게 같은 내용이면 같고, 바뀐 코드는 캐시가 만료되면 새 ETag로 나간다.
+ * hit / miss 는 cache.* 메트릭(cache=commonCode)으로 노출된다.
+ */
+@Component
+public class CommonCodeCache {
+
+    static final String CACHE_NAME = "commonCode";
+    static final long MAXIMUM_SIZE = 1_000;
+
+    public record CodeGroup(List<CommonCodeVO> codes, String etag) {
+    }
+
+    private final CommonCodeService commonCodeService;
+    private final Cache<String, CodeGroup> cache;
+
+    public CommonCodeCache(CommonCodeService commonCodeService,
+                           MeterRegistry meterRegistry,
+                           @Value("${common-code.cache-seconds:300}") long cacheSeconds) {
+        this.commonCodeService = commonCodeService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .expireAfterWrite(Duration.ofSeconds(cacheSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public CodeGroup get(String groupCode) {
+        return cache.get(groupCode, this::load);
+    }
+
+    private CodeGroup load(String groupCode) {
+        List<CommonCodeVO> codes = commonCodeService.findByGroupCode(groupCode);
+        return new CodeGroup(codes, etag(groupCode, codes));
+    }
+
+    private static String etag(String groupCode, List<CommonCodeVO> codes) {
+        StringBuilder content = new StringBuilder(groupCode);
+        for (CommonCodeVO code : codes) {
+            content.append('\n').append(code.getCode()).append('\t').append(code.getCodeName());
+        }
+        return "\"codes-" + DigestUtils.md5DigestAsHex(content.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
@@ -3,6 +3,7 @@ package my.domain.code;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 @Mapper
@@ -13,4 +14,6 @@ public interface CommonCodeMapper {
     CommonCodeVO selectByGroupCodeAndCode(@Param("groupCode") String groupCode, @Param("code") String code);
 
     List<CommonCodeVO> selectByGroupCode(@Param("groupCode") String groupCode);
+
+    List<CommonCodeVO> selectByGroupCodeAndCodes(@Param("groupCode") String groupCode, @Param("codes") Collection<String> codes);
 }
@@ -3,12 +3,12 @@ package my.domain.customer.service.auth;
 import lombok.RequiredArgsConstructor;
 import my.common.exception.ApplicationException;
 import my.common.exception.ErrorCode;
+import my.common.security.PasswordHasher;
 import my.domain.customer.CustomerMapper;
 import my.domain.user.UserVO;
 import my.domain.user.dto.request.UserJoinRequestDto;
 import my.domain.user.service.auth.UserAuthService;
 import my.enums.Role;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,7 +18,7 @@ public class CustomerAuthServiceImpl implements CustomerAuthService {
 
     private final UserAuthService userAuthService;
     private final CustomerMapper customerMapper;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
 
     @Override
     @Transactional
@@ -29,7 +29,7 @@ public class CustomerAuthServiceImpl implements CustomerAuthService {
                 .phone(dto.getPhone())
                 .email(dto.getEmail())
                 .residentNumber(dto.getResidentNumber())
-                .password(passwordEncoder.encode(dto.getPassword()))
+                .password(passwordHasher.encode(dto.getPassword()))
                 .build();
 
         userAuthService.save(userVO);
@@ -1,11 +1,15 @@
 package my.domain.deposit;
 
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
 
 @Mapper
 public interface DepositMapper {
 
     int insert(DepositVO vo);
     DepositVO selectByBookOwnerId(Long bookOwnerId);
+    List<DepositVO> selectByBookOwnerIds(@Param("bookOwnerIds") List<Long> bookOwnerIds);
     int update(DepositVO vo);
 }
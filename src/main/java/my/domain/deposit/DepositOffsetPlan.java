@@ -0,0 +1,97 @@
+package my.domain.deposit;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Getter;
+import my.domain.rental.RentalSettlementVO;
+
+/**
+ * BookOwner 한 명의 보증금 - 연체 임대료 FIFO 상계 결과 (DB 접근 없이 메모리에서 계산).
+ *
+ * 오래된 임대료부터 보증금으로 공제하고, 보증금이 0인데 연체가 남아 있으면 suspend = true.
+ * 입력은 바꾸지 않고 복사본에 반영하므로, 쓰기에 실패하면 같은 입력으로 다시 계산할 수 있다.
+ * 보증금이 연체 합계와 정확히 같아 0이 된 경우는 남은 연체가 없으므로 중지하지 않는다.
+ */
+@Getter
+public class DepositOffsetPlan {
+
+    private final DepositVO deposit;
+    private final List<RentalSettlementVO> rentals = new ArrayList<>();
+    private final List<DepositRentalOffsetVO> offsets = new ArrayList<>();
+    private boolean suspend;
+
+    private DepositOffsetPlan(DepositVO deposit) {
+        this.deposit = deposit;
+    }
+
+    /**
+     * @param original    BookOwner 보증금
+     * @param overdueFifo 연체 임대료, TARGET_MONTH / ID 오름차순
+     */
+    public static DepositOffsetPlan plan(DepositVO original, List<RentalSettlementVO> overdueFifo) {
+        DepositVO deposit = copy(original);
+        DepositOffsetPlan plan = new DepositOffsetPlan(deposit);
+
+        for (RentalSettlementVO overdue : overdueFifo) {
+            int depositRemain = deposit.getRemainingAmount();
+            if (depositRemain <= 0) {
+                // 보증금 소진 상태에서 추가 연체 → SUSPENDED 처리
+                plan.suspend = true;
+                break;
+            }
+
+            RentalSettlementVO rental = copy(overdue);
+            int rentalRemain = rental.getRemainingAmount();
+            int offsetAmount = Math.min(depositRemain, rentalRemain);
+
+            deposit.setRemainingAmount(depositRemain - offsetAmount);
+            deposit.setStatus(deposit.getRemainingAmount() > 0 ? "HELD" : "DEPLETED");
+
+            rental.setDeductedAmount(rental.getDeductedAmount() + offsetAmount);
+            rental.setRemainingAmount(rentalRemain - offsetAmount);
+            if (rental.getRemainingAmount() == 0) {
+                rental.setStatus("PAID");
+            }
+            plan.rentals.add(rental);
+
+            DepositRentalOffsetVO offset = new DepositRentalOffsetVO();
+            offset.setDepositId(deposit.getId());
+            offset.setRentalSettlementId(rental.getId());
+            offset.setOffsetAmount(offsetAmount);
+            plan.offsets.add(offset);
+        }
+        return plan;
+    }
+
+    /** 보증금을 바꿔야 하는지 (공제가 한 건이라도 있었는지) */
+    public boolean hasOffsets() {
+        return !offsets.isEmpty();
+    }
+
+    private static DepositVO copy(DepositVO source) {
+        DepositVO deposit = new DepositVO();
+        deposit.setId(source.getId());
+        deposit.setBookOwnerId(source.getBookOwnerId());
+        deposit.setAmount(source.getAmount());
+        deposit.setRemainingAmount(source.getRemainingAmount());
+        deposit.setStatus(source.getStatus());
+        deposit.setCreatedAt(source.getCreatedAt());
+        return deposit;
+    }
+
+    private static RentalSettlementVO copy(RentalSettlementVO source) {
+        RentalSettlementVO rental = new RentalSettlementVO();
+        rental.setId(source.getId());
+        rental.setOccupiedRecordId(source.getOccupiedRecordId());
+        rental.setBookOwnerId(source.getBookOwnerId());
+        rental.setTargetMonth(source.getTargetMonth());
+        rental.setAmount(source.getAmount());
+        rental.setStatus(source.getStatus());
+        rental.setDeductedAmount(source.getDeductedAmount());
+        rental.setRemainingAmount(source.getRemainingAmount());
+        rental.setPaidAt(source.getPaidAt());
+        rental.setCreatedAt(source.getCreatedAt());
+        return rental;
+    }
+}
@@ -0,0 +1,54 @@
+package my.domain.deposit;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import my.common.exception.ApplicationException;
+import my.common.exception.ErrorCode;
+import my.domain.bookcase.BookCaseOccupiedRecordMapper;
+import my.domain.job.JobLease;
+import my.domain.job.PartitionedJob;
+import my.domain.job.dto.JobPartitionResult;
+import my.domain.job.vo.JobExecutionVO;
+
+/**
+ * 월 보증금 연체 공제 작업. 키는 대상 월(yyyy-MM, 이번 달까지), 파티션은 점유 중인 BookOwner ID 범위.
+ * 다시 처리되는 파티션에서 이번 실행 중에 중지된 점유를 바로 퇴거하지 않도록, 실행 시작 전에 중지된 점유만 퇴거한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DepositOverdueJob implements PartitionedJob {
+
+    public static final String NAME = "deposit-overdue";
+
+    private final BookCaseOccupiedRecordMapper occupiedRecordMapper;
+    private final MonthlyOverdueEngine monthlyOverdueEngine;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    // 다음 달 이후를 키로 주면 아직 납부 기한이 남은 임대료까지 공제된다
+    @Override
+    public void validateKey(String jobKey) {
+        if (PartitionedJob.monthKey(jobKey).isAfter(YearMonth.now())) {
+            throw new ApplicationException(ErrorCode.JOB_KEY_INVALID);
+        }
+    }
+
+    @Override
+    public List<Long> plan(JobExecutionVO execution) {
+        return occupiedRecordMapper.selectActiveBookOwnerIds();
+    }
+
+    @Override
+    public JobPartitionResult process(JobExecutionVO execution, long fromId, long toId, JobLease lease) {
+        MonthlyOverdueReport report = monthlyOverdueEngine.run(PartitionedJob.monthKey(execution.getJobKey()), fromId, toId,
+                execution.getStartedAt().toLocalDateTime(), lease);
+        return new JobPartitionResult(report.owners(), report.failed());
+    }
+}
@@ -8,5 +8,6 @@ import java.util.List;
 public interface DepositRentalOffsetMapper {
 
     int insert(DepositRentalOffsetVO vo);
+    int insertWithoutKey(DepositRentalOffsetVO vo);
     List<DepositRentalOffsetVO> selectByDepositId(Long depositId);
 }
@@ -2,21 +2,24 @@ package my.domain.deposit;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import my.domain.deposit.service.DepositService;
+import my.domain.job.JobRunner;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.YearMonth;
+
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class DepositScheduler {
 
-    private final DepositService depositService;
+    private final JobRunner jobRunner;
 
+    // 모든 인스턴스에서 실행되지만 이번 달 실행은 한 번만 만들어지고, 파티션을 나눠 처리한다
     @Scheduled(cron = "0 0 5 1 * *", zone = "Asia/Seoul")
     public void monthlyOverdueProcess() {
         log.info("보증금 연체 공제 스케줄러 시작");
-        depositService.processMonthlyOverdue();
+        jobRunner.launch(DepositOverdueJob.NAME, YearMonth.now().toString());
         log.info("보증금 연체 공제 스케줄러 완료");
     }
 }
@@ -0,0 +1,307 @@
+package my.domain.deposit;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import my.common.util.ListUtil;
+import my.domain.bookcase.BookCaseOccupiedRecordMapper;
+import my.domain.bookcase.BookCaseOccupiedRecordVO;
+import my.domain.bookcase.service.BookCaseService;
+import my.domain.job.JobLease;
+import my.domain.rental.RentalSettlementMapper;
+import my.domain.rental.RentalSettlementVO;
+
+/**
+ * 월초 보증금 - 연체 임대료 상계 실행기.
+ *
+ * 점유 / 연체 임대료 / 보증금을 각각 한 번의 조회로 읽고, BookOwner별 FIFO 상계는 메모리에서
+ * 계산(DepositOffsetPlan)한 뒤 보증금 / 임대료 / 상계 내역 / 점유 중지를 JDBC batch로 쓴다.
+ * BookOwner를 partition-size 명씩 묶어 워커 풀(deposit.overdue.threads)에서 묶음마다 한 트랜잭션으로 처리하고,
+ * 묶음이 실패하면 그 묶음만 BookOwner 단위 트랜잭션으로 다시 처리해 실패한 BookOwner만 남긴다.
+ * 호출자가 이미 트랜잭션 안이면 호출 스레드에서 BookOwner마다 savepoint(NESTED)를 잡고 일반 mapper로 처리한다.
+ * BookOwner ID 범위를 받는 run()은 JobRunner 파티션(DepositOverdueJob)용이다.
+ * 소요 시간은 deposit.overdue.duration, 풀 상태는 executor.*(name=depositOverdue).
+ */
+@Slf4j
+@Component
+public class MonthlyOverdueEngine {
+
+    static final String EXECUTOR_NAME = "depositOverdue";
+
+    private final BookCaseOccupiedRecordMapper occupiedRecordMapper;
+    private final RentalSettlementMapper rentalSettlementMapper;
+    private final DepositMapper depositMapper;
+    private final BookCaseService bookCaseService;
+    private final Writers simpleWriters;
+    private final Writers batchWriters;
+    private final SqlSessionTemplate batchSqlSession;
+    private final TransactionTemplate transaction;
+    private final TransactionTemplate nestedTransaction;
+    private final ThreadPoolExecutor pool;
+    private final ExecutorService executor;
+    private final Timer runTimer;
+    private final int partitionSize;
+
+    /** 쓰기에 쓰는 mapper 묶음 (일반 / BATCH 세션) */
+    private record Writers(DepositMapper deposits, RentalSettlementMapper rentals,
+                           DepositRentalOffsetMapper offsets, BookCaseOccupiedRecordMapper occupiedRecords) {
+    }
+
+    /** BookOwner 한 명의 입력 */
+    private record OwnerWork(Long bookOwnerId, DepositVO deposit, List<RentalSettlementVO> overdue,
+                             List<BookCaseOccupiedRecordVO> activeRecords) {
+    }
+
+    private record Tally(int offsets, int suspended, int skipped, int failed) {
+        static final Tally EMPTY = new Tally(0, 0, 0, 0);
+
+        Tally plus(Tally other) {
+            return new Tally(offsets + other.offsets, suspended + other.suspended,
+                    skipped + other.skipped, failed + other.failed);
+        }
+    }
+
+    public MonthlyOverdueEngine(BookCaseOccupiedRecordMapper occupiedRecordMapper,
+                                RentalSettlementMapper rentalSettlementMapper,
+                                DepositMapper depositMapper,
+                                DepositRentalOffsetMapper depositRentalOffsetMapper,
+                                BookCaseService bookCaseService,
+                                SqlSessionFactory sqlSessionFactory,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${deposit.overdue.threads:4}") int threads,
+                                @Value("${deposit.overdue.partition-size:200}") int partitionSize) {
+        AtomicInteger sequence = new AtomicInteger();
+
+        this.occupiedRecordMapper = occupiedRecordMapper;
+        this.rentalSettlementMapper = rentalSettlementMapper;
+        this.depositMapper = depositMapper;
+        this.bookCaseService = bookCaseService;
+        this.simpleWriters = new Writers(depositMapper, rentalSettlementMapper, depositRentalOffsetMapper,
+                occupiedRecordMapper);
+        this.batchSqlSession = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+        this.batchWriters = new Writers(batchSqlSession.getMapper(DepositMapper.class),
+                batchSqlSession.getMapper(RentalSettlementMapper.class),
+                batchSqlSession.getMapper(DepositRentalOffsetMapper.class),
+                batchSqlSession.getMapper(BookCaseOccupiedRecordMapper.class));
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.nestedTransaction = new TransactionTemplate(transactionManager);
+        this.nestedTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+        this.pool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(threads * 4),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "deposit-overdue-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, EXECUTOR_NAME);
+        this.runTimer = Timer.builder("deposit.overdue.duration")
+                .description("월 보증금 연체 공제 1회 소요 시간")
+                .register(meterRegistry);
+        this.partitionSize = partitionSize;
+    }
+
+    public MonthlyOverdueReport run(YearMonth month) {
+        return run(month, occupiedRecordMapper.selectAllActive(), null, null, null, JobLease.NONE);
+    }
+
+    /**
+     * ID가 fromBookOwnerId 이상 toBookOwnerId 이하인 BookOwner만 처리한다.
+     * 같은 범위를 다시 처리해도 이미 공제된 임대료는 건너뛰고, evictSuspendedBefore 이후에 중지된 점유는 퇴거하지 않는다.
+     * 묶음(nested면 BookOwner)마다 처리 전에 lease.renew()를 부른다.
+     */
+    public MonthlyOverdueReport run(YearMonth month, long fromBookOwnerId, long toBookOwnerId,
+                                    LocalDateTime evictSuspendedBefore, JobLease lease) {
+        return run(month, occupiedRecordMapper.selectActiveByBookOwnerIdRange(fromBookOwnerId, toBookOwnerId),
+                fromBookOwnerId, toBookOwnerId, evictSuspendedBefore, lease);
+    }
+
+    private MonthlyOverdueReport run(YearMonth month, List<BookCaseOccupiedRecordVO> activeRecords,
+                                     Long fromBookOwnerId, Long toBookOwnerId, LocalDateTime evictSuspendedBefore,
+                                     JobLease lease) {
+        long start = System.nanoTime();
+
+        int evicted = evictSuspended(activeRecords, evictSuspendedBefore);
+
+        Map<Long, List<RentalSettlementVO>> overdueByOwner = rentalSettlementMapper
+                .selectOverdueOfActiveOccupancies(month.toString(), fromBookOwnerId, toBookOwnerId).stream()
+                        .collect(Collectors.groupingBy(RentalSettlementVO::getBookOwnerId, LinkedHashMap::new,
+                                Collectors.toList()));
+        List<OwnerWork> works = toWorks(overdueByOwner, activeRecords);
+
+        Tally tally = TransactionSynchronizationManager.isActualTransactionActive()
+                ? works.stream().map(work -> {
+                    lease.renew();
+                    return applyNested(work);
+                }).reduce(Tally.EMPTY, Tally::plus)
+                : applyInParallel(works, lease);
+
+        long elapsedNanos = System.nanoTime() - start;
+        runTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        MonthlyOverdueReport report = new MonthlyOverdueReport(works.size(), tally.offsets(), tally.suspended(),
+                evicted, tally.skipped(), tally.failed(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        log.info("보증금 연체 공제 완료 - BookOwner {}명, 공제 {}건, 중지 {}명, 강제 퇴거 {}건, 보증금 없음 {}명, 실패 {}명, {}ms",
+                report.owners(), report.offsets(), report.suspended(), report.evicted(), report.skipped(),
+                report.failed(), report.elapsedMillis());
+        return report;
+    }
+
+    // 이미 SUSPENDED인 점유는 강제 퇴거
+    private int evictSuspended(List<BookCaseOccupiedRecordVO> activeRecords, LocalDateTime suspendedBefore) {
+        int evicted = 0;
+        for (BookCaseOccupiedRecordVO record : activeRecords) {
+            if (record.getSuspendedAt() == null
+                    || (suspendedBefore != null && !record.getSuspendedAt().isBefore(suspendedBefore))) {
+                continue;
+            }
+            try {
+                log.warn("BookOwner {} 책장 {} 강제 퇴거 처리", record.getBookOwnerId(), record.getBookCaseId());
+                bookCaseService.unOccupyProcess(List.of(record.getBookCaseId()));
+                evicted++;
+            } catch (RuntimeException e) {
+                log.warn("책장 {} 강제 퇴거 실패: {}", record.getBookCaseId(), e.getMessage());
+            }
+        }
+        return evicted;
+    }
+
+    private List<OwnerWork> toWorks(Map<Long, List<RentalSettlementVO>> overdueByOwner,
+                                    List<BookCaseOccupiedRecordVO> activeRecords) {
+        if (overdueByOwner.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, DepositVO> deposits = new LinkedHashMap<>();
+        for (List<Long> chunk : ListUtil.partition(new ArrayList<>(overdueByOwner.keySet()), ListUtil.IN_CLAUSE_LIMIT)) {
+            depositMapper.selectByBookOwnerIds(chunk).forEach(deposit -> deposits.put(deposit.getBookOwnerId(), deposit));
+        }
+        Map<Long, List<BookCaseOccupiedRecordVO>> recordsByOwner = activeRecords.stream()
+                .filter(record -> record.getSuspendedAt() == null)
+                .collect(Collectors.groupingBy(BookCaseOccupiedRecordVO::getBookOwnerId));
+
+        return overdueByOwner.entrySet().stream()
+                .map(entry -> new OwnerWork(entry.getKey(), deposits.get(entry.getKey()), entry.getValue(),
+                        recordsByOwner.getOrDefault(entry.getKey(), List.of())))
+                .toList();
+    }
+
+    private Tally applyInParallel(List<OwnerWork> works, JobLease lease) {
+        List<Future<Tally>> futures = new ArrayList<>();
+        for (List<OwnerWork> partition : ListUtil.partition(works, partitionSize)) {
+            futures.add(executor.submit(() -> {
+                lease.renew();
+                return applyPartition(partition);
+            }));
+        }
+
+        Tally tally = Tally.EMPTY;
+        try {
+            for (Future<Tally> future : futures) {
+                tally = tally.plus(future.get());
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(false));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("보증금 연체 공제가 중단되었습니다", e);
+        } catch (ExecutionException e) {
+            // lease를 잃었으면 아직 시작하지 않은 묶음은 처리하지 않는다
+            futures.forEach(future -> future.cancel(false));
+            throw new IllegalStateException(e.getCause());
+        }
+        return tally;
+    }
+
+    private Tally applyPartition(List<OwnerWork> partition) {
+        try {
+            return transaction.execute(status -> {
+                Tally tally = partition.stream().map(work -> apply(work, batchWriters)).reduce(Tally.EMPTY, Tally::plus);
+                batchSqlSession.flushStatements();
+                return tally;
+            });
+        } catch (RuntimeException e) {
+            log.warn("보증금 연체 공제 묶음 실패, BookOwner 단위로 재처리 - {}명: {}", partition.size(), e.getMessage());
+            return partition.stream().map(this::applyAlone).reduce(Tally.EMPTY, Tally::plus);
+        }
+    }
+
+    private Tally applyAlone(OwnerWork work) {
+        try {
+            return transaction.execute(status -> {
+                Tally tally = apply(work, batchWriters);
+                batchSqlSession.flushStatements();
+                return tally;
+            });
+        } catch (RuntimeException e) {
+            log.warn("BookOwner {} 연체 처리 실패: {}", work.bookOwnerId(), e.getMessage());
+            return new Tally(0, 0, 0, 1);
+        }
+    }
+
+    private Tally applyNested(OwnerWork work) {
+        try {
+            return nestedTransaction.execute(status -> apply(work, simpleWriters));
+        } catch (RuntimeException e) {
+            log.warn("BookOwner {} 연체 처리 실패: {}", work.bookOwnerId(), e.getMessage());
+            return new Tally(0, 0, 0, 1);
+        }
+    }
+
+    private Tally apply(OwnerWork work, Writers writers) {
+        if (work.deposit() == null) {
+            log.warn("BookOwner {} 보증금 없음", work.bookOwnerId());
+            return new Tally(0, 0, 1, 0);
+        }
+
+        DepositOffsetPlan plan = DepositOffsetPlan.plan(work.deposit(), work.overdue());
+        if (plan.hasOffsets()) {
+            writers.deposits().update(plan.getDeposit());
+        }
+        plan.getRentals().forEach(writers.rentals()::update);
+        plan.getOffsets().forEach(writers.offsets()::insertWithoutKey);
+        if (plan.isSuspend()) {
+            // 보증금 소진 후 추가 연체 → 점유 중인 책장 전체 중지
+            work.activeRecords().forEach(record -> {
+                writers.occupiedRecords().updateSuspendedAt(record.getId());
+                log.warn("책장 {} 중지 처리 (보증금 소진 후 추가 연체)", record.getBookCaseId());
+            });
+        }
+        if (plan.hasOffsets()) {
+            log.info("보증금 공제: BookOwner {} | 임대료 {}건 | 보증금잔액 {}",
+                    work.bookOwnerId(), plan.getOffsets().size(), plan.getDeposit().getRemainingAmount());
+        }
+        return new Tally(plan.getOffsets().size(), plan.isSuspend() ? 1 : 0, 0, 0);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+}
@@ -0,0 +1,15 @@
+package my.domain.deposit;
+
+/**
+ * 월 연체 공제 1회 결과.
+ *
+ * @param owners    연체가 있던 BookOwner 수
+ * @param offsets   DEPOSIT_RENTAL_OFFSET 기록 수
+ * @param suspended 보증금 소진으로 점유를 중지한 BookOwner 수
+ * @param evicted   이미 중지 상태라 강제 퇴거한 책장 수
+ * @param skipped   보증금이 없어 건너뛴 BookOwner 수
+ * @param failed    처리 중 오류로 롤백된 BookOwner 수
+ */
+public record MonthlyOverdueReport(int owners, int offsets, int suspended, int evicted, int skipped, int failed,
+                                   long elapsedMillis) {
+}
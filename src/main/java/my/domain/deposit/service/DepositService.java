@@ -1,10 +1,12 @@
 package my.domain.deposit.service;
 
+import my.domain.job.vo.JobExecutionVO;
+
 public interface DepositService {
 
     /**
-     * 매월 1일 05:00 스케줄러에서 호출.
+     * 이번 달 연체 공제 작업(DepositOverdueJob)을 JobRunner로 시작한다. 매월 1일 05:00 스케줄러와 같은 실행을 쓴다.
      * 활성 점유 전체를 대상으로 연체 임대료 보증금 공제 + 중지/강제퇴거 처리.
      */
-    void processMonthlyOverdue();
+    JobExecutionVO processMonthlyOverdue();
 }
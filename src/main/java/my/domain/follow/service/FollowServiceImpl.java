@@ -5,6 +5,8 @@ import static my.common.util.EntityUtil.requireNonNull;
 import lombok.RequiredArgsConstructor;
 import my.common.exception.ApplicationException;
 import my.common.exception.ErrorCode;
+import my.common.util.TransactionUtil;
+import my.domain.catalog.CatalogVersion;
 import my.domain.bookowner.BookOwnerMapper;
 import my.domain.customer.CustomerMapper;
 import my.domain.follow.FollowMapper;
@@ -26,6 +28,7 @@ public class FollowServiceImpl implements FollowService {
     private final BookOwnerMapper bookOwnerMapper;
     private final NotificationService notificationService;
     private final UserMapper userMapper;
+    private final CatalogVersion catalogVersion;
 
     @Override
     @Transactional
@@ -45,6 +48,8 @@ public class FollowServiceImpl implements FollowService {
         if (result != 1) {
             throw new ApplicationException(ErrorCode.FOLLOW_INSERT_FAIL);
         }
+        // 서점 목록의 팔로워 수가 바뀐다 (도서 목록은 그대로)
+        TransactionUtil.afterCommit(catalogVersion::bumpBookstores);
 
         // BookOwner에게 새 팔로워 알림
         UserVO customer = userMapper.selectById(customerId);
@@ -67,6 +72,7 @@ public class FollowServiceImpl implements FollowService {
         }
 
         followMapper.deleteByCustomerIdAndBookOwnerId(customerId, bookOwnerId);
+        TransactionUtil.afterCommit(catalogVersion::bumpBookstores);
     }
 
     @Override
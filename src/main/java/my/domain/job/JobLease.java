@@ -0,0 +1,16 @@
+package my.domain.job;
+
+/**
+ * 처리 중인 파티션의 lease (JOB_CHECKPOINT.LEASE_UNTIL).
+ *
+ * 작업은 파티션 안의 처리 단위(BookOwner, 묶음) 사이마다 renew()를 부른다. 연장할 때가 되면 lease를 늘리고,
+ * lease가 끝나 다른 인스턴스가 파티션을 가져갔으면 JobLeaseLostException을 던져 남은 처리를 멈춘다.
+ */
+public interface JobLease {
+
+    /** 연장하지 않는 lease (JobRunner 밖에서 직접 호출할 때) */
+    JobLease NONE = () -> {
+    };
+
+    void renew();
+}
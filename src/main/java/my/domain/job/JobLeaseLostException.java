@@ -0,0 +1,11 @@
+package my.domain.job;
+
+/**
+ * 파티션 lease를 다른 인스턴스에 빼앗겼다. 이미 커밋된 처리 단위는 그대로 두고 남은 처리를 멈춘다.
+ */
+public class JobLeaseLostException extends IllegalStateException {
+
+    public JobLeaseLostException(Long executionId, int partitionNo) {
+        super("파티션 lease를 잃었습니다 - executionId: " + executionId + ", partition: " + partitionNo);
+    }
+}
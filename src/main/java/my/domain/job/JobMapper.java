@@ -0,0 +1,41 @@
+package my.domain.job;
+
+import my.domain.job.vo.JobCheckpointVO;
+import my.domain.job.vo.JobExecutionVO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface JobMapper {
+
+    int acquireLock(@Param("jobName") String jobName, @Param("nodeId") String nodeId,
+                    @Param("leaseSeconds") long leaseSeconds);
+    int releaseLock(@Param("jobName") String jobName, @Param("nodeId") String nodeId);
+
+    JobExecutionVO selectExecutionById(Long id);
+    JobExecutionVO selectExecution(@Param("jobName") String jobName, @Param("jobKey") String jobKey);
+    List<JobExecutionVO> selectExecutionsByJobName(@Param("jobName") String jobName, @Param("limit") int limit);
+    List<JobExecutionVO> selectRunningExecutions();
+    int insertExecution(JobExecutionVO execution);
+    int updatePlan(@Param("id") Long id, @Param("targetId") Long targetId,
+                   @Param("partitionCount") int partitionCount);
+    int finishExecution(Long id);
+    int reopenExecution(Long id);
+
+    int insertCheckpoints(@Param("checkpoints") List<JobCheckpointVO> checkpoints);
+    List<JobCheckpointVO> selectCheckpoints(Long executionId);
+    List<Integer> selectClaimablePartitionNos(@Param("executionId") Long executionId, @Param("limit") int limit);
+    int claimCheckpoint(@Param("executionId") Long executionId, @Param("partitionNo") int partitionNo,
+                        @Param("nodeId") String nodeId, @Param("leaseSeconds") long leaseSeconds);
+    int renewCheckpointLease(@Param("executionId") Long executionId, @Param("partitionNo") int partitionNo,
+                             @Param("nodeId") String nodeId, @Param("leaseSeconds") long leaseSeconds);
+    JobCheckpointVO selectCheckpoint(@Param("executionId") Long executionId, @Param("partitionNo") int partitionNo);
+    int completeCheckpoint(@Param("executionId") Long executionId, @Param("partitionNo") int partitionNo,
+                           @Param("nodeId") String nodeId, @Param("processedCount") int processedCount,
+                           @Param("failedCount") int failedCount);
+    int failCheckpoint(@Param("executionId") Long executionId, @Param("partitionNo") int partitionNo,
+                       @Param("nodeId") String nodeId, @Param("lastError") String lastError);
+    int resetFailedCheckpoints(Long executionId);
+}
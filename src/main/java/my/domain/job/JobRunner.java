@@ -0,0 +1,337 @@
+package my.domain.job;
+
+import static my.common.util.EntityUtil.requireNonNull;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import my.common.exception.ApplicationException;
+import my.common.exception.ErrorCode;
+import my.common.util.ListUtil;
+import my.domain.job.dto.JobPartitionResult;
+import my.domain.job.vo.JobCheckpointVO;
+import my.domain.job.vo.JobExecutionVO;
+
+/**
+ * 여러 인스턴스가 나눠 처리하는 월말 작업 실행기 (sql/22_job_execution.sql).
+ *
+ * launch()는 (작업, 키)마다 실행을 한 번만 만든다. JOB_LOCK lease를 잡은 인스턴스만 실행을 계획하고
+ * (대상 ID를 job.partition-size 개씩 ID 범위로 나눠 JOB_CHECKPOINT로 저장) 바로 돌아온다.
+ * 파티션은 모든 인스턴스가 poll-millis 마다 poll()에서 처리하므로, 호출한 스레드(관리자 요청, 스케줄러)가
+ * 월말 작업 전체를 붙잡고 있지 않는다. 파티션은 조건부 UPDATE로 하나씩 선점해 처리하고 DONE / FAILED로 남기므로,
+ * 중간에 죽어도 끝난 파티션은 다시 처리하지 않고 lease(job.lease-seconds)가 끝난 파티션만 다른 인스턴스가 가져간다.
+ * 처리 중인 파티션은 작업이 처리 단위 사이마다 JobLease.renew()로 lease의 1/3이 지날 때마다 연장하고,
+ * 연장이 0건이면(lease가 끝나 다른 인스턴스가 가져감) 남은 처리를 멈춘다.
+ * 실패한 파티션은 resume()으로 되돌려 다시 처리한다.
+ * 작업별 지표: job.partition.duration / job.execution.duration{status} / job.processed / job.failures / job.partitions{result=done|failed|lost}.
+ */
+@Slf4j
+@Component
+public class JobRunner {
+
+    static final String STATUS_RUNNING = "RUNNING";
+    static final String STATUS_COMPLETED = "COMPLETED";
+    /** 다중 행 INSERT 한 번에 넣는 파티션 수 */
+    private static final int INSERT_CHUNK_SIZE = 500;
+    private static final int CLAIM_BATCH = 10;
+    private static final int RECENT_EXECUTIONS = 20;
+
+    private final Map<String, PartitionedJob> jobs;
+    private final JobMapper jobMapper;
+    private final TransactionTemplate transaction;
+    private final MeterRegistry meterRegistry;
+    private final String nodeId;
+    private final int partitionSize;
+    private final long leaseSeconds;
+    private final long lockSeconds;
+
+    public JobRunner(List<PartitionedJob> jobs,
+                     JobMapper jobMapper,
+                     PlatformTransactionManager transactionManager,
+                     MeterRegistry meterRegistry,
+                     @Value("${job.node-id:}") String nodeId,
+                     @Value("${job.partition-size:200}") int partitionSize,
+                     @Value("${job.lease-seconds:900}") long leaseSeconds,
+                     @Value("${job.lock-seconds:300}") long lockSeconds) {
+        this.jobs = jobs.stream().collect(Collectors.toMap(PartitionedJob::name, Function.identity()));
+        this.jobMapper = jobMapper;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.nodeId = StringUtils.hasText(nodeId) ? nodeId : defaultNodeId();
+        this.partitionSize = partitionSize;
+        this.leaseSeconds = leaseSeconds;
+        this.lockSeconds = lockSeconds;
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + ":" + ProcessHandle.current().pid();
+    }
+
+    /**
+     * 실행을 계획해 돌려준다. 파티션은 poll()이 처리한다.
+     * 같은 키의 실행이 이미 있으면 그대로 돌려주고, 다른 인스턴스가 실행을 계획하는 중이면 null.
+     */
+    public JobExecutionVO launch(String jobName, String jobKey) {
+        PartitionedJob job = job(jobName);
+        job.validateKey(jobKey);
+
+        JobExecutionVO execution = jobMapper.selectExecution(jobName, jobKey);
+        if (execution != null) {
+            log.info("이미 있는 작업 실행 - job: {}, key: {}, status: {}", jobName, jobKey, execution.getStatus());
+            return execution;
+        }
+        if (!tryLock(jobName)) {
+            log.info("다른 인스턴스가 작업을 계획 중 - job: {}, key: {}", jobName, jobKey);
+            return null;
+        }
+        try {
+            return plan(job, jobKey);
+        } finally {
+            jobMapper.releaseLock(jobName, nodeId);
+        }
+    }
+
+    /**
+     * 실패한 파티션을 다시 PENDING으로 돌리고 실행을 RUNNING으로 되돌린다. 파티션은 poll()이 처리한다.
+     */
+    public JobExecutionVO resume(Long executionId) {
+        JobExecutionVO execution = requireNonNull(jobMapper.selectExecutionById(executionId),
+                ErrorCode.JOB_EXECUTION_NOT_FOUND);
+        if (STATUS_COMPLETED.equals(execution.getStatus())) {
+            throw new ApplicationException(ErrorCode.JOB_EXECUTION_ALREADY_COMPLETED);
+        }
+        PartitionedJob job = job(execution.getJobName());
+
+        transaction.executeWithoutResult(status -> {
+            int reset = jobMapper.resetFailedCheckpoints(executionId);
+            jobMapper.reopenExecution(executionId);
+            log.warn("작업 재개 - job: {}, executionId: {}, 실패 파티션 {}개", job.name(), executionId, reset);
+        });
+        return jobMapper.selectExecutionById(executionId);
+    }
+
+    public List<JobExecutionVO> findExecutions(String jobName) {
+        return jobMapper.selectExecutionsByJobName(job(jobName).name(), RECENT_EXECUTIONS);
+    }
+
+    public List<JobCheckpointVO> findCheckpoints(Long executionId) {
+        requireNonNull(jobMapper.selectExecutionById(executionId), ErrorCode.JOB_EXECUTION_NOT_FOUND);
+        return jobMapper.selectCheckpoints(executionId);
+    }
+
+    /**
+     * 진행 중인 실행의 남은 파티션과 lease가 끝난 파티션을 가져가 처리한다.
+     */
+    @Scheduled(fixedDelayString = "${job.poll-millis:30000}")
+    public void poll() {
+        for (JobExecutionVO execution : jobMapper.selectRunningExecutions()) {
+            PartitionedJob job = jobs.get(execution.getJobName());
+            if (job == null) {
+                continue;
+            }
+            try {
+                work(job, execution);
+            } catch (RuntimeException e) {
+                log.error("작업 처리 실패 - job: {}, executionId: {}", execution.getJobName(), execution.getId(), e);
+            }
+        }
+    }
+
+    private PartitionedJob job(String jobName) {
+        return requireNonNull(jobs.get(jobName), ErrorCode.JOB_NOT_FOUND);
+    }
+
+    private boolean tryLock(String jobName) {
+        try {
+            return jobMapper.acquireLock(jobName, nodeId, lockSeconds) == 1;
+        } catch (DuplicateKeyException e) {
+            return false;   // 첫 실행에서 다른 인스턴스가 먼저 행을 만들었다
+        }
+    }
+
+    // 실행과 파티션을 한 트랜잭션으로 만든다. 같은 키의 실행이 이미 있으면 그 실행에 합류한다
+    private JobExecutionVO plan(PartitionedJob job, String jobKey) {
+        try {
+            return transaction.execute(status -> {
+                JobExecutionVO execution = new JobExecutionVO();
+                execution.setJobName(job.name());
+                execution.setJobKey(jobKey);
+                execution.setStartedBy(nodeId);
+                jobMapper.insertExecution(execution);
+                execution = jobMapper.selectExecutionById(execution.getId());
+
+                List<JobCheckpointVO> checkpoints = partition(execution.getId(), job.plan(execution));
+                for (List<JobCheckpointVO> chunk : ListUtil.partition(checkpoints, INSERT_CHUNK_SIZE)) {
+                    jobMapper.insertCheckpoints(chunk);
+                }
+                jobMapper.updatePlan(execution.getId(), execution.getTargetId(), checkpoints.size());
+                execution.setPartitionCount(checkpoints.size());
+                log.info("작업 시작 - job: {}, key: {}, executionId: {}, 파티션 {}개",
+                        job.name(), jobKey, execution.getId(), checkpoints.size());
+                return execution;
+            });
+        } catch (DuplicateKeyException e) {
+            return requireNonNull(jobMapper.selectExecution(job.name(), jobKey), ErrorCode.JOB_EXECUTION_NOT_FOUND);
+        }
+    }
+
+    List<JobCheckpointVO> partition(Long executionId, List<Long> ids) {
+        List<JobCheckpointVO> checkpoints = new ArrayList<>();
+        for (List<Long> chunk : ListUtil.partition(ids, partitionSize)) {
+            JobCheckpointVO checkpoint = new JobCheckpointVO();
+            checkpoint.setExecutionId(executionId);
+            checkpoint.setPartitionNo(checkpoints.size() + 1);
+            checkpoint.setFromId(chunk.get(0));
+            checkpoint.setToId(chunk.get(chunk.size() - 1));
+            checkpoints.add(checkpoint);
+        }
+        return checkpoints;
+    }
+
+    private void work(PartitionedJob job, JobExecutionVO execution) {
+        JobCheckpointVO checkpoint;
+        while ((checkpoint = claimNext(execution.getId())) != null) {
+            runPartition(job, execution, checkpoint);
+        }
+        finishIfDone(job, execution.getId());
+    }
+
+    private JobCheckpointVO claimNext(Long executionId) {
+        List<Integer> candidates;
+        do {
+            candidates = jobMapper.selectClaimablePartitionNos(executionId, CLAIM_BATCH);
+            for (Integer partitionNo : candidates) {
+                // 다른 인스턴스가 먼저 가져간 파티션은 건너뛴다
+                if (jobMapper.claimCheckpoint(executionId, partitionNo, nodeId, leaseSeconds) == 1) {
+                    return jobMapper.selectCheckpoint(executionId, partitionNo);
+                }
+            }
+        } while (!candidates.isEmpty());
+        return null;
+    }
+
+    private void runPartition(PartitionedJob job, JobExecutionVO execution, JobCheckpointVO checkpoint) {
+        long start = System.nanoTime();
+        String result;
+        try {
+            JobPartitionResult partitionResult = job.process(execution, checkpoint.getFromId(), checkpoint.getToId(),
+                    new PartitionLease(execution.getId(), checkpoint.getPartitionNo()));
+            if (jobMapper.completeCheckpoint(execution.getId(), checkpoint.getPartitionNo(), nodeId,
+                    partitionResult.processed(), partitionResult.failed()) == 0) {
+                log.warn("lease가 끝나 다른 인스턴스가 가져간 파티션 - job: {}, executionId: {}, partition: {}",
+                        job.name(), execution.getId(), checkpoint.getPartitionNo());
+            }
+            meterRegistry.counter("job.processed", "job", job.name()).increment(partitionResult.processed());
+            meterRegistry.counter("job.failures", "job", job.name()).increment(partitionResult.failed());
+            result = "done";
+        } catch (RuntimeException e) {
+            if (leaseLost(e)) {
+                // 파티션은 가져간 인스턴스가 마저 처리한다
+                log.warn("lease를 잃어 처리를 멈춘 파티션 - job: {}, executionId: {}, partition: {}",
+                        job.name(), execution.getId(), checkpoint.getPartitionNo());
+                result = "lost";
+            } else {
+                log.warn("작업 파티션 실패 - job: {}, executionId: {}, partition: {} ({} ~ {})",
+                        job.name(), execution.getId(), checkpoint.getPartitionNo(),
+                        checkpoint.getFromId(), checkpoint.getToId(), e);
+                jobMapper.failCheckpoint(execution.getId(), checkpoint.getPartitionNo(), nodeId,
+                        e.getClass().getSimpleName() + ": " + e.getMessage());
+                result = "failed";
+            }
+        }
+        meterRegistry.counter("job.partitions", "job", job.name(), "result", result).increment();
+        Timer.builder("job.partition.duration")
+                .tag("job", job.name())
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    // 작업이 병렬 처리 예외로 감싸서 던질 수 있다
+    private static boolean leaseLost(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof JobLeaseLostException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 선점한 파티션의 lease. 작업의 워커 스레드들이 함께 부르므로 동기화하고,
+     * 한 번 잃으면 DB를 다시 보지 않고 계속 JobLeaseLostException을 던진다.
+     */
+    private class PartitionLease implements JobLease {
+
+        private final Long executionId;
+        private final int partitionNo;
+        private final long renewIntervalNanos = TimeUnit.SECONDS.toNanos(leaseSeconds) / 3;
+        private long renewedAt = System.nanoTime();
+        private boolean lost;
+
+        PartitionLease(Long executionId, int partitionNo) {
+            this.executionId = executionId;
+            this.partitionNo = partitionNo;
+        }
+
+        @Override
+        public synchronized void renew() {
+            if (!lost && System.nanoTime() - renewedAt >= renewIntervalNanos) {
+                lost = jobMapper.renewCheckpointLease(executionId, partitionNo, nodeId, leaseSeconds) == 0;
+                renewedAt = System.nanoTime();
+            }
+            if (lost) {
+                throw new JobLeaseLostException(executionId, partitionNo);
+            }
+        }
+    }
+
+    // 마지막 파티션을 끝낸 인스턴스 한 곳만 실행을 닫고 complete()를 호출한다
+    private void finishIfDone(PartitionedJob job, Long executionId) {
+        if (jobMapper.finishExecution(executionId) == 0) {
+            return;
+        }
+
+        JobExecutionVO finished = jobMapper.selectExecutionById(executionId);
+        Duration elapsed = Duration.between(finished.getStartedAt().toInstant(), finished.getFinishedAt().toInstant());
+        Timer.builder("job.execution.duration")
+                .tag("job", job.name())
+                .tag("status", finished.getStatus().toLowerCase())
+                .register(meterRegistry)
+                .record(elapsed);
+
+        if (!STATUS_COMPLETED.equals(finished.getStatus())) {
+            log.error("작업 실패 - job: {}, key: {}, executionId: {}, 처리 {}건, 실패 {}건, {}ms",
+                    job.name(), finished.getJobKey(), executionId, finished.getProcessedCount(),
+                    finished.getFailedCount(), elapsed.toMillis());
+            return;
+        }
+        job.complete(finished);
+        log.info("작업 완료 - job: {}, key: {}, executionId: {}, 처리 {}건, 실패 {}건, {}ms",
+                job.name(), finished.getJobKey(), executionId, finished.getProcessedCount(),
+                finished.getFailedCount(), elapsed.toMillis());
+    }
+}
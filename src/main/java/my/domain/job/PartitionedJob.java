@@ -0,0 +1,52 @@
+package my.domain.job;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+import my.common.exception.ApplicationException;
+import my.common.exception.ErrorCode;
+import my.domain.job.dto.JobPartitionResult;
+import my.domain.job.vo.JobExecutionVO;
+
+/**
+ * JobRunner가 여러 인스턴스에 나눠 실행하는 작업.
+ *
+ * 실행을 만들 때 plan()이 돌려준 ID를 job.partition-size 개씩 ID 범위로 나누고, 각 범위를
+ * process()로 처리한다. 인스턴스가 죽으면 같은 범위가 다른 인스턴스에서 다시 처리될 수 있으므로
+ * process()는 이미 처리된 대상을 건너뛰어야 한다.
+ */
+public interface PartitionedJob {
+
+    /** 작업 이름 (JOB_EXECUTION.JOB_NAME, 관리자 API 경로) */
+    String name();
+
+    /** 실행을 계획하기 전에 키를 검사한다. 처리할 수 없는 키면 JOB_KEY_INVALID */
+    default void validateKey(String jobKey) {
+    }
+
+    /**
+     * 처리 대상 ID, 오름차순. 실행 계획 트랜잭션 안에서 한 번 호출된다.
+     * 파티션이 함께 써야 하는 대상이 있으면 execution.setTargetId()로 남긴다 (JOB_EXECUTION.TARGET_ID).
+     */
+    List<Long> plan(JobExecutionVO execution);
+
+    /**
+     * ID가 fromId 이상 toId 이하인 대상을 처리한다.
+     * 처리 단위 사이마다 lease.renew()를 불러, 오래 걸리는 파티션이 처리 중에 다른 인스턴스로 넘어가지 않게 한다.
+     */
+    JobPartitionResult process(JobExecutionVO execution, long fromId, long toId, JobLease lease);
+
+    /** 모든 파티션이 성공한 뒤 한 번 호출된다 */
+    default void complete(JobExecutionVO execution) {
+    }
+
+    /** 월 작업 키(yyyy-MM). 형식이 다르면 JOB_KEY_INVALID */
+    static YearMonth monthKey(String jobKey) {
+        try {
+            return YearMonth.parse(jobKey);
+        } catch (DateTimeParseException e) {
+            throw new ApplicationException(ErrorCode.JOB_KEY_INVALID);
+        }
+    }
+}
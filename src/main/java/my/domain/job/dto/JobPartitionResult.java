@@ -0,0 +1,7 @@
+package my.domain.job.dto;
+
+/**
+ * 파티션 하나의 처리 결과. processed 는 처리한 대상(BookOwner) 수, failed 는 그중 실패한 수.
+ */
+public record JobPartitionResult(int processed, int failed) {
+}
@@ -0,0 +1,23 @@
+package my.domain.job.vo;
+
+import java.sql.Timestamp;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class JobCheckpointVO {
+    private Long executionId;
+    private int partitionNo;
+    private long fromId;
+    private long toId;
+    private String status;
+    private String nodeId;
+    private int attempts;
+    private Timestamp leaseUntil;
+    private int processedCount;
+    private int failedCount;
+    private String lastError;
+    private Timestamp updatedAt;
+}
@@ -0,0 +1,23 @@
+package my.domain.job.vo;
+
+import java.sql.Timestamp;
+
+import lombok.Getter;
+import lombok.Setter;
+import my.common.vo.MyApplicationVO;
+
+@Getter
+@Setter
+public class JobExecutionVO extends MyApplicationVO {
+    private String jobName;
+    private String jobKey;
+    private String status;
+    /** 계획할 때 작업이 정한 대상 (예: 정산 실행 ID) */
+    private Long targetId;
+    private int partitionCount;
+    private int processedCount;
+    private int failedCount;
+    private String startedBy;
+    private Timestamp startedAt;
+    private Timestamp finishedAt;
+}
@@ -1,17 +1,24 @@
 package my.domain.payment;
 
 import lombok.extern.slf4j.Slf4j;
+import my.domain.payment.dto.TossBulkTransferItemDto;
 import my.domain.payment.dto.TossTransferResponseDto;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Profile("dev")
 @Slf4j
 @Service
 public class MockTossPaymentService implements TossPaymentService {
 
+    // 실제 API처럼 같은 Idempotency-Key 재요청에는 처음 응답을 그대로 돌려준다
+    private final Map<String, TossTransferResponseDto> responsesByIdempotencyKey = new ConcurrentHashMap<>();
+
     @Override
     public TossTransferResponseDto transfer(String bankCode, String accountNumber, int amount, String holderName) {
         log.info("Mock 송금 처리 - bankCode: {}, accountNumber: {}, amount: {}, holderName: {}",
@@ -25,4 +32,25 @@ public class MockTossPaymentService implements TossPaymentService {
         response.setAmount(amount);
         return response;
     }
+
+    @Override
+    public TossTransferResponseDto transfer(String bankCode, String accountNumber, int amount, String holderName,
+                                            String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return transfer(bankCode, accountNumber, amount, holderName);
+        }
+        return responsesByIdempotencyKey.computeIfAbsent(idempotencyKey,
+                key -> transfer(bankCode, accountNumber, amount, holderName));
+    }
+
+    @Override
+    public List<TossTransferResponseDto> transferAll(List<TossBulkTransferItemDto> items) {
+        log.info("Mock 일괄 송금 처리 - {}건", items.size());
+        return items.stream().map(item -> {
+            TossTransferResponseDto response = transfer(item.getBankCode(), item.getAccountNumber(),
+                    item.getAmount(), item.getHolderName(), item.getIdempotencyKey());
+            response.setIdempotencyKey(item.getIdempotencyKey());
+            return response;
+        }).toList();
+    }
 }
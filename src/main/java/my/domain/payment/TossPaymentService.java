@@ -1,8 +1,38 @@
 package my.domain.payment;
 
+import my.domain.payment.dto.TossBulkTransferItemDto;
 import my.domain.payment.dto.TossTransferResponseDto;
 
+import java.util.List;
+
 public interface TossPaymentService {
 
     TossTransferResponseDto transfer(String bankCode, String accountNumber, int amount, String holderName);
+
+    /**
+     * 같은 idempotencyKey로 다시 호출하면 송금을 새로 만들지 않고 처음 결과를 돌려준다 (재시도용).
+     * 키를 지원하지 않는 구현은 일반 송금으로 처리한다.
+     */
+    default TossTransferResponseDto transfer(String bankCode, String accountNumber, int amount, String holderName,
+                                             String idempotencyKey) {
+        return transfer(bankCode, accountNumber, amount, holderName);
+    }
+
+    /**
+     * 일괄 송금. 결과는 items와 같은 순서로 항목마다 하나씩 돌려주며, 일부 실패는 예외 대신
+     * status=FAILED 결과로 표시한다 (실패 항목만 같은 idempotencyKey로 다시 보내면 된다).
+     * 일괄 API가 없는 구현은 건별로 보낸다.
+     */
+    default List<TossTransferResponseDto> transferAll(List<TossBulkTransferItemDto> items) {
+        return items.stream().map(item -> {
+            try {
+                TossTransferResponseDto response = transfer(item.getBankCode(), item.getAccountNumber(),
+                        item.getAmount(), item.getHolderName(), item.getIdempotencyKey());
+                response.setIdempotencyKey(item.getIdempotencyKey());
+                return response;
+            } catch (RuntimeException e) {
+                return TossTransferResponseDto.failed(item.getIdempotencyKey(), "TRANSFER_FAILED", e.getMessage());
+            }
+        }).toList();
+    }
 }
@@ -1,8 +1,14 @@
 package my.domain.payment;
 
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import my.common.exception.ApplicationException;
 import my.common.exception.ErrorCode;
+import my.common.http.OutboundHttpClients;
+import my.common.util.ListUtil;
+import my.domain.payment.dto.TossBulkTransferItemDto;
+import my.domain.payment.dto.TossBulkTransferRequestDto;
+import my.domain.payment.dto.TossBulkTransferResponseDto;
 import my.domain.payment.dto.TossTransferRequestDto;
 import my.domain.payment.dto.TossTransferResponseDto;
 import org.springframework.beans.factory.annotation.Value;
@@ -13,7 +19,16 @@ import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Profile("!dev")
 @Slf4j
@@ -23,23 +38,48 @@ public class TossPaymentServiceImpl implements TossPaymentService {
     private final RestTemplate restTemplate;
     private final String secretKey;
     private final String baseUrl;
+    // /payouts/bulk 사용 여부. 기본은 꺼 두고 건별 /payouts 로 보낸다
+    private final boolean bulkEnabled;
+    private final int bulkChunkSize;
+    // 동시에 나가 있는 일괄 송금 요청 수 = 스레드 수
+    private final ExecutorService bulkExecutor;
 
     public TossPaymentServiceImpl(
+            OutboundHttpClients outboundHttpClients,
             @Value("${toss.payments.secret-key}") String secretKey,
-            @Value("${toss.payments.base-url}") String baseUrl
+            @Value("${toss.payments.base-url}") String baseUrl,
+            @Value("${toss.payments.bulk.enabled:false}") boolean bulkEnabled,
+            @Value("${toss.payments.bulk.chunk-size:100}") int bulkChunkSize,
+            @Value("${toss.payments.bulk.max-in-flight:4}") int bulkMaxInFlight
     ) {
-        this.restTemplate = new RestTemplate();
+        AtomicInteger sequence = new AtomicInteger();
+
+        this.restTemplate = outboundHttpClients.restTemplate("toss");
         this.secretKey = secretKey;
         this.baseUrl = baseUrl;
+        this.bulkEnabled = bulkEnabled;
+        this.bulkChunkSize = bulkChunkSize;
+        this.bulkExecutor = Executors.newFixedThreadPool(bulkMaxInFlight, runnable -> {
+            Thread thread = new Thread(runnable, "toss-bulk-transfer-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     @Override
     public TossTransferResponseDto transfer(String bankCode, String accountNumber, int amount, String holderName) {
+        return transfer(bankCode, accountNumber, amount, holderName, null);
+    }
+
+    @Override
+    public TossTransferResponseDto transfer(String bankCode, String accountNumber, int amount, String holderName,
+                                            String idempotencyKey) {
         String url = baseUrl + "/payouts";
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.set("Authorization", "Basic " + encodeSecretKey());
+        HttpHeaders headers = createHeaders();
+        if (idempotencyKey != null) {
+            headers.set("Idempotency-Key", idempotencyKey);
+        }
 
         TossTransferRequestDto requestDto = new TossTransferRequestDto(bankCode, accountNumber, amount, holderName);
         HttpEntity<TossTransferRequestDto> entity = new HttpEntity<>(requestDto, headers);
@@ -58,8 +98,65 @@ public class TossPaymentServiceImpl implements TossPaymentService {
         }
     }
 
+    /**
+     * bulk.chunk-size 단위로 /payouts/bulk 에 보내고, 최대 bulk.max-in-flight 개 요청을 동시에 보낸다.
+     * 요청 자체가 실패한 chunk는 그 항목들만 FAILED(REQUEST_FAILED)로 돌려준다.
+     * bulk.enabled=false 이면 항목마다 /payouts 로 한 건씩 보낸다.
+     */
+    @Override
+    public List<TossTransferResponseDto> transferAll(List<TossBulkTransferItemDto> items) {
+        if (!bulkEnabled) {
+            return TossPaymentService.super.transferAll(items);
+        }
+        List<CompletableFuture<List<TossTransferResponseDto>>> futures = ListUtil.partition(items, bulkChunkSize).stream()
+                .map(chunk -> CompletableFuture.supplyAsync(() -> transferChunk(chunk), bulkExecutor))
+                .toList();
+
+        List<TossTransferResponseDto> results = new ArrayList<>(items.size());
+        futures.forEach(future -> results.addAll(future.join()));
+        return results;
+    }
+
+    private List<TossTransferResponseDto> transferChunk(List<TossBulkTransferItemDto> chunk) {
+        String url = baseUrl + "/payouts/bulk";
+        HttpEntity<TossBulkTransferRequestDto> entity = new HttpEntity<>(new TossBulkTransferRequestDto(chunk), createHeaders());
+
+        try {
+            ResponseEntity<TossBulkTransferResponseDto> response = restTemplate.exchange(
+                    url, HttpMethod.POST, entity, TossBulkTransferResponseDto.class
+            );
+            Map<String, TossTransferResponseDto> resultsByKey = response.getBody() == null || response.getBody().getResults() == null
+                    ? Map.of()
+                    : response.getBody().getResults().stream()
+                            .collect(Collectors.toMap(TossTransferResponseDto::getIdempotencyKey, Function.identity(), (a, b) -> a));
+
+            log.info("토스 일괄 송금 - {}건 요청, {}건 응답", chunk.size(), resultsByKey.size());
+            return chunk.stream()
+                    .map(item -> resultsByKey.getOrDefault(item.getIdempotencyKey(),
+                            TossTransferResponseDto.failed(item.getIdempotencyKey(), "MISSING_RESULT", "응답에 결과가 없습니다")))
+                    .toList();
+        } catch (RestClientException e) {
+            log.error("토스 일괄 송금 요청 실패 - {}건, error: {}", chunk.size(), e.getMessage());
+            return chunk.stream()
+                    .map(item -> TossTransferResponseDto.failed(item.getIdempotencyKey(), "REQUEST_FAILED", e.getMessage()))
+                    .toList();
+        }
+    }
+
+    private HttpHeaders createHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("Authorization", "Basic " + encodeSecretKey());
+        return headers;
+    }
+
     private String encodeSecretKey() {
         String raw = secretKey + ":";
         return Base64.getEncoder().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
     }
+
+    @PreDestroy
+    public void shutdown() {
+        bulkExecutor.shutdown();
+    }
 }
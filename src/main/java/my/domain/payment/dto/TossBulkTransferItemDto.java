@@ -0,0 +1,20 @@
+package my.domain.payment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 송금 요청 항목. idempotencyKey로 응답 결과를 찾고, 같은 키 재요청은 중복 송금되지 않는다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TossBulkTransferItemDto {
+
+    private String idempotencyKey;
+    private String bankCode;
+    private String accountNumber;
+    private int amount;
+    private String holderName;
+}
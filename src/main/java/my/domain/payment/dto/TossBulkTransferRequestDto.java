@@ -0,0 +1,15 @@
+package my.domain.payment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TossBulkTransferRequestDto {
+
+    private List<TossBulkTransferItemDto> payouts;
+}
@@ -0,0 +1,15 @@
+package my.domain.payment.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class TossBulkTransferResponseDto {
+
+    private List<TossTransferResponseDto> results;
+}
@@ -1,5 +1,6 @@
 package my.domain.payment.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -9,6 +10,9 @@ import lombok.Setter;
 @NoArgsConstructor
 public class TossTransferResponseDto {
 
+    public static final String STATUS_FAILED = "FAILED";
+
+    private String idempotencyKey;
     private String payoutKey;
     private String status;
     private String bankCode;
@@ -16,4 +20,18 @@ public class TossTransferResponseDto {
     private int amount;
     private String failureCode;
     private String failureMessage;
+
+    public static TossTransferResponseDto failed(String idempotencyKey, String failureCode, String failureMessage) {
+        TossTransferResponseDto response = new TossTransferResponseDto();
+        response.setIdempotencyKey(idempotencyKey);
+        response.setStatus(STATUS_FAILED);
+        response.setFailureCode(failureCode);
+        response.setFailureMessage(failureMessage);
+        return response;
+    }
+
+    @JsonIgnore
+    public boolean isFailed() {
+        return STATUS_FAILED.equals(status);
+    }
 }
@@ -2,6 +2,7 @@ package my.domain.rental;
 
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.util.List;
 
@@ -9,7 +10,9 @@ import java.util.List;
 public interface RentalSettlementMapper {
 
     int insert(RentalSettlementVO vo);
+    int insertAll(@Param("settlements") List<RentalSettlementVO> settlements);
     List<RentalSettlementDetailVO> selectAllDetail();
+    Cursor<RentalSettlementDetailVO> streamAllDetail();
     List<RentalSettlementDetailVO> selectDetailByBookOwnerId(Long bookOwnerId);
     RentalSettlementVO selectById(Long id);
     int updateStatusPaid(Long id);
@@ -22,6 +25,9 @@ public interface RentalSettlementMapper {
                        @Param("status") String status);
     int update(RentalSettlementVO vo);
     int updateTargetMonth(@Param("id") Long id, @Param("targetMonth") String targetMonth);
+    List<RentalSettlementVO> selectOverdueOfActiveOccupancies(@Param("currentMonth") String currentMonth,
+                                                              @Param("fromBookOwnerId") Long fromBookOwnerId,
+                                                              @Param("toBookOwnerId") Long toBookOwnerId);
     List<RentalSettlementVO> selectOverdueByOccupiedRecordId(@Param("occupiedRecordId") Long occupiedRecordId,
                                                               @Param("currentMonth") String currentMonth);
 }
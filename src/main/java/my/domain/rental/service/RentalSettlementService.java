@@ -2,6 +2,7 @@ package my.domain.rental.service;
 
 import my.domain.rental.RentalSettlementDetailVO;
 import my.domain.rental.RentalSettlementVO;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -10,7 +11,11 @@ public interface RentalSettlementService {
 
     void generateSettlements(Long occupiedRecordId, Long bookOwnerId,
                              LocalDate startDate, LocalDate expirationDate, int monthlyPrice);
+    List<RentalSettlementVO> scheduleSettlements(Long occupiedRecordId, Long bookOwnerId,
+                                                 LocalDate startDate, LocalDate expirationDate, int monthlyPrice);
+    void saveSettlements(List<RentalSettlementVO> settlements);
     List<RentalSettlementDetailVO> findAll();
+    Cursor<RentalSettlementDetailVO> streamAll();
     List<RentalSettlementDetailVO> findByBookOwnerId(Long bookOwnerId);
     RentalSettlementVO pay(Long id);
 }
@@ -5,27 +5,43 @@ import static my.common.util.EntityUtil.requireNonNull;
 import lombok.RequiredArgsConstructor;
 import my.common.exception.ApplicationException;
 import my.common.exception.ErrorCode;
+import my.common.util.ListUtil;
 import my.domain.rental.RentalSettlementDetailVO;
 import my.domain.rental.RentalSettlementMapper;
 import my.domain.rental.RentalSettlementVO;
+import org.apache.ibatis.cursor.Cursor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class RentalSettlementServiceImpl implements RentalSettlementService {
 
+    /** 다중 행 INSERT 한 번에 넣는 임대료 수 (행당 바인드 5개) */
+    static final int INSERT_CHUNK_SIZE = 500;
+    private static final DateTimeFormatter TARGET_MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM");
+
     private final RentalSettlementMapper rentalSettlementMapper;
 
     @Override
     public void generateSettlements(Long occupiedRecordId, Long bookOwnerId,
                                     LocalDate startDate, LocalDate expirationDate, int monthlyPrice) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM");
+        saveSettlements(scheduleSettlements(occupiedRecordId, bookOwnerId, startDate, expirationDate, monthlyPrice));
+    }
+
+    /**
+     * 점유 기간의 월별 임대료 일정을 메모리에서 만든다 (첫 달은 일할 계산, 저장하지 않음).
+     */
+    @Override
+    public List<RentalSettlementVO> scheduleSettlements(Long occupiedRecordId, Long bookOwnerId,
+                                                        LocalDate startDate, LocalDate expirationDate, int monthlyPrice) {
+        List<RentalSettlementVO> settlements = new ArrayList<>();
         YearMonth startMonth = YearMonth.from(startDate);
         YearMonth endMonth = YearMonth.from(expirationDate);
 
@@ -42,11 +58,20 @@ public class RentalSettlementServiceImpl implements RentalSettlementService {
             RentalSettlementVO settlement = new RentalSettlementVO();
             settlement.setOccupiedRecordId(occupiedRecordId);
             settlement.setBookOwnerId(bookOwnerId);
-            settlement.setTargetMonth(current.format(formatter));
+            settlement.setTargetMonth(current.format(TARGET_MONTH_FORMAT));
             settlement.setAmount(amount);
+            settlements.add(settlement);
+        }
+        return settlements;
+    }
 
-            int result = rentalSettlementMapper.insert(settlement);
-            if (result != 1) {
+    /**
+     * 임대료 일정을 다중 행 INSERT로 저장한다. 저장된 행의 ID는 채워지지 않는다.
+     */
+    @Override
+    public void saveSettlements(List<RentalSettlementVO> settlements) {
+        for (List<RentalSettlementVO> chunk : ListUtil.partition(settlements, INSERT_CHUNK_SIZE)) {
+            if (rentalSettlementMapper.insertAll(chunk) != chunk.size()) {
                 throw new ApplicationException(ErrorCode.RENTAL_SETTLEMENT_INSERT_FAIL);
             }
         }
@@ -57,6 +82,11 @@ public class RentalSettlementServiceImpl implements RentalSettlementService {
         return rentalSettlementMapper.selectAllDetail();
     }
 
+    @Override
+    public Cursor<RentalSettlementDetailVO> streamAll() {
+        return rentalSettlementMapper.streamAllDetail();
+    }
+
     @Override
     public List<RentalSettlementDetailVO> findByBookOwnerId(Long bookOwnerId) {
         return rentalSettlementMapper.selectDetailByBookOwnerId(bookOwnerId);
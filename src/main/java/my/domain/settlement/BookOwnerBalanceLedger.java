@@ -0,0 +1,54 @@
+package my.domain.settlement;
+
+import java.util.List;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import my.common.util.ListUtil;
+import my.domain.settlement.vo.BookOwnerBalanceVO;
+
+/**
+ * BookOwner별 미정산 잔액 장부 (BOOK_OWNER_BALANCE).
+ *
+ * 판매 기록 INSERT / 정산 ID 기록과 같은 트랜잭션에서 증감만 반영하므로
+ * 잔액 조회는 BOOK_SALE_RECORD 집계 없이 PK 조회 한 번이다.
+ * 어긋난 값은 BookOwnerBalanceReconciler가 원본 행 기준으로 바로잡는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookOwnerBalanceLedger {
+
+    private final BookOwnerBalanceMapper bookOwnerBalanceMapper;
+
+    public BookOwnerBalanceVO find(Long bookOwnerId) {
+        BookOwnerBalanceVO balance = bookOwnerBalanceMapper.selectByBookOwnerId(bookOwnerId);
+        return balance != null ? balance : BookOwnerBalanceVO.empty(bookOwnerId);
+    }
+
+    /**
+     * 판매 기록 INSERT 직후 호출한다.
+     */
+    public void addSales(List<Long> saleRecordIds) {
+        for (List<Long> chunk : ListUtil.partition(saleRecordIds, ListUtil.IN_CLAUSE_LIMIT)) {
+            try {
+                bookOwnerBalanceMapper.addSales(chunk);
+            } catch (DuplicateKeyException e) {
+                // 첫 판매가 동시에 들어와 잔액 행 INSERT가 겹친 경우, 이제 행이 있으므로 UPDATE로 다시 반영
+                bookOwnerBalanceMapper.addSales(chunk);
+            }
+        }
+    }
+
+    /**
+     * 판매 기록에 정산 ID를 기록할 때 호출한다.
+     */
+    public void subtractSettled(Long bookOwnerId, long grossAmount, long ownerAmount, int recordCount) {
+        if (bookOwnerBalanceMapper.subtract(bookOwnerId, grossAmount, ownerAmount, recordCount) == 0) {
+            log.warn("미정산 잔액 행 없음, 대사에서 재계산 - bookOwnerId: {}", bookOwnerId);
+        }
+    }
+}
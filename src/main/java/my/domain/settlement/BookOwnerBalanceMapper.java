@@ -0,0 +1,20 @@
+package my.domain.settlement;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import my.domain.settlement.vo.BookOwnerBalanceVO;
+
+@Mapper
+public interface BookOwnerBalanceMapper {
+
+    BookOwnerBalanceVO selectByBookOwnerId(Long bookOwnerId);
+    int addSales(@Param("ids") List<Long> saleRecordIds);
+    int subtract(@Param("bookOwnerId") Long bookOwnerId, @Param("grossAmount") long grossAmount,
+                 @Param("ownerAmount") long ownerAmount, @Param("recordCount") int recordCount);
+    List<Long> selectDriftedBookOwnerIds();
+    Long lockByBookOwnerId(Long bookOwnerId);
+    int rebuild(Long bookOwnerId);
+}
@@ -0,0 +1,70 @@
+package my.domain.settlement;
+
+import java.util.List;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * BOOK_OWNER_BALANCE 대사.
+ *
+ * 매일 새벽 잔액 테이블을 미정산 판매 기록 원본 합계와 비교해, 다른 BookOwner만
+ * 행을 잠근 뒤 원본 기준으로 다시 계산한다. 진행 중이던 판매 / 정산 트랜잭션 때문에
+ * 잠깐 달라 보인 경우도 재계산 결과는 같으므로 그대로 둔다.
+ * 바로잡은 건수는 settlement.balance.drift 로 노출된다.
+ */
+@Slf4j
+@Component
+public class BookOwnerBalanceReconciler {
+
+    private final BookOwnerBalanceMapper bookOwnerBalanceMapper;
+    private final TransactionTemplate transaction;
+    private final MeterRegistry meterRegistry;
+
+    public BookOwnerBalanceReconciler(BookOwnerBalanceMapper bookOwnerBalanceMapper,
+                                      PlatformTransactionManager transactionManager,
+                                      MeterRegistry meterRegistry) {
+        this.bookOwnerBalanceMapper = bookOwnerBalanceMapper;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Scheduled(cron = "0 30 4 * * *", zone = "Asia/Seoul")
+    public void nightlyReconcile() {
+        reconcile();
+    }
+
+    /**
+     * 어긋난 BookOwner 잔액을 다시 계산하고 그 수를 돌려준다.
+     */
+    public int reconcile() {
+        List<Long> drifted = bookOwnerBalanceMapper.selectDriftedBookOwnerIds();
+        int repaired = 0;
+        for (Long bookOwnerId : drifted) {
+            try {
+                transaction.executeWithoutResult(status -> {
+                    bookOwnerBalanceMapper.lockByBookOwnerId(bookOwnerId);
+                    bookOwnerBalanceMapper.rebuild(bookOwnerId);
+                });
+                repaired++;
+            } catch (DuplicateKeyException e) {
+                // 그 사이 첫 판매로 잔액 행이 생겼다, 다음 대사에서 다시 본다
+                log.info("미정산 잔액 대사 건너뜀 - bookOwnerId: {}", bookOwnerId);
+            }
+        }
+
+        meterRegistry.counter("settlement.balance.drift").increment(repaired);
+        if (repaired > 0) {
+            log.warn("미정산 잔액 불일치 재계산 - BookOwner {}명: {}", repaired, drifted);
+        } else {
+            log.info("미정산 잔액 대사 완료 - 불일치 없음");
+        }
+        return repaired;
+    }
+}
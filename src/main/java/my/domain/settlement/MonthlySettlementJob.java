@@ -0,0 +1,62 @@
+package my.domain.settlement;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import my.common.exception.ApplicationException;
+import my.common.exception.ErrorCode;
+import my.domain.job.JobLease;
+import my.domain.job.PartitionedJob;
+import my.domain.job.dto.JobPartitionResult;
+import my.domain.job.vo.JobExecutionVO;
+import my.domain.settlement.dto.SettlementBatchReport;
+
+/**
+ * 월초 배치 정산 작업. 키는 정산 월(yyyy-MM), 파티션은 SETTLEMENT_RUN_ITEM의 BookOwner ID 범위.
+ * 정산 실행은 여는 시점의 미정산 판매 전체를 대상으로 하므로 이번 달 키만 받는다.
+ * 계획할 때 정산 실행을 열어(진행 중인 실행이 있으면 그대로 이어 간다) 그 ID를 실행의 TARGET_ID로 남기고,
+ * 파티션과 완료 처리는 그 정산 실행에만 적용한다. 모든 파티션이 끝나면 닫는다.
+ * BookOwner마다 claimItem으로 선점하므로 같은 범위가 다시 처리돼도 두 번 정산하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MonthlySettlementJob implements PartitionedJob {
+
+    public static final String NAME = "monthly-settlement";
+
+    private final SettlementBatchEngine settlementBatchEngine;
+    private final SettlementRunMapper settlementRunMapper;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void validateKey(String jobKey) {
+        if (!PartitionedJob.monthKey(jobKey).equals(YearMonth.now())) {
+            throw new ApplicationException(ErrorCode.JOB_KEY_INVALID);
+        }
+    }
+
+    @Override
+    public List<Long> plan(JobExecutionVO execution) {
+        Long runId = settlementBatchEngine.openRun();
+        execution.setTargetId(runId);
+        return settlementRunMapper.selectPendingOwnerIds(runId);
+    }
+
+    @Override
+    public JobPartitionResult process(JobExecutionVO execution, long fromId, long toId, JobLease lease) {
+        SettlementBatchReport report = settlementBatchEngine.runRange(execution.getTargetId(), fromId, toId, lease);
+        return new JobPartitionResult(report.owners(), report.failed());
+    }
+
+    @Override
+    public void complete(JobExecutionVO execution) {
+        settlementBatchEngine.completeRun(execution.getTargetId());
+    }
+}
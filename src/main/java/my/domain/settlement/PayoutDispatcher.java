@@ -0,0 +1,183 @@
+package my.domain.settlement;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import my.domain.payment.TossPaymentService;
+import my.domain.payment.dto.TossBulkTransferItemDto;
+import my.domain.payment.dto.TossTransferResponseDto;
+import my.domain.settlement.vo.PayoutOutboxVO;
+
+/**
+ * PAYOUT_OUTBOX 송금 디스패처.
+ *
+ * 정산 트랜잭션은 outbox 행만 남기고 커밋하며, 실제 송금은 여기서 트랜잭션 밖에서 일괄 송금으로 보낸다.
+ * 커밋 직후 wakeUp()으로 바로 한 번, 이후 poll-millis 마다 남은 행을 처리한다 (단일 스레드, 요청 중복은 합친다).
+ * 실패하면 retry-base-seconds 부터 두 배씩 늘려 max-attempts 까지 재시도하고, 그 뒤엔 FAILED로 남긴다.
+ * 송금 후 결과 반영 전에 죽으면 lease가 끝난 뒤 같은 Idempotency-Key로 다시 보내므로 이중 송금되지 않는다.
+ * 처리 결과는 payout.dispatch{result=sent|retry|failed} 로 노출된다.
+ */
+@Slf4j
+@Component
+public class PayoutDispatcher {
+
+    static final String STATUS_FAILED = "FAILED";
+    private static final long MAX_RETRY_DELAY_SECONDS = 3600;
+
+    private final PayoutOutboxMapper payoutOutboxMapper;
+    private final SettlementMapper settlementMapper;
+    private final TossPaymentService tossPaymentService;
+    private final TransactionTemplate transaction;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor;
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean();
+
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long leaseSeconds;
+    private final long retryBaseSeconds;
+
+    public PayoutDispatcher(PayoutOutboxMapper payoutOutboxMapper,
+                            SettlementMapper settlementMapper,
+                            TossPaymentService tossPaymentService,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            @Value("${payout.dispatcher.batch-size:50}") int batchSize,
+                            @Value("${payout.dispatcher.max-attempts:8}") int maxAttempts,
+                            @Value("${payout.dispatcher.lease-seconds:60}") long leaseSeconds,
+                            @Value("${payout.dispatcher.retry-base-seconds:30}") long retryBaseSeconds) {
+        this.payoutOutboxMapper = payoutOutboxMapper;
+        this.settlementMapper = settlementMapper;
+        this.tossPaymentService = tossPaymentService;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "payout-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.leaseSeconds = leaseSeconds;
+        this.retryBaseSeconds = retryBaseSeconds;
+    }
+
+    /**
+     * 정산 커밋 직후 호출한다. 이미 대기 중인 실행이 있으면 합친다.
+     */
+    public void wakeUp() {
+        if (wakeUpPending.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                wakeUpPending.set(false);
+                try {
+                    dispatchDue();
+                } catch (RuntimeException e) {
+                    log.error("송금 디스패치 실패", e);
+                }
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${payout.dispatcher.poll-millis:10000}")
+    public void poll() {
+        wakeUp();
+    }
+
+    /**
+     * 지금 보낼 수 있는 outbox 행을 모두 처리하고 시도한 건수를 돌려준다.
+     * batch-size 만큼 선점해 일괄 송금 한 번(transferAll)으로 보낸다.
+     */
+    int dispatchDue() {
+        int attempted = 0;
+        List<PayoutOutboxVO> due;
+        do {
+            due = payoutOutboxMapper.selectDue(batchSize);
+            // 다른 인스턴스가 먼저 가져간 행은 건너뛴다
+            List<PayoutOutboxVO> claimed = due.stream()
+                    .filter(payout -> payoutOutboxMapper.claim(payout.getId(), leaseSeconds) == 1)
+                    .toList();
+            if (!claimed.isEmpty()) {
+                dispatch(claimed);
+                attempted += claimed.size();
+            }
+        } while (due.size() == batchSize);
+        return attempted;
+    }
+
+    private void dispatch(List<PayoutOutboxVO> payouts) {
+        List<TossBulkTransferItemDto> items = payouts.stream()
+                .map(payout -> new TossBulkTransferItemDto(payout.getIdempotencyKey(), payout.getBankCode(),
+                        payout.getAccountNumber(), payout.getAmount(), payout.getHolderName()))
+                .toList();
+
+        List<TossTransferResponseDto> responses;
+        try {
+            responses = tossPaymentService.transferAll(items);
+        } catch (RuntimeException e) {
+            responses = items.stream()
+                    .map(item -> TossTransferResponseDto.failed(item.getIdempotencyKey(), "REQUEST_FAILED", e.getMessage()))
+                    .toList();
+        }
+
+        for (int i = 0; i < payouts.size(); i++) {
+            PayoutOutboxVO payout = payouts.get(i);
+            TossTransferResponseDto response = responses.get(i);
+            int attempt = payout.getAttempts() + 1;
+            if (response.isFailed()) {
+                handleFailure(payout, attempt, response.getFailureCode() + ": " + response.getFailureMessage());
+            } else {
+                markSent(payout, attempt, response);
+            }
+        }
+    }
+
+    private void markSent(PayoutOutboxVO payout, int attempt, TossTransferResponseDto response) {
+        transaction.executeWithoutResult(status -> {
+            payoutOutboxMapper.markSent(payout.getId());
+            settlementMapper.updateTransfer(payout.getSettlementId(), response.getPayoutKey(), response.getStatus());
+        });
+        meterRegistry.counter("payout.dispatch", "result", "sent").increment();
+        log.info("정산 송금 완료 - settlementId: {}, payoutKey: {}, 시도 {}회",
+                payout.getSettlementId(), response.getPayoutKey(), attempt);
+    }
+
+    private void handleFailure(PayoutOutboxVO payout, int attempt, String error) {
+        if (attempt >= maxAttempts) {
+            transaction.executeWithoutResult(status -> {
+                payoutOutboxMapper.markFailed(payout.getId(), error);
+                settlementMapper.updateTransfer(payout.getSettlementId(), null, STATUS_FAILED);
+            });
+            meterRegistry.counter("payout.dispatch", "result", "failed").increment();
+            log.error("정산 송금 최종 실패 - settlementId: {}, 시도 {}회, error: {}",
+                    payout.getSettlementId(), attempt, error);
+            return;
+        }
+
+        long delaySeconds = retryDelaySeconds(attempt);
+        payoutOutboxMapper.markRetry(payout.getId(), delaySeconds, error);
+        meterRegistry.counter("payout.dispatch", "result", "retry").increment();
+        log.warn("정산 송금 실패, {}초 후 재시도 - settlementId: {}, 시도 {}회, error: {}",
+                delaySeconds, payout.getSettlementId(), attempt, error);
+    }
+
+    long retryDelaySeconds(int attempt) {
+        long delay = retryBaseSeconds << Math.min(attempt - 1, 20);
+        return Math.min(delay, MAX_RETRY_DELAY_SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
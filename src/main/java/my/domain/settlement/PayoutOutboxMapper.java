@@ -0,0 +1,18 @@
+package my.domain.settlement;
+
+import my.domain.settlement.vo.PayoutOutboxVO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface PayoutOutboxMapper {
+
+    int insert(PayoutOutboxVO payoutOutboxVO);
+    List<PayoutOutboxVO> selectDue(int limit);
+    int claim(@Param("id") Long id, @Param("leaseSeconds") long leaseSeconds);
+    int markSent(@Param("id") Long id);
+    int markRetry(@Param("id") Long id, @Param("delaySeconds") long delaySeconds, @Param("lastError") String lastError);
+    int markFailed(@Param("id") Long id, @Param("lastError") String lastError);
+}
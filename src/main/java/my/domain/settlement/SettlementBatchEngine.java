@@ -0,0 +1,238 @@
+package my.domain.settlement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import my.common.exception.ApplicationException;
+import my.domain.booksoldrecord.BookSoldRecordMapper;
+import my.domain.booksoldrecord.vo.BookSoldRecordVO;
+import my.domain.job.JobLease;
+import my.domain.settlement.dto.SettlementBatchReport;
+import my.domain.settlement.dto.SettlementRequestDto;
+import my.domain.settlement.service.SettlementService;
+import my.domain.settlement.vo.SettlementRunVO;
+import my.domain.settlement.vo.SettlementVO;
+
+/**
+ * 월초 배치 정산 실행기.
+ *
+ * 실행 시작 시 미정산 BookOwner를 SETTLEMENT_RUN_ITEM으로 스냅샷하고, BookOwner마다
+ * 별도 트랜잭션(정산 + 항목 DONE 처리)으로 워커 풀(settlement.batch.threads)에서 정산한다.
+ * 한 명의 실패는 그 BookOwner만 롤백되고 FAILED로 남는다. 프로세스가 죽으면 실행이 RUNNING으로
+ * 남아 있으므로 다음 openRun()이 그 실행을 돌려주고 남은 PENDING 항목부터 이어서 처리한다.
+ * 호출자가 이미 트랜잭션 안이면 워커 스레드에서는 커밋 전 데이터가 보이지 않으므로
+ * 호출 스레드에서 순차로, BookOwner마다 savepoint(NESTED)를 잡고 처리한다.
+ * 처리량은 settlement.batch.owners{result} / settlement.batch.duration, 풀 상태는 executor.*(name=settlementBatch).
+ * 실행 하나를 여러 인스턴스가 BookOwner ID 범위로 나눠 처리한다(MonthlySettlementJob). runRange / completeRun은
+ * 계획할 때 정한 실행 ID를 받으므로, 그 실행이 닫혔으면 빈 결과로 넘어가지 않고 실패한다.
+ */
+@Slf4j
+@Component
+public class SettlementBatchEngine {
+
+    static final String EXECUTOR_NAME = "settlementBatch";
+
+    private enum Outcome { SETTLED, FAILED, SKIPPED }
+
+    private final SettlementService settlementService;
+    private final SettlementRunMapper settlementRunMapper;
+    private final BookSoldRecordMapper bookSoldRecordMapper;
+    private final TransactionTemplate ownerTransaction;
+    private final ThreadPoolExecutor pool;
+    private final ExecutorService executor;
+    private final MeterRegistry meterRegistry;
+    private final Timer runTimer;
+
+    public SettlementBatchEngine(SettlementService settlementService,
+                                 SettlementRunMapper settlementRunMapper,
+                                 BookSoldRecordMapper bookSoldRecordMapper,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${settlement.batch.threads:4}") int threads) {
+        AtomicInteger sequence = new AtomicInteger();
+
+        this.settlementService = settlementService;
+        this.settlementRunMapper = settlementRunMapper;
+        this.bookSoldRecordMapper = bookSoldRecordMapper;
+        this.ownerTransaction = new TransactionTemplate(transactionManager);
+        this.ownerTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+        // 대기열이 차면 제출하는 스레드가 직접 처리 (BookOwner 수만큼 작업을 쌓아 두지 않는다)
+        this.pool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(threads * 4),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "settlement-batch-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, EXECUTOR_NAME);
+        this.meterRegistry = meterRegistry;
+        this.runTimer = Timer.builder("settlement.batch.duration")
+                .description("배치 정산 1회 소요 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 진행 중인 실행의 ID, 없으면 미정산 BookOwner를 스냅샷해 새 실행을 만든다.
+     */
+    public Long openRun() {
+        SettlementRunVO running = settlementRunMapper.selectRunning();
+        if (running == null) {
+            return startRun();
+        }
+        log.warn("중단된 배치 정산 재개 - runId: {}", running.getId());
+        return running.getId();
+    }
+
+    /**
+     * 실행 runId에서 BookOwner ID가 범위 안인 PENDING 항목만 정산한다. 실행은 닫지 않는다.
+     * BookOwner마다 정산 전에 lease.renew()를 부른다. 실행이 없거나 이미 닫혔으면 IllegalStateException.
+     */
+    public SettlementBatchReport runRange(Long runId, long fromOwnerId, long toOwnerId, JobLease lease) {
+        long start = System.nanoTime();
+
+        requireRunning(runId);
+        List<Outcome> outcomes = settleOwners(runId,
+                settlementRunMapper.selectPendingOwnerIdsInRange(runId, fromOwnerId, toOwnerId), lease);
+        return report(runId, true, outcomes, start);
+    }
+
+    /**
+     * 실행 runId를 닫고 건수를 집계한다. 실행이 없거나 이미 닫혔으면 IllegalStateException.
+     */
+    public void completeRun(Long runId) {
+        if (settlementRunMapper.completeRun(runId) == 0) {
+            throw new IllegalStateException("진행 중인 배치 정산 실행이 아닙니다 - runId: " + runId);
+        }
+    }
+
+    private void requireRunning(Long runId) {
+        SettlementRunVO run = runId != null ? settlementRunMapper.selectById(runId) : null;
+        if (run == null || !"RUNNING".equals(run.getStatus())) {
+            throw new IllegalStateException("진행 중인 배치 정산 실행이 아닙니다 - runId: " + runId);
+        }
+    }
+
+    private List<Outcome> settleOwners(Long runId, List<Long> ownerIds, JobLease lease) {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                ? ownerIds.stream().map(ownerId -> settleOwner(runId, ownerId, lease)).toList()
+                : settleInParallel(runId, ownerIds, lease);
+    }
+
+    private SettlementBatchReport report(Long runId, boolean resumed, List<Outcome> outcomes, long start) {
+        long elapsedNanos = System.nanoTime() - start;
+        runTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        SettlementBatchReport report = SettlementBatchReport.of(runId, resumed,
+                count(outcomes, Outcome.SETTLED), count(outcomes, Outcome.FAILED), count(outcomes, Outcome.SKIPPED),
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        log.info("배치 정산 완료 - runId: {}, BookOwner {}명 (정산 {}, 실패 {}, 건너뜀 {}), {}ms, {}명/s",
+                runId, report.owners(), report.settled(), report.failed(), report.skipped(),
+                report.elapsedMillis(), String.format("%.1f", report.ownersPerSecond()));
+        return report;
+    }
+
+    // 다른 인스턴스가 먼저 실행을 만들었으면 그 실행에 합류한다 (항목은 claimItem으로 나눠 갖는다)
+    private Long startRun() {
+        try {
+            return ownerTransaction.execute(status -> {
+                SettlementRunVO run = new SettlementRunVO();
+                settlementRunMapper.insertRun(run);
+                int owners = settlementRunMapper.insertItems(run.getId());
+                log.info("배치 정산 시작 - runId: {}, 대상 BookOwner {}명", run.getId(), owners);
+                return run.getId();
+            });
+        } catch (DuplicateKeyException e) {
+            SettlementRunVO running = settlementRunMapper.selectRunning();
+            if (running == null) {
+                throw e;
+            }
+            return running.getId();
+        }
+    }
+
+    private List<Outcome> settleInParallel(Long runId, List<Long> ownerIds, JobLease lease) {
+        List<Future<Outcome>> futures = new ArrayList<>(ownerIds.size());
+        for (Long ownerId : ownerIds) {
+            futures.add(executor.submit(() -> settleOwner(runId, ownerId, lease)));
+        }
+
+        List<Outcome> outcomes = new ArrayList<>(futures.size());
+        try {
+            for (Future<Outcome> future : futures) {
+                outcomes.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            // 남은 항목은 PENDING으로 남아 다음 호출에서 재개된다
+            futures.forEach(future -> future.cancel(false));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("배치 정산이 중단되었습니다 - runId: " + runId, e);
+        } catch (ExecutionException e) {
+            // lease를 잃었으면 아직 시작하지 않은 BookOwner는 PENDING으로 남긴다
+            futures.forEach(future -> future.cancel(false));
+            throw new IllegalStateException(e.getCause());
+        }
+        return outcomes;
+    }
+
+    // lease를 잃으면 항목을 FAILED로 남기지 않고 JobLeaseLostException을 그대로 던진다
+    private Outcome settleOwner(Long runId, Long ownerId, JobLease lease) {
+        lease.renew();
+        Outcome outcome;
+        try {
+            outcome = ownerTransaction.execute(status -> {
+                if (settlementRunMapper.claimItem(runId, ownerId) == 0) {
+                    return Outcome.SKIPPED;   // 다른 인스턴스가 처리함
+                }
+                List<Long> saleRecordIds = bookSoldRecordMapper.selectUnsettledByBookOwnerId(ownerId).stream()
+                        .map(BookSoldRecordVO::getId)
+                        .toList();
+                if (saleRecordIds.isEmpty()) {
+                    return Outcome.SKIPPED;
+                }
+
+                SettlementRequestDto dto = new SettlementRequestDto();
+                dto.setBookOwnerId(ownerId);
+                dto.setSaleRecordIds(saleRecordIds);
+                SettlementVO settlement = settlementService.settle(dto);
+                settlementRunMapper.updateItemSettlementId(runId, ownerId, settlement.getId());
+                return Outcome.SETTLED;
+            });
+        } catch (RuntimeException e) {
+            String reason = e instanceof ApplicationException ae ? ae.getErrorCode().name() : e.getClass().getSimpleName();
+            log.warn("배치 정산 실패 - bookOwnerId: {}, reason: {}", ownerId, e.getMessage());
+            ownerTransaction.executeWithoutResult(status -> settlementRunMapper.failItem(runId, ownerId, reason));
+            outcome = Outcome.FAILED;
+        }
+        meterRegistry.counter("settlement.batch.owners", "result", outcome.name().toLowerCase()).increment();
+        return outcome;
+    }
+
+    private static int count(List<Outcome> outcomes, Outcome target) {
+        return (int) outcomes.stream().filter(outcome -> outcome == target).count();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+}
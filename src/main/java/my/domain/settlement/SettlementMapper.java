@@ -1,17 +1,26 @@
 package my.domain.settlement;
 
+import my.domain.settlement.vo.SettlementStatementRowVO;
 import my.domain.settlement.vo.SettlementVO;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Mapper
 public interface SettlementMapper {
 
     List<SettlementVO> selectAll();
+    Cursor<SettlementVO> streamAll();
     List<SettlementVO> selectAllCompleted();
     List<SettlementVO> selectAllByBookOwnerId(Long bookOwnerId);
     List<SettlementVO> selectSettledByBookOwnerId(Long bookOwnerId);
     SettlementVO selectById(Long id);
     int insert(SettlementVO settlementVO);
+    Cursor<SettlementStatementRowVO> streamStatement(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                                     @Param("bookOwnerId") Long bookOwnerId);
+    int updateTransfer(@Param("id") Long id, @Param("payoutKey") String payoutKey,
+                       @Param("transferStatus") String transferStatus);
 }
@@ -0,0 +1,25 @@
+package my.domain.settlement;
+
+import my.domain.settlement.vo.SettlementRunVO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface SettlementRunMapper {
+
+    SettlementRunVO selectById(Long id);
+    SettlementRunVO selectRunning();
+    int insertRun(SettlementRunVO settlementRunVO);
+    int insertItems(Long runId);
+    List<Long> selectPendingOwnerIds(Long runId);
+    List<Long> selectPendingOwnerIdsInRange(@Param("runId") Long runId, @Param("fromOwnerId") long fromOwnerId,
+                                            @Param("toOwnerId") long toOwnerId);
+    int claimItem(@Param("runId") Long runId, @Param("bookOwnerId") Long bookOwnerId);
+    int updateItemSettlementId(@Param("runId") Long runId, @Param("bookOwnerId") Long bookOwnerId,
+                               @Param("settlementId") Long settlementId);
+    int failItem(@Param("runId") Long runId, @Param("bookOwnerId") Long bookOwnerId,
+                 @Param("errorCode") String errorCode);
+    int completeRun(Long runId);
+}
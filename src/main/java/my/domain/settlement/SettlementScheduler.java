@@ -2,24 +2,23 @@ package my.domain.settlement;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import my.domain.settlement.service.SettlementService;
-import my.domain.settlement.vo.SettlementVO;
+import my.domain.job.JobRunner;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
+import java.time.YearMonth;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class SettlementScheduler {
 
-    private final SettlementService settlementService;
+    private final JobRunner jobRunner;
 
+    // 모든 인스턴스에서 실행되지만 이번 달 실행은 한 번만 만들어지고, 파티션을 나눠 처리한다
     @Scheduled(cron = "0 0 6 1 * *", zone = "Asia/Seoul")
     public void monthlySettlement() {
         log.info("월초 배치 정산 시작");
-        List<SettlementVO> results = settlementService.settleAll();
-        log.info("월초 배치 정산 완료 - {}건 처리", results.size());
+        jobRunner.launch(MonthlySettlementJob.NAME, YearMonth.now().toString());
     }
 }
@@ -0,0 +1,17 @@
+package my.domain.settlement.dto;
+
+/**
+ * 배치 정산 1회 호출 결과. owners / settled / failed 는 이번 호출에서 처리한 BookOwner 수
+ * (재개된 실행이면 남아 있던 PENDING 분만 센다). 미정산 내역이 비어 있던 BookOwner는 skipped.
+ */
+public record SettlementBatchReport(Long runId, boolean resumed, int owners, int settled, int failed,
+                                    int skipped, long elapsedMillis, double ownersPerSecond) {
+
+    public static SettlementBatchReport of(Long runId, boolean resumed, int settled, int failed, int skipped,
+                                           long elapsedMillis) {
+        int owners = settled + failed + skipped;
+        double ownersPerSecond = elapsedMillis > 0 ? owners * 1000.0 / elapsedMillis : owners;
+        return new SettlementBatchReport(runId, resumed, owners, settled, failed, skipped,
+                elapsedMillis, ownersPerSecond);
+    }
+}
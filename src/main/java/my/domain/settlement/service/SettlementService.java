@@ -1,18 +1,25 @@
 package my.domain.settlement.service;
 
 import my.domain.booksoldrecord.vo.BookSoldRecordVO;
+import org.apache.ibatis.cursor.Cursor;
 import my.domain.settlement.dto.SettlementRequestDto;
+import my.domain.settlement.vo.BookOwnerBalanceVO;
+import my.domain.settlement.vo.SettlementStatementRowVO;
 import my.domain.settlement.vo.SettlementVO;
 
+import java.time.YearMonth;
 import java.util.List;
 
 public interface SettlementService {
     List<SettlementVO> findAll();
+    Cursor<SettlementVO> streamAll();
+    Cursor<SettlementStatementRowVO> streamStatement(YearMonth month, Long bookOwnerId);
     List<SettlementVO> findAllCompleted();
     List<SettlementVO> findAll(Long BookOwnerId);
     List<SettlementVO> findSettled(Long BookOwnerId);
     List<BookSoldRecordVO> findUnSettled(Long BookOwnerId);
+    BookOwnerBalanceVO findUnsettledBalance(Long bookOwnerId);
     List<BookSoldRecordVO> findAllUnsettled();
+    Cursor<BookSoldRecordVO> streamAllUnsettled();
     SettlementVO settle(SettlementRequestDto requestDto);
-    List<SettlementVO> settleAll();
 }
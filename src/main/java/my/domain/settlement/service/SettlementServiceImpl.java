@@ -7,6 +7,7 @@ import lombok.extern.slf4j.Slf4j;
 import my.common.exception.ApplicationException;
 import my.common.exception.ErrorCode;
 import my.common.util.BankCodeResolver;
+import my.common.util.TransactionUtil;
 import my.domain.bankaccount.BankAccountMapper;
 import my.domain.bankaccount.vo.BankAccountVO;
 import my.domain.bookowner.BookOwnerMapper;
@@ -14,16 +15,21 @@ import my.domain.bookowner.vo.BookOwnerVO;
 import my.domain.booksoldrecord.BookSoldRecordMapper;
 import my.domain.booksoldrecord.vo.BookSoldRecordVO;
 import my.domain.notification.service.NotificationService;
-import my.domain.payment.TossPaymentService;
-import my.domain.payment.dto.TossTransferResponseDto;
+import my.domain.settlement.BookOwnerBalanceLedger;
+import my.domain.settlement.PayoutDispatcher;
+import my.domain.settlement.PayoutOutboxMapper;
 import my.domain.settlement.SettlementMapper;
 import my.domain.settlement.dto.SettlementRequestDto;
+import my.domain.settlement.vo.BookOwnerBalanceVO;
+import my.domain.settlement.vo.PayoutOutboxVO;
+import my.domain.settlement.vo.SettlementStatementRowVO;
 import my.domain.settlement.vo.SettlementVO;
+import org.apache.ibatis.cursor.Cursor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.util.ArrayList;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Map;
 
@@ -32,11 +38,15 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class SettlementServiceImpl implements SettlementService{
 
+    static final String TRANSFER_STATUS_PENDING = "PENDING";
+
     private final SettlementMapper settlementMapper;
     private final BookSoldRecordMapper bookSoldRecordMapper;
     private final BookOwnerMapper bookOwnerMapper;
     private final BankAccountMapper bankAccountMapper;
-    private final TossPaymentService tossPaymentService;
+    private final PayoutOutboxMapper payoutOutboxMapper;
+    private final PayoutDispatcher payoutDispatcher;
+    private final BookOwnerBalanceLedger bookOwnerBalanceLedger;
     private final NotificationService notificationService;
 
     @Override
@@ -44,6 +54,17 @@ public class SettlementServiceImpl implements SettlementService{
         return settlementMapper.selectAll();
     }
 
+    @Override
+    public Cursor<SettlementVO> streamAll() {
+        return settlementMapper.streamAll();
+    }
+
+    @Override
+    public Cursor<SettlementStatementRowVO> streamStatement(YearMonth month, Long bookOwnerId) {
+        return settlementMapper.streamStatement(month.atDay(1).atStartOfDay(),
+                month.plusMonths(1).atDay(1).atStartOfDay(), bookOwnerId);
+    }
+
     @Override
     public List<SettlementVO> findAllCompleted() {
         return settlementMapper.selectAllCompleted();
@@ -64,11 +85,21 @@ public class SettlementServiceImpl implements SettlementService{
         return bookSoldRecordMapper.selectUnsettledByBookOwnerId(bookOwnerId);
     }
 
+    @Override
+    public BookOwnerBalanceVO findUnsettledBalance(Long bookOwnerId) {
+        return bookOwnerBalanceLedger.find(bookOwnerId);
+    }
+
     @Override
     public List<BookSoldRecordVO> findAllUnsettled() {
         return bookSoldRecordMapper.selectUnsettled();
     }
 
+    @Override
+    public Cursor<BookSoldRecordVO> streamAllUnsettled() {
+        return bookSoldRecordMapper.streamUnsettled();
+    }
+
     @Override
     @Transactional
     public SettlementVO settle(SettlementRequestDto requestDto) {
@@ -90,7 +121,7 @@ public class SettlementServiceImpl implements SettlementService{
             throw new ApplicationException(ErrorCode.SETTLEMENT_AMOUNT_ZERO);
         }
 
-        // 송금
+        // 송금 대상 계좌
         BankAccountVO bankAccount = bankAccountMapper.selectById(bookOwnerId);
         String bankCode = bankAccount.getBankCode();
         if (bankCode == null) {
@@ -103,22 +134,19 @@ public class SettlementServiceImpl implements SettlementService{
         BookOwnerVO bookOwner = bookOwnerMapper.selectById(bookOwnerId);
         String holderName = bookOwner.getName();
 
-        TossTransferResponseDto transferResponse = tossPaymentService.transfer(
-                bankCode, bankAccount.getAccountNumber(), ownerAmount, holderName
-        );
-
-        String payoutKey = transferResponse.getPayoutKey();
-        String transferStatus = transferResponse.getStatus();
+        // Settlement INSERT (송금 결과는 PayoutDispatcher가 나중에 반영)
+        SettlementVO settlementVO = createSettlement(bookOwnerId, totalAmount, ownerAmount, storeAmount,
+                null, TRANSFER_STATUS_PENDING);
 
-        log.info("정산 송금 완료 - payoutKey: {}, bookOwnerId: {}, ownerAmount: {}",
-                payoutKey, bookOwnerId, ownerAmount);
+        // 송금은 outbox에만 남기고 커밋 뒤 트랜잭션 밖에서 보낸다
+        enqueuePayout(settlementVO.getId(), bankCode, bankAccount.getAccountNumber(), ownerAmount, holderName);
 
-        // Settlement INSERT
-        SettlementVO settlementVO = createSettlement(bookOwnerId, totalAmount, ownerAmount, storeAmount,
-                payoutKey, transferStatus);
+        log.info("정산 완료, 송금 대기 - settlementId: {}, bookOwnerId: {}, ownerAmount: {}",
+                settlementVO.getId(), bookOwnerId, ownerAmount);
 
         // 판매기록 UPDATE
         bookSoldRecordMapper.updateSettlementId(settlementVO.getId(), saleRecordIds);
+        bookOwnerBalanceLedger.subtractSettled(bookOwnerId, totalAmount, ownerAmount, saleRecordIds.size());
 
         // BookOwner에게 정산 완료 알림
         String formattedAmount = String.format("%,d", ownerAmount);
@@ -132,30 +160,17 @@ public class SettlementServiceImpl implements SettlementService{
         return settlementVO;
     }
 
-    @Override
-    @Transactional
-    public List<SettlementVO> settleAll() {
-        List<Long> ownerIds = bookSoldRecordMapper.selectUnsettledBookOwnerIds();
-        List<SettlementVO> results = new ArrayList<>();
-
-        for (Long ownerId : ownerIds) {
-            List<BookSoldRecordVO> unsettled = bookSoldRecordMapper.selectUnsettledByBookOwnerId(ownerId);
-            if (unsettled.isEmpty()) continue;
-
-            List<Long> saleRecordIds = unsettled.stream().map(BookSoldRecordVO::getId).toList();
-            SettlementRequestDto dto = new SettlementRequestDto();
-            dto.setBookOwnerId(ownerId);
-            dto.setSaleRecordIds(saleRecordIds);
-
-            try {
-                SettlementVO result = settle(dto);
-                results.add(result);
-            } catch (ApplicationException e) {
-                log.warn("배치 정산 실패 - bookOwnerId: {}, reason: {}", ownerId, e.getMessage());
-            }
-        }
-
-        return results;
+    private void enqueuePayout(Long settlementId, String bankCode, String accountNumber, int amount,
+                               String holderName) {
+        PayoutOutboxVO payout = new PayoutOutboxVO();
+        payout.setSettlementId(settlementId);
+        payout.setBankCode(bankCode);
+        payout.setAccountNumber(accountNumber);
+        payout.setAmount(amount);
+        payout.setHolderName(holderName);
+        payout.setIdempotencyKey("settlement-" + settlementId);
+        payoutOutboxMapper.insert(payout);
+        TransactionUtil.afterCommit(payoutDispatcher::wakeUp);
     }
 
     private void validateSaleRecordIds(List<Long> saleRecordIds) {
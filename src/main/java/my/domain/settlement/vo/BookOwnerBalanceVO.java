@@ -0,0 +1,26 @@
+package my.domain.settlement.vo;
+
+import java.sql.Timestamp;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * BookOwner별 미정산 잔액 (BOOK_OWNER_BALANCE).
+ */
+@Getter
+@Setter
+public class BookOwnerBalanceVO {
+    private Long bookOwnerId;
+    private long grossAmount;
+    private long ownerAmount;
+    private long storeAmount;
+    private int recordCount;
+    private Timestamp updatedAt;
+
+    public static BookOwnerBalanceVO empty(Long bookOwnerId) {
+        BookOwnerBalanceVO balance = new BookOwnerBalanceVO();
+        balance.setBookOwnerId(bookOwnerId);
+        return balance;
+    }
+}
@@ -0,0 +1,24 @@
+package my.domain.settlement.vo;
+
+import java.sql.Timestamp;
+
+import lombok.Getter;
+import lombok.Setter;
+import my.common.vo.MyApplicationVO;
+
+@Getter
+@Setter
+public class PayoutOutboxVO extends MyApplicationVO {
+    private Long settlementId;
+    private String bankCode;
+    private String accountNumber;
+    private String holderName;
+    private int amount;
+    private String idempotencyKey;
+    private String status;
+    private int attempts;
+    private Timestamp nextAttemptAt;
+    private String lastError;
+    private Timestamp createdAt;
+    private Timestamp sentAt;
+}
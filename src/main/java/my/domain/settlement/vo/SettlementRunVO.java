@@ -0,0 +1,18 @@
+package my.domain.settlement.vo;
+
+import java.sql.Timestamp;
+
+import lombok.Getter;
+import lombok.Setter;
+import my.common.vo.MyApplicationVO;
+
+@Getter
+@Setter
+public class SettlementRunVO extends MyApplicationVO {
+    private String status;
+    private int totalCount;
+    private int settledCount;
+    private int failedCount;
+    private Timestamp startedAt;
+    private Timestamp finishedAt;
+}
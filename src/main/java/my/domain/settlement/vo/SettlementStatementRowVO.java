@@ -0,0 +1,30 @@
+package my.domain.settlement.vo;
+
+import java.sql.Timestamp;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 월 정산 명세서 한 행 = 정산에 포함된 판매 기록 한 건.
+ * 금액은 settle()과 같은 행 단위 FLOOR로 계산한다.
+ */
+@Getter
+@Setter
+public class SettlementStatementRowVO {
+    private Long settlementId;
+    private Timestamp settledAt;
+    private Long bookOwnerId;
+    private String bookOwnerName;
+    private Long saleRecordId;
+    private String bookName;
+    private Timestamp soldAt;
+    private String buyTypeName;
+    private int soldPrice;
+    private double ownerRatio;
+    private double storeRatio;
+    private int ownerAmount;
+    private int storeAmount;
+    private String payoutKey;
+    private String transferStatus;
+}
@@ -0,0 +1,81 @@
+package my.domain.user;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회원가입 중복 검사 앞단의 Bloom filter (이메일 / 전화번호 / 주민번호 해시).
+ *
+ * 가입 요청 대부분은 새 값이므로 세 filter 모두 "없음"이면 중복 조회 없이 바로 INSERT 한다.
+ * "있을 수도"인 항목만 DB에서 확인하고, 최종 판정은 USERS의 unique index가 한다.
+ * 주민번호는 원문 대신 SHA-256 해시를 넣는다. 탈퇴 회원 값은 지우지 않는다 (오탐일 뿐 누락은 아님).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SignupUniquenessFilter {
+
+    static final int EXPECTED_INSERTIONS = 1_000_000;
+    static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final UserMapper userMapper;
+
+    private final BloomFilter<CharSequence> emails = newBloomFilter();
+    private final BloomFilter<CharSequence> phones = newBloomFilter();
+    private final BloomFilter<CharSequence> residentNumberHashes = newBloomFilter();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        List<UserVO> rows = userMapper.selectSignupKeys();
+        rows.forEach(row -> add(row.getEmail(), row.getPhone(), row.getResidentNumber()));
+        log.info("회원가입 중복 검사 filter 로드 완료 - {}건", rows.size());
+    }
+
+    public boolean mightContainEmail(String email) {
+        return email != null && emails.mightContain(email);
+    }
+
+    public boolean mightContainPhone(String phone) {
+        return phone != null && phones.mightContain(phone);
+    }
+
+    public boolean mightContainResidentNumber(String residentNumber) {
+        return residentNumber != null && residentNumberHashes.mightContain(hash(residentNumber));
+    }
+
+    /**
+     * INSERT / UPDATE가 커밋된 뒤에 호출한다. null 항목은 건너뛴다.
+     */
+    public void add(String email, String phone, String residentNumber) {
+        if (email != null) {
+            emails.put(email);
+        }
+        if (phone != null) {
+            phones.put(phone);
+        }
+        if (residentNumber != null) {
+            residentNumberHashes.put(hash(residentNumber));
+        }
+    }
+
+    private static String hash(String residentNumber) {
+        HashCode hashCode = Hashing.sha256().hashString(residentNumber, StandardCharsets.UTF_8);
+        return hashCode.toString();
+    }
+
+    private static BloomFilter<CharSequence> newBloomFilter() {
+        return BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), EXPECTED_INSERTIONS, FALSE_POSITIVE_RATE);
+    }
+}
@@ -3,6 +3,7 @@ package my.domain.user;
 import my.domain.user.dto.request.UserUpdateDto;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.util.List;
 
@@ -13,11 +14,16 @@ public interface UserMapper {
     UserVO selectById(Long id);
     UserVO selectByEmail(String email);
     List<UserVO> selectAll();
+    Cursor<UserVO> streamAll();
     int update(UserUpdateDto dto);
     int softDeleteOne(Long id);
     UserVO selectByPhone(String phone);
     UserVO selectByResidentNumber(String residentNumber);
     UserVO selectBookOwnerByNameAndPhone(@Param("name") String name, @Param("phone") String phone);
     List<UserVO> selectUsersByPhoneNumberLastFour(@Param("lastFour") String lastFour);
+    List<String> selectDuplicateFields(@Param("email") String email,
+                                       @Param("phone") String phone,
+                                       @Param("residentNumber") String residentNumber);
+    List<UserVO> selectSignupKeys();
 
 }
@@ -3,15 +3,18 @@ package my.domain.user.service;
 import lombok.RequiredArgsConstructor;
 import my.common.exception.ApplicationException;
 import my.common.exception.ErrorCode;
+import my.common.security.PasswordHasher;
+import my.common.util.TransactionUtil;
 import my.domain.address.AddressMapper;
 import my.domain.address.vo.AddressVO;
+import my.domain.catalog.service.BookCatalogService;
+import my.domain.user.SignupUniquenessFilter;
 import my.domain.user.UserMapper;
 import my.domain.user.UserVO;
 import my.domain.user.dto.request.AccountUpdateDto;
 import my.domain.user.dto.request.PasswordChangeDto;
 import my.domain.user.dto.request.UserUpdateDto;
 import my.domain.user.dto.response.MyAccountDto;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,7 +24,9 @@ public class MyAccountServiceImpl implements MyAccountService {
 
     private final UserMapper userMapper;
     private final AddressMapper addressMapper;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final BookCatalogService bookCatalogService;
+    private final SignupUniquenessFilter signupUniquenessFilter;
 
     @Override
     public MyAccountDto getMyAccount(Long userId) {
@@ -65,6 +70,12 @@ public class MyAccountServiceImpl implements MyAccountService {
             userUpdateDto.setName(dto.getName());
             userUpdateDto.setPhone(dto.getPhone());
             userMapper.update(userUpdateDto);
+            if (dto.getName() != null) {
+                bookCatalogService.refreshOwner(userId);
+            }
+            if (dto.getPhone() != null) {
+                TransactionUtil.afterCommit(() -> signupUniquenessFilter.add(null, dto.getPhone(), null));
+            }
         }
 
         // Update address
@@ -97,11 +108,11 @@ public class MyAccountServiceImpl implements MyAccountService {
         if (user == null) throw new ApplicationException(ErrorCode.USER_NOT_FOUND);
 
         // Verify current password
-        if (!passwordEncoder.matches(dto.getCurrentPassword(), user.getPassword())) {
+        if (!passwordHasher.matches(dto.getCurrentPassword(), user.getPassword())) {
             throw new ApplicationException(ErrorCode.PASSWORD_MISMATCH);
         }
 
-        String encoded = passwordEncoder.encode(dto.getNewPassword());
+        String encoded = passwordHasher.encode(dto.getNewPassword());
         UserUpdateDto updateDto = new UserUpdateDto();
         updateDto.setId(userId);
         updateDto.setPassword(encoded);
@@ -2,12 +2,14 @@ package my.domain.user.service;
 
 import my.domain.user.UserVO;
 import my.domain.user.dto.request.UserUpdateDto;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.util.List;
 
 public interface UserService {
 
     List<UserVO> findAll();
+    Cursor<UserVO> streamAll();
     UserVO findById(Long id);
     UserVO update(Long id, UserUpdateDto dto);
     void delete(Long id);
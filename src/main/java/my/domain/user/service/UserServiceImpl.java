@@ -5,10 +5,14 @@ import static my.common.util.EntityUtil.requireNonNull;
 import lombok.RequiredArgsConstructor;
 import my.common.exception.ApplicationException;
 import my.common.exception.ErrorCode;
+import my.common.security.PasswordHasher;
+import my.common.util.TransactionUtil;
+import my.domain.catalog.service.BookCatalogService;
+import my.domain.user.SignupUniquenessFilter;
 import my.domain.user.UserMapper;
 import my.domain.user.UserVO;
 import my.domain.user.dto.request.UserUpdateDto;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.apache.ibatis.cursor.Cursor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,7 +23,9 @@ import java.util.List;
 public class UserServiceImpl implements UserService {
 
     private final UserMapper userMapper;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final BookCatalogService bookCatalogService;
+    private final SignupUniquenessFilter signupUniquenessFilter;
 
     @Override
     public UserVO findById(Long id) {
@@ -31,18 +37,27 @@ public class UserServiceImpl implements UserService {
         return userMapper.selectAll();
     }
 
+    @Override
+    public Cursor<UserVO> streamAll() {
+        return userMapper.streamAll();
+    }
+
     @Override
     @Transactional
     public UserVO update(Long id, UserUpdateDto dto) {
         dto.setId(id);
 
         if (dto.getPassword() != null) {
-            String encodedPassword = passwordEncoder.encode(dto.getPassword());
+            String encodedPassword = passwordHasher.encode(dto.getPassword());
             dto.setPassword(encodedPassword);
         }
 
         int result = userMapper.update(dto);
         if (result == 1) {
+            if (dto.getName() != null) {
+                bookCatalogService.refreshOwner(id);
+            }
+            TransactionUtil.afterCommit(() -> signupUniquenessFilter.add(dto.getEmail(), dto.getPhone(), null));
             return userMapper.selectById(id);
         }
 
@@ -56,5 +71,6 @@ public class UserServiceImpl implements UserService {
         int result = userMapper.softDeleteOne(id);
 
         if (result != 1) throw new ApplicationException(ErrorCode.USER_NOT_FOUND);
+        bookCatalogService.removeOwner(id);
     }
 }
@@ -3,21 +3,34 @@ package my.domain.user.service.auth;
 import static my.common.util.EntityUtil.requireNonNull;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import my.common.exception.ApplicationException;
 import my.common.exception.ErrorCode;
+import my.common.security.PasswordHasher;
+import my.common.util.TransactionUtil;
+import my.domain.user.SignupUniquenessFilter;
 import my.domain.user.UserMapper;
 import my.domain.user.UserVO;
 import my.domain.user.dto.request.LoginRequestDto;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import my.domain.user.dto.request.UserUpdateDto;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserAuthServiceImpl implements UserAuthService {
 
+    private static final String DUPLICATE_EMAIL = "EMAIL";
+    private static final String DUPLICATE_PHONE = "PHONE";
+    private static final String DUPLICATE_RESIDENT_NUMBER = "RESIDENT_NUMBER";
+
     private final UserMapper userMapper;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final SignupUniquenessFilter signupUniquenessFilter;
 
     @Override
     public UserVO findById(Long id) {
@@ -26,23 +39,59 @@ public class UserAuthServiceImpl implements UserAuthService {
 
     @Override
     public int save(UserVO userVO) {
-        if (findByEmail(userVO.getEmail()) != null) {
+        checkDuplicate(userVO.getEmail(), userVO.getPhone(), userVO.getResidentNumber());
+
+        int result;
+        try {
+            result = userMapper.insert(userVO);
+        } catch (DuplicateKeyException e) {
+            // 동시 가입으로 사전 검사를 통과한 경우: unique index 이름으로 어느 항목인지 구분
+            throw new ApplicationException(duplicateErrorCode(e));
+        }
+
+        if (result != 1) {
+            throw new ApplicationException(ErrorCode.USER_INSERT_FAIL);
+        }
+
+        TransactionUtil.afterCommit(() -> signupUniquenessFilter.add(
+                userVO.getEmail(), userVO.getPhone(), userVO.getResidentNumber()));
+        return result;
+    }
+
+    // Bloom filter가 "있을 수도"라고 한 항목만 한 번의 쿼리로 확인한다 (이메일 → 전화번호 → 주민번호 순으로 보고)
+    private void checkDuplicate(String email, String phone, String residentNumber) {
+        String emailToCheck = signupUniquenessFilter.mightContainEmail(email) ? email : null;
+        String phoneToCheck = signupUniquenessFilter.mightContainPhone(phone) ? phone : null;
+        String residentNumberToCheck = signupUniquenessFilter.mightContainResidentNumber(residentNumber) ? residentNumber : null;
+        if (emailToCheck == null && phoneToCheck == null && residentNumberToCheck == null) {
+            return;
+        }
+
+        List<String> duplicates = userMapper.selectDuplicateFields(emailToCheck, phoneToCheck, residentNumberToCheck);
+        if (duplicates.contains(DUPLICATE_EMAIL)) {
             throw new ApplicationException(ErrorCode.DUPLICATE_EMAIL);
         }
-        if (findByPhone(userVO.getPhone()) != null) {
+        if (duplicates.contains(DUPLICATE_PHONE)) {
             throw new ApplicationException(ErrorCode.DUPLICATE_PHONE);
         }
-        if (findByResidentNumber(userVO.getResidentNumber()) != null) {
+        if (duplicates.contains(DUPLICATE_RESIDENT_NUMBER)) {
             throw new ApplicationException(ErrorCode.DUPLICATE_RESIDENT_NUMBER);
         }
+    }
 
-        int result = userMapper.insert(userVO);
-
-        if (result != 1) {
-            throw new ApplicationException(ErrorCode.USER_INSERT_FAIL);
+    // 이메일은 기존 UQ_USERS_EMAIL, 나머지는 sql/17_users_active_unique.sql 의 index 이름
+    private static ErrorCode duplicateErrorCode(DuplicateKeyException e) {
+        String message = String.valueOf(e.getMostSpecificCause().getMessage());
+        if (message.contains("UQ_USERS_EMAIL")) {
+            return ErrorCode.DUPLICATE_EMAIL;
         }
-
-        return result;
+        if (message.contains("UX_USERS_ACTIVE_PHONE")) {
+            return ErrorCode.DUPLICATE_PHONE;
+        }
+        if (message.contains("UX_USERS_ACTIVE_RESIDENT_NUMBER")) {
+            return ErrorCode.DUPLICATE_RESIDENT_NUMBER;
+        }
+        throw e;
     }
 
 
@@ -54,13 +103,30 @@ public class UserAuthServiceImpl implements UserAuthService {
         String storedPassword = user.getPassword();
         String inputPassword = loginRequestDto.getPassword();
 
-        if (!passwordEncoder.matches(inputPassword, storedPassword)) {
+        if (!passwordHasher.matches(inputPassword, storedPassword)) {
             throw new ApplicationException(ErrorCode.INCORRECT_PASSWORD);
         }
 
+        if (passwordHasher.upgradeEncoding(storedPassword)) {
+            rehash(user, inputPassword);
+        }
+
         return user;
     }
 
+    // BCrypt cost가 올라간 뒤 첫 로그인: 평문을 알고 있는 지금 새 cost로 다시 저장
+    private void rehash(UserVO user, String rawPassword) {
+        try {
+            UserUpdateDto updateDto = new UserUpdateDto();
+            updateDto.setId(user.getId());
+            updateDto.setPassword(passwordHasher.encode(rawPassword));
+            userMapper.update(updateDto);
+        } catch (ApplicationException e) {
+            // 실행기 포화 시 재해시는 다음 로그인으로 미룬다 (로그인 자체는 성공)
+            log.warn("비밀번호 재해시 보류 - userId {}: {}", user.getId(), e.getErrorCode());
+        }
+    }
+
     @Override
     public UserVO findByEmail(String email) {
         return userMapper.selectByEmail(email);
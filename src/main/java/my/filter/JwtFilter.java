@@ -4,6 +4,7 @@ import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import my.jwt.JwtPrincipal;
 import my.jwt.JwtProvider;
 import org.springframework.stereotype.Component;
 
@@ -28,9 +29,11 @@ public class JwtFilter implements Filter {
         HttpServletResponse httpServletResponse = (HttpServletResponse) response;
         String path = httpServletRequest.getRequestURI();
         String token = resolveToken(httpServletRequest);
+        JwtPrincipal principal = jwtProvider.authenticate(token);
 
         List<String> whiteList = List.of(
                 "/api/auth/login",
+                "/api/auth/refresh",
                 "/api/auth/book-owner",
                 "/api/auth/customer",
                 "/api/customer/books"
@@ -38,24 +41,21 @@ public class JwtFilter implements Filter {
 
         if (whiteList.stream().anyMatch(path::startsWith)) {
             // 화이트리스트: 토큰 없어도 통과, 있으면 파싱해서 세팅
-            if (token != null && jwtProvider.validateToken(token)) {
-                httpServletRequest.setAttribute("userId", jwtProvider.getUserId(token));
-                httpServletRequest.setAttribute("userRole", jwtProvider.getRole(token));
+            if (principal != null) {
+                setPrincipal(httpServletRequest, principal);
             }
             chain.doFilter(request, response);
             return;
         }
 
-        if (token == null || !jwtProvider.validateToken(token)) {
+        if (principal == null) {
             httpServletResponse.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             httpServletResponse.setContentType("application/json;charset=UTF-8");
             httpServletResponse.getWriter().write("{\"success\":false,\"message\":\"인증이 필요합니다.\"}");
             return;
         }
 
-        httpServletRequest.setAttribute("userId", jwtProvider.getUserId(token));
-        httpServletRequest.setAttribute("userRole", jwtProvider.getRole(token));
-
+        setPrincipal(httpServletRequest, principal);
 
         chain.doFilter(request, response);
     }
@@ -65,6 +65,12 @@ public class JwtFilter implements Filter {
         Filter.super.destroy();
     }
 
+    private void setPrincipal(HttpServletRequest request, JwtPrincipal principal) {
+        request.setAttribute(JwtPrincipal.ATTRIBUTE, principal);
+        request.setAttribute("userId", principal.userId());
+        request.setAttribute("userRole", principal.role().name());
+    }
+
     private String resolveToken(HttpServletRequest request) {
         String bearer = request.getHeader("Authorization");
 
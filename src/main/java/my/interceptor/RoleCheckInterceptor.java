@@ -0,0 +1,101 @@
+package my.interceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import my.annotation.RequireRole;
+import my.common.exception.ApplicationException;
+import my.common.exception.ErrorCode;
+import my.enums.Role;
+import my.jwt.JwtPrincipal;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @RequireRole 권한 / 소유권 검사.
+ * 핸들러 메서드별 허용 Role(EnumSet)과 소유권 검사 여부를 기동 시 한 번 계산해 두고,
+ * 요청마다 JwtFilter가 넘긴 principal의 Role만 비교한다.
+ */
+@Slf4j
+@Component
+public class RoleCheckInterceptor implements HandlerInterceptor {
+
+    private static final RoleRule NO_RULE = new RoleRule(EnumSet.noneOf(Role.class), false);
+
+    private final Map<Method, RoleRule> rules = new ConcurrentHashMap<>();
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void warmUp(ContextRefreshedEvent event) {
+        event.getApplicationContext().getBeansOfType(RequestMappingHandlerMapping.class).values()
+                .forEach(mapping -> mapping.getHandlerMethods().values()
+                        .forEach(handlerMethod -> ruleOf(handlerMethod.getMethod())));
+        log.info("권한 검사 테이블 로드 완료 - 핸들러 {}개", rules.size());
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+
+        RoleRule rule = ruleOf(handlerMethod.getMethod());
+        if (rule == NO_RULE) {
+            return true;
+        }
+
+        JwtPrincipal principal = (JwtPrincipal) request.getAttribute(JwtPrincipal.ATTRIBUTE);
+        if (principal == null || !rule.permittedRoles().contains(principal.role())) {
+            throw new ApplicationException(ErrorCode.FORBIDDEN);
+        }
+
+        // 소유권은 BOOK_OWNER일 때만 검사 (ADMIN은 전체 접근)
+        if (rule.checkOwnership() && principal.role() == Role.BOOK_OWNER) {
+            checkOwnership(request, principal.userId());
+        }
+        return true;
+    }
+
+    // 테이블에 없는 핸들러(기동 후 등록된 매핑 등)는 첫 요청 때 계산해 넣는다
+    private RoleRule ruleOf(Method method) {
+        return rules.computeIfAbsent(method, RoleCheckInterceptor::resolve);
+    }
+
+    private static RoleRule resolve(Method method) {
+        RequireRole requireRole = method.getAnnotation(RequireRole.class);
+        if (requireRole == null) {
+            return NO_RULE;
+        }
+        EnumSet<Role> permittedRoles = EnumSet.noneOf(Role.class);
+        permittedRoles.addAll(Arrays.asList(requireRole.value()));
+        return new RoleRule(permittedRoles, requireRole.checkOwnership());
+    }
+
+    private void checkOwnership(HttpServletRequest request, Long userId) {
+        @SuppressWarnings("unchecked")
+        Map<String, String> pathVariables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+
+        String pathId = pathVariables == null ? null : pathVariables.get("id");
+        if (pathId == null) {
+            return;
+        }
+
+        if (userId != Long.parseLong(pathId)) {
+            throw new ApplicationException(ErrorCode.FORBIDDEN);
+        }
+    }
+
+    private record RoleRule(EnumSet<Role> permittedRoles, boolean checkOwnership) {
+    }
+}
@@ -0,0 +1,18 @@
+package my.jwt;
+
+import my.enums.Role;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 토큰에서 꺼낸 인증 정보.
+ * JwtFilter가 request attribute(ATTRIBUTE)로 넘긴다.
+ */
+public record JwtPrincipal(Long userId, Role role, Instant expiresAt) {
+
+    public static final String ATTRIBUTE = "jwtPrincipal";
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -1,30 +1,76 @@
 package my.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import my.domain.user.UserVO;
+import my.enums.Role;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.UUID;
 
 @Component
 public class JwtProvider {
 
+    private static final String TYPE_CLAIM = "typ";
+    private static final String TYPE_REFRESH = "refresh";
+
+    // 동시에 살아있는 토큰 수 상한 (초과 시 오래 안 쓴 토큰부터 다시 검증)
+    private static final long VERIFIED_CACHE_SIZE = 10_000;
+
     @Value("${jwt.secret}")
     private String secretKey;
     @Value("${jwt.expiration}")
     private Long exp;
+    @Value("${jwt.refresh-expiration:1209600000}")
+    private Long refreshExp;
 
     private SecretKey key;
+    private JwtParser parser;
+
+    // 검증 통과한 토큰 → principal (key: 토큰 SHA-256, 토큰 만료 시각에 같이 만료)
+    private Cache<String, JwtPrincipal> verifiedTokens;
 
 
     @PostConstruct
     public void init() {
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(VERIFIED_CACHE_SIZE)
+                .expireAfter(new Expiry<String, JwtPrincipal>() {
+                    @Override
+                    public long expireAfterCreate(String digest, JwtPrincipal principal, long currentTime) {
+                        return Math.max(0, Duration.between(Instant.now(), principal.expiresAt()).toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String digest, JwtPrincipal principal, long currentTime,
+                                                  long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String digest, JwtPrincipal principal, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
 
     public String createToken(UserVO userVO) {
@@ -43,24 +89,98 @@ public class JwtProvider {
                 .compact();
     }
 
-    public Long getUserId(String token) {
-        Claims claims = parseClaims(token);
+    /**
+     * access token 재발급용 refresh token. 회전마다 새 jti를 붙인다.
+     */
+    public String createRefreshToken(UserVO userVO) {
+        Date now = new Date();
+        Date expiryDate = new Date(now.getTime() + refreshExp);
 
-        return Long.parseLong(claims.getSubject());
+        return Jwts.builder()
+                .id(UUID.randomUUID().toString())
+                .subject(String.valueOf(userVO.getId()))
+                .claim(TYPE_CLAIM, TYPE_REFRESH)
+                .issuedAt(now)
+                .expiration(expiryDate)
+                .signWith(key)
+                .compact();
     }
 
-    public String getRole(String token) {
+    /**
+     * refresh token 서명 / 만료 / 타입을 검증한다. 유효하지 않으면 null.
+     */
+    public RefreshToken parseRefreshToken(String token) {
+        try {
+            Claims claims = parseClaims(token);
+            if (!TYPE_REFRESH.equals(claims.get(TYPE_CLAIM, String.class)) || claims.getId() == null) {
+                return null;
+            }
+            return new RefreshToken(
+                    claims.getId(),
+                    Long.parseLong(claims.getSubject()),
+                    claims.getExpiration().toInstant());
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
 
+    /**
+     * 서명 / 만료를 한 번 검증하고 principal을 만든다.
+     * 검증 실패 시 JwtException / IllegalArgumentException.
+     */
+    public JwtPrincipal parse(String token) {
         Claims claims = parseClaims(token);
+        if (TYPE_REFRESH.equals(claims.get(TYPE_CLAIM, String.class))) {
+            throw new MalformedJwtException("refresh token은 인증에 쓸 수 없습니다");
+        }
+        String role = claims.get("role", String.class);
+        if (role == null) {
+            throw new MalformedJwtException("role claim이 없습니다");
+        }
 
-        return claims.get("role", String.class);
+        return new JwtPrincipal(
+                Long.parseLong(claims.getSubject()),
+                Role.valueOf(role),
+                claims.getExpiration().toInstant());
+    }
+
+    /**
+     * 요청 인증용. 이미 검증한 토큰은 캐시에서 바로 꺼내고, 처음 보는 토큰만 서명을 검증한다.
+     * 유효하지 않으면 null (실패 결과는 캐시하지 않는다).
+     */
+    public JwtPrincipal authenticate(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+
+        String digest = digest(token);
+        JwtPrincipal cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null && !cached.isExpired(Instant.now())) {
+            return cached;
+        }
+
+        try {
+            JwtPrincipal principal = parse(token);
+            verifiedTokens.put(digest, principal);
+            return principal;
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    public Long getUserId(String token) {
+        return parse(token).userId();
+    }
+
+    public String getRole(String token) {
+        return parse(token).role().name();
     }
 
 
     public boolean validateToken(String token) {
 
         try {
-            parseClaims(token);
+            parse(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             return false;
@@ -70,12 +190,19 @@ public class JwtProvider {
 
 
     private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
+        return parser
                 .parseSignedClaims(token)
                 .getPayload();
     }
 
+    private String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
 
 }
@@ -8,5 +8,6 @@ import lombok.Getter;
 public class JwtTokenResponseDto {
 
     private String token;
+    private String refreshToken;
 
 }
@@ -0,0 +1,9 @@
+package my.jwt;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 refresh token 정보. jti는 토큰마다 새로 발급되는 ID로, 회전 시 폐기 대상이 된다.
+ */
+public record RefreshToken(String jti, Long userId, Instant expiresAt) {
+}
@@ -0,0 +1,13 @@
+package my.jwt;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class RefreshTokenRequestDto {
+
+    @NotBlank(message = "refresh token은 필수입니다")
+    private String refreshToken;
+}
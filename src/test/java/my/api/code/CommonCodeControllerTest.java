@@ -0,0 +1,101 @@
+package my.api.code;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import my.common.response.ApiResponse;
+import my.domain.code.CommonCodeCache;
+import my.domain.code.CommonCodeVO;
+import my.domain.code.service.CommonCodeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class CommonCodeControllerTest {
+
+    private CommonCodeService commonCodeService;
+
+    @BeforeEach
+    void setUp() {
+        commonCodeService = mock(CommonCodeService.class);
+    }
+
+    private CommonCodeController controller(long cacheSeconds) {
+        return new CommonCodeController(new CommonCodeCache(commonCodeService, new SimpleMeterRegistry(), cacheSeconds));
+    }
+
+    private static CommonCodeVO code(String code, String codeName) {
+        CommonCodeVO vo = new CommonCodeVO();
+        vo.setGroupCode("BOOK_TYPE");
+        vo.setCode(code);
+        vo.setCodeName(codeName);
+        return vo;
+    }
+
+    private ServletWebRequest request(String ifNoneMatch, MockHttpServletResponse response) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/common-codes");
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        return new ServletWebRequest(request, response);
+    }
+
+    private String firstEtag(CommonCodeController controller) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        controller.findByGroupCode("BOOK_TYPE", request(null, response));
+        return response.getHeader("ETag");
+    }
+
+    @Test
+    @DisplayName("캐시된 그룹이면 DB를 다시 읽지 않고 304")
+    void findByGroupCode_notModifiedFromCache() {
+        given(commonCodeService.findByGroupCode("BOOK_TYPE")).willReturn(List.of(code("01", "소설")));
+        CommonCodeController controller = controller(300);
+        String etag = firstEtag(controller);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        ApiResponse<List<CommonCodeVO>> result = controller.findByGroupCode("BOOK_TYPE", request(etag, response));
+
+        assertThat(result).isNull();
+        assertThat(response.getStatus()).isEqualTo(304);
+        verify(commonCodeService, times(1)).findByGroupCode("BOOK_TYPE");
+    }
+
+    @Test
+    @DisplayName("코드 내용이 같으면 다른 인스턴스가 발급한 ETag에도 304")
+    void findByGroupCode_sameContentAcrossInstances() {
+        given(commonCodeService.findByGroupCode("BOOK_TYPE")).willReturn(List.of(code("01", "소설")));
+        String etag = firstEtag(controller(300));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        ApiResponse<List<CommonCodeVO>> result = controller(300).findByGroupCode("BOOK_TYPE", request(etag, response));
+
+        assertThat(result).isNull();
+        assertThat(response.getStatus()).isEqualTo(304);
+    }
+
+    @Test
+    @DisplayName("캐시가 만료된 뒤 코드가 바뀌었으면 새 ETag와 함께 코드 목록을 반환한다")
+    void findByGroupCode_changedContent() {
+        CommonCodeController controller = controller(0);
+        given(commonCodeService.findByGroupCode("BOOK_TYPE"))
+                .willReturn(List.of(code("01", "소설")))
+                .willReturn(List.of(code("01", "장편소설")));
+        String oldEtag = firstEtag(controller);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        ApiResponse<List<CommonCodeVO>> result = controller.findByGroupCode("BOOK_TYPE", request(oldEtag, response));
+
+        assertThat(result).isNotNull();
+        assertThat(response.getHeader("ETag")).isNotEqualTo(oldEtag);
+    }
+}
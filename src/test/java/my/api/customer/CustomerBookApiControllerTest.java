@@ -0,0 +1,130 @@
+package my.api.customer;
+
+import my.common.response.ApiResponse;
+import my.common.response.CursorPage;
+import my.domain.book.BookService;
+import my.domain.book.CustomerBookDetailVO;
+import my.domain.booksoldrecord.BookSoldRecordMapper;
+import my.domain.catalog.CatalogVersion;
+import my.domain.catalog.CatalogVersionMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class CustomerBookApiControllerTest {
+
+    private BookService bookService;
+    private CatalogVersionMapper catalogVersionMapper;
+    private CatalogVersion catalogVersion;
+    private CustomerBookApiController controller;
+
+    @BeforeEach
+    void setUp() {
+        bookService = mock(BookService.class);
+        catalogVersionMapper = new FakeCatalogVersionMapper();
+        catalogVersion = new CatalogVersion(catalogVersionMapper);
+        controller = new CustomerBookApiController(bookService, mock(BookSoldRecordMapper.class), catalogVersion);
+    }
+
+    private ServletWebRequest request(String ifNoneMatch, MockHttpServletResponse response) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/customer/books");
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        return new ServletWebRequest(request, response);
+    }
+
+    @Test
+    @DisplayName("버전이 같으면 서비스를 호출하지 않고 304")
+    void findAll_notModified() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        ApiResponse<List<CustomerBookDetailVO>> result = controller.findAll(
+                null, null, null, null, null, 20, request(catalogVersion.etag(CatalogVersion.Scope.BOOKS), response));
+
+        assertThat(result).isNull();
+        assertThat(response.getStatus()).isEqualTo(304);
+        verifyNoInteractions(bookService);
+    }
+
+    @Test
+    @DisplayName("버전이 바뀌면 새 ETag와 함께 조회 결과를 반환한다")
+    void findAll_modified() {
+        String oldEtag = catalogVersion.etag(CatalogVersion.Scope.BOOKS);
+        catalogVersion.bumpCatalog();
+        given(bookService.findForCustomerBrowse(any(), any(), any(), any(), any(), anyInt()))
+                .willReturn(new CursorPage<>(List.of(), null));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        ApiResponse<List<CustomerBookDetailVO>> result = controller.findAll(
+                null, null, null, null, null, 20, request(oldEtag, response));
+
+        assertThat(result).isNotNull();
+        assertThat(response.getHeader("ETag")).isEqualTo(catalogVersion.etag(CatalogVersion.Scope.BOOKS));
+    }
+
+    @Test
+    @DisplayName("팔로우 변경은 도서 목록 ETag를 바꾸지 않는다")
+    void findAll_followDoesNotChangeBooks() {
+        String etag = catalogVersion.etag(CatalogVersion.Scope.BOOKS);
+        catalogVersion.bumpBookstores();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        ApiResponse<List<CustomerBookDetailVO>> result = controller.findAll(
+                null, null, null, null, null, 20, request(etag, response));
+
+        assertThat(result).isNull();
+        assertThat(response.getStatus()).isEqualTo(304);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 쓰기가 일어나도 버전을 공유하므로 이전 ETag에 304를 주지 않는다")
+    void findAll_modifiedOnOtherInstance() {
+        String oldEtag = catalogVersion.etag(CatalogVersion.Scope.BOOKS);
+        new CatalogVersion(catalogVersionMapper).bumpCatalog();
+        given(bookService.findForCustomerBrowse(any(), any(), any(), any(), any(), anyInt()))
+                .willReturn(new CursorPage<>(List.of(), null));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        ApiResponse<List<CustomerBookDetailVO>> result = controller.findAll(
+                null, null, null, null, null, 20, request(oldEtag, response));
+
+        assertThat(result).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    // CATALOG_*_VERSION_SEQ 시퀀스
+    private static class FakeCatalogVersionMapper implements CatalogVersionMapper {
+
+        private final Map<String, AtomicLong> sequences = new ConcurrentHashMap<>();
+
+        private AtomicLong sequence(String sequenceName) {
+            return sequences.computeIfAbsent(sequenceName, name -> new AtomicLong(1));
+        }
+
+        @Override
+        public long selectVersion(String sequenceName) {
+            return sequence(sequenceName).get();
+        }
+
+        @Override
+        public long nextVersion(String sequenceName) {
+            return sequence(sequenceName).getAndIncrement();
+        }
+    }
+}
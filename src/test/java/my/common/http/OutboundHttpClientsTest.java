@@ -0,0 +1,168 @@
+package my.common.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.util.Timeout;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class OutboundHttpClientsTest {
+
+    private final AtomicInteger hits = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ExecutorService serverExecutor = Executors.newFixedThreadPool(4);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private HttpServer server;
+    private OutboundHttpClients outboundHttpClients;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ok", exchange -> respond(exchange, 200));
+        server.createContext("/error", exchange -> respond(exchange, 500));
+        server.createContext("/slow", exchange -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200);
+        });
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        OutboundHttpProperties.Integration integration = new OutboundHttpProperties.Integration();
+        integration.setConnectTimeout(Duration.ofMillis(300));
+        integration.setReadTimeout(Duration.ofMillis(500));
+        integration.setMaxConcurrentCalls(1);
+        integration.setSlidingWindowSize(4);
+        integration.setMinimumNumberOfCalls(4);
+        integration.setOpenDuration(Duration.ofMinutes(1));
+
+        OutboundHttpProperties properties = new OutboundHttpProperties();
+        properties.getIntegrations().put("test", integration);
+        outboundHttpClients = new OutboundHttpClients(properties, new RestTemplateBuilder(), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        outboundHttpClients.shutdown();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    private String url(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+
+    private void respond(HttpExchange exchange, int status) throws IOException {
+        hits.incrementAndGet();
+        byte[] bytes = "ok".getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Test
+    @DisplayName("같은 연동 이름에는 같은 RestTemplate을 돌려준다")
+    void restTemplate_cachedPerIntegration() {
+        RestTemplate toss = outboundHttpClients.restTemplate("test");
+
+        assertThat(outboundHttpClients.restTemplate("test")).isSameAs(toss);
+        assertThat(outboundHttpClients.restTemplate("other")).isNotSameAs(toss);
+        assertThat(toss.getForObject(url("/ok"), String.class)).isEqualTo("ok");
+    }
+
+    @Test
+    @DisplayName("5xx가 이어지면 circuit이 열리고, 이후 호출은 서버에 가지 않고 바로 실패한다")
+    void circuitOpensAfterServerErrors() {
+        RestTemplate restTemplate = outboundHttpClients.restTemplate("test");
+
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> restTemplate.getForObject(url("/error"), String.class))
+                    .isInstanceOf(HttpServerErrorException.class);
+        }
+
+        assertThat(outboundHttpClients.circuitBreaker("test").getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> restTemplate.getForObject(url("/ok"), String.class))
+                .isInstanceOf(ResourceAccessException.class)
+                .hasMessageContaining("circuit open");
+        assertThat(hits.get()).isEqualTo(4);
+        assertThat(meterRegistry.find("resilience4j.circuitbreaker.state").tag("name", "test").gauges()).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("동시 호출 수가 max-concurrent-calls를 넘으면 기다리지 않고 실패한다")
+    void bulkheadRejectsWhenFull() throws Exception {
+        RestTemplate restTemplate = outboundHttpClients.restTemplate("test");
+        CompletableFuture<String> inFlight = CompletableFuture.supplyAsync(
+                () -> restTemplate.getForObject(url("/slow"), String.class));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (!bulkheadBusy() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+
+        assertThatThrownBy(() -> restTemplate.getForObject(url("/ok"), String.class))
+                .isInstanceOf(ResourceAccessException.class)
+                .hasMessageContaining("bulkhead full");
+
+        release.countDown();
+        assertThat(inFlight.get(5, TimeUnit.SECONDS)).isEqualTo("ok");
+    }
+
+    @Test
+    @DisplayName("read-timeout을 넘긴 응답은 ResourceAccessException으로 끝난다")
+    void readTimeoutApplied() {
+        RestTemplate restTemplate = outboundHttpClients.restTemplate("test");
+
+        assertThatThrownBy(() -> restTemplate.getForObject(url("/slow"), String.class))
+                .isInstanceOf(ResourceAccessException.class);
+    }
+
+    @Test
+    @DisplayName("연결 타임아웃은 그 연동으로 호출한 호스트의 ConnectionConfig로 적용된다")
+    void connectTimeoutResolvedPerHost() {
+        HttpRoute route = new HttpRoute(new HttpHost("http", "127.0.0.1", server.getAddress().getPort()));
+        assertThat(outboundHttpClients.connectionConfig(route).getConnectTimeout()).isEqualTo(Timeout.ofSeconds(2));
+
+        outboundHttpClients.restTemplate("test").getForObject(url("/ok"), String.class);
+
+        assertThat(outboundHttpClients.connectionConfig(route).getConnectTimeout()).isEqualTo(Timeout.ofMilliseconds(300));
+    }
+
+    private boolean bulkheadBusy() {
+        return meterRegistry.find("resilience4j.bulkhead.available.concurrent.calls").tag("name", "test")
+                .gauge().value() == 0;
+    }
+}
@@ -0,0 +1,142 @@
+package my.common.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.ibatis.cursor.Cursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class ApiResponseStreamerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private PlatformTransactionManager transactionManager;
+    private ApiResponseStreamer streamer;
+
+    @BeforeEach
+    void setUp() {
+        transactionManager = mock(PlatformTransactionManager.class);
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+        streamer = new ApiResponseStreamer(objectMapper, transactionManager);
+    }
+
+    @Test
+    @DisplayName("ApiResponse와 같은 형식으로 모든 항목을 출력한다")
+    void write_envelope() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        streamer.write(List.of(Map.of("id", 1), Map.of("id", 2)), out);
+
+        JsonNode root = objectMapper.readTree(out.toByteArray());
+        assertThat(root.get("success").asBoolean()).isTrue();
+        assertThat(root.get("code").asInt()).isEqualTo(200);
+        assertThat(root.get("message").asText()).isEqualTo("요청 성공");
+        assertThat(root.get("data")).hasSize(2);
+        assertThat(root.get("data").get(1).get("id").asInt()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("결과가 없으면 빈 배열을 출력한다")
+    void write_empty() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        streamer.write(List.of(), out);
+
+        assertThat(objectMapper.readTree(out.toByteArray()).get("data")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("읽는 도중 실패하면 닫는 괄호 없이 끝나 잘린 응답이 올바른 JSON이 되지 않는다")
+    void write_failureLeavesInvalidJson() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Iterable<Map<String, Integer>> failingAfterTwo = () -> new Iterator<>() {
+            private int next = 1;
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Map<String, Integer> next() {
+                if (next > 2) {
+                    throw new IllegalStateException("cursor failed");
+                }
+                return Map.of("id", next++);
+            }
+        };
+
+        assertThatThrownBy(() -> streamer.write(failingAfterTwo, out))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(out.toString()).contains("{\"id\":2}").doesNotEndWith("]}");
+        assertThatThrownBy(() -> objectMapper.readTree(out.toByteArray()))
+                .isInstanceOf(JsonProcessingException.class);
+    }
+
+    @Test
+    @DisplayName("커서는 트랜잭션 안에서 읽고 출력 후 닫는다")
+    void stream_closesCursorInTransaction() throws Exception {
+        FakeCursor cursor = new FakeCursor(List.of("a", "b", "c"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ResponseEntity<StreamingResponseBody> response = streamer.stream(() -> cursor);
+        response.getBody().writeTo(out);
+
+        assertThat(objectMapper.readTree(out.toByteArray()).get("data")).hasSize(3);
+        assertThat(cursor.isOpen()).isFalse();
+        verify(transactionManager).commit(any());
+    }
+
+    private static class FakeCursor implements Cursor<String> {
+
+        private final List<String> items;
+        private boolean open = true;
+
+        FakeCursor(List<String> items) {
+            this.items = items;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public boolean isConsumed() {
+            return false;
+        }
+
+        @Override
+        public int getCurrentIndex() {
+            return -1;
+        }
+
+        @Override
+        public void close() {
+            open = false;
+        }
+
+        @Override
+        public Iterator<String> iterator() {
+            return items.iterator();
+        }
+    }
+}
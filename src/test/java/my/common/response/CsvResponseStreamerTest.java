@@ -0,0 +1,149 @@
+package my.common.response;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class CsvResponseStreamerTest {
+
+    private PlatformTransactionManager transactionManager;
+    private CsvResponseStreamer streamer;
+
+    @BeforeEach
+    void setUp() {
+        transactionManager = mock(PlatformTransactionManager.class);
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+        streamer = new CsvResponseStreamer(transactionManager);
+    }
+
+    private static String gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    @DisplayName("BOM과 헤더 뒤에 값을 CSV 규칙대로 이스케이프해 gzip으로 쓴다")
+    void writeGzip_escapesValues() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Timestamp soldAt = Timestamp.valueOf(LocalDateTime.of(2026, 9, 3, 14, 5, 9));
+        List<List<?>> rows = List.of(
+                Arrays.asList(1L, "홍길동", soldAt, 10000, 0.7, null),
+                Arrays.asList(2L, "책, \"특별판\"", null, -500, 0.3, "=HYPERLINK()"));
+
+        long count = streamer.writeGzip("test.csv.gz", List.of("ID", "이름", "판매일시", "금액", "비율", "비고"),
+                rows, row -> row, out);
+
+        assertThat(count).isEqualTo(2);
+        assertThat(gunzip(out.toByteArray())).isEqualTo(
+                "\uFEFFID,이름,판매일시,금액,비율,비고\r\n"
+                        + "1,홍길동,2026-09-03 14:05:09,10000,0.7,\r\n"
+                        + "2,\"책, \"\"특별판\"\"\",,-500,0.3,'=HYPERLINK()\r\n");
+    }
+
+    @Test
+    @DisplayName("커서는 트랜잭션 안에서 읽고 닫으며, 첨부 파일로 내려준다")
+    void streamGzip_closesCursorInTransaction() throws Exception {
+        FakeCursor cursor = new FakeCursor(List.of("a", "b", "c"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ResponseEntity<StreamingResponseBody> response =
+                streamer.streamGzip("statement.csv.gz", List.of("값"), () -> cursor, List::of);
+        response.getBody().writeTo(out);
+
+        assertThat(response.getHeaders().getContentType()).isEqualTo(CsvResponseStreamer.APPLICATION_GZIP);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION))
+                .contains("attachment").contains("statement.csv.gz");
+        assertThat(gunzip(out.toByteArray())).isEqualTo("\uFEFF값\r\na\r\nb\r\nc\r\n");
+        assertThat(cursor.isOpen()).isFalse();
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("백만 행도 모아 두지 않고 흘려보낸다")
+    void writeGzip_millionRows() throws Exception {
+        Iterable<Long> rows = () -> LongStream.range(0, 1_000_000).iterator();
+        CountingSink sink = new CountingSink();
+
+        long count = streamer.writeGzip("large.csv.gz", List.of("ID", "금액"), rows,
+                id -> List.of(id, id * 10), sink);
+
+        assertThat(count).isEqualTo(1_000_000);
+        assertThat(sink.bytes).isPositive();
+    }
+
+    /** 받은 바이트 수만 세고 버린다 */
+    private static class CountingSink extends OutputStream {
+        private long bytes;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+        }
+    }
+
+    private static class FakeCursor implements Cursor<String> {
+
+        private final List<String> items;
+        private boolean open = true;
+
+        FakeCursor(List<String> items) {
+            this.items = items;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public boolean isConsumed() {
+            return false;
+        }
+
+        @Override
+        public int getCurrentIndex() {
+            return -1;
+        }
+
+        @Override
+        public void close() {
+            open = false;
+        }
+
+        @Override
+        public Iterator<String> iterator() {
+            return items.iterator();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package my.common.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import my.common.exception.ApplicationException;
+import my.common.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginThrottleTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger loginCalls = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private LoginThrottle throttle;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        throttle = new LoginThrottle(meterRegistry, clock::get);
+    }
+
+    private void advance(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+    }
+
+    private Supplier<String> success() {
+        return () -> {
+            loginCalls.incrementAndGet();
+            return "ok";
+        };
+    }
+
+    private Supplier<String> wrongPassword() {
+        return () -> {
+            loginCalls.incrementAndGet();
+            throw new ApplicationException(ErrorCode.INCORRECT_PASSWORD);
+        };
+    }
+
+    private ErrorCode errorOf(String email, String ip, Supplier<String> login) {
+        try {
+            throttle.guard(email, ip, login);
+            return null;
+        } catch (ApplicationException e) {
+            return e.getErrorCode();
+        }
+    }
+
+    private double rejected(String key) {
+        return meterRegistry.get("login.throttle.rejected").tag("key", key).counter().count();
+    }
+
+    @Test
+    @DisplayName("이메일 버킷이 비면 로그인 로직을 실행하지 않고 429")
+    void emailBucketExhausted() {
+        for (int i = 0; i < LoginThrottle.EMAIL_POLICY.capacity(); i++) {
+            throttle.guard("a@test.com", "1.1.1.1", success());
+        }
+
+        assertThatThrownBy(() -> throttle.guard("A@test.com ", "1.1.1.1", success()))
+                .isInstanceOf(ApplicationException.class)
+                .extracting(e -> ((ApplicationException) e).getErrorCode())
+                .isEqualTo(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+        assertThat(loginCalls.get()).isEqualTo(LoginThrottle.EMAIL_POLICY.capacity());
+        assertThat(rejected("email")).isEqualTo(1.0);
+        assertThat(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS.getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 토큰이 다시 채워진다")
+    void refill() {
+        for (int i = 0; i < LoginThrottle.EMAIL_POLICY.capacity(); i++) {
+            throttle.guard("a@test.com", "1.1.1.1", success());
+        }
+
+        advance(LoginThrottle.EMAIL_POLICY.refillInterval());
+
+        assertThat(throttle.guard("a@test.com", "1.1.1.1", success())).isEqualTo("ok");
+    }
+
+    @Test
+    @DisplayName("연속 실패가 임계치에 닿으면 잠기고, 실패할수록 잠금이 두 배로 늘어난다")
+    void exponentialLockout() {
+        int threshold = LoginThrottle.EMAIL_POLICY.lockoutThreshold();
+        for (int i = 0; i < threshold; i++) {
+            assertThat(errorOf("a@test.com", "1.1.1.1", wrongPassword())).isEqualTo(ErrorCode.INCORRECT_PASSWORD);
+            advance(LoginThrottle.EMAIL_POLICY.refillInterval());
+        }
+
+        // 임계치 도달: 1초 잠금 (refillInterval 만큼 지났으므로 이미 풀림) → 한 번 더 실패하면 2초 잠금
+        assertThat(errorOf("a@test.com", "1.1.1.1", wrongPassword())).isEqualTo(ErrorCode.INCORRECT_PASSWORD);
+        advance(Duration.ofMillis(1500));
+        assertThat(errorOf("a@test.com", "1.1.1.1", success())).isEqualTo(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+        advance(Duration.ofMillis(600));
+        assertThat(errorOf("a@test.com", "1.1.1.1", success())).isNull();
+    }
+
+    @Test
+    @DisplayName("로그인 성공 시 이메일의 실패 횟수가 초기화된다")
+    void successResetsFailures() {
+        int threshold = LoginThrottle.EMAIL_POLICY.lockoutThreshold();
+        for (int i = 0; i < threshold - 1; i++) {
+            errorOf("a@test.com", "1.1.1.1", wrongPassword());
+            advance(LoginThrottle.EMAIL_POLICY.refillInterval());
+        }
+        throttle.guard("a@test.com", "1.1.1.1", success());
+        advance(LoginThrottle.EMAIL_POLICY.refillInterval());
+
+        errorOf("a@test.com", "1.1.1.1", wrongPassword());
+
+        assertThat(errorOf("a@test.com", "1.1.1.1", success())).isNull();
+    }
+
+    @Test
+    @DisplayName("한 IP에서 여러 이메일로 시도해도 IP 버킷에서 막힌다")
+    void ipBucket() {
+        for (int i = 0; i < LoginThrottle.IP_POLICY.capacity(); i++) {
+            throttle.guard("user" + i + "@test.com", "2.2.2.2", success());
+        }
+
+        assertThat(errorOf("other@test.com", "2.2.2.2", success())).isEqualTo(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+        assertThat(errorOf("other@test.com", "3.3.3.3", success())).isNull();
+        assertThat(rejected("ip")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("해시 실행기 포화 같은 다른 오류는 실패로 세지 않는다")
+    void otherErrorsNotCounted() {
+        for (int i = 0; i < LoginThrottle.EMAIL_POLICY.lockoutThreshold() + 2; i++) {
+            errorOf("a@test.com", "1.1.1.1", () -> {
+                throw new ApplicationException(ErrorCode.PASSWORD_HASHER_BUSY);
+            });
+            advance(LoginThrottle.EMAIL_POLICY.refillInterval());
+        }
+
+        assertThat(errorOf("a@test.com", "1.1.1.1", success())).isNull();
+    }
+}
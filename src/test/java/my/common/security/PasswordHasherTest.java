@@ -0,0 +1,83 @@
+package my.common.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import my.common.exception.ApplicationException;
+import my.common.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class PasswordHasherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordHasher hasher;
+
+    @AfterEach
+    void tearDown() {
+        hasher.shutdown();
+    }
+
+    @Test
+    @DisplayName("실행기에서 해시 / 검증한 결과는 BCrypt와 같다")
+    void encodeAndMatches() {
+        hasher = new PasswordHasher(new BCryptPasswordEncoder(4), meterRegistry, 2, 8, 3000);
+
+        String encoded = hasher.encode("password1!");
+
+        assertThat(hasher.matches("password1!", encoded)).isTrue();
+        assertThat(hasher.matches("wrong", encoded)).isFalse();
+    }
+
+    @Test
+    @DisplayName("스레드와 대기열이 모두 차면 기다리지 않고 PASSWORD_HASHER_BUSY(503)")
+    void saturated_rejectsFast() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        PasswordEncoder slowEncoder = mock(PasswordEncoder.class);
+        given(slowEncoder.encode(any())).willAnswer(inv -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "hash";
+        });
+        hasher = new PasswordHasher(slowEncoder, meterRegistry, 1, 1, 3000);
+
+        // 스레드 1개 점유 + 대기열 1칸 점유
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> hasher.encode("a"));
+        started.await(5, TimeUnit.SECONDS);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> hasher.encode("b"));
+        Thread.sleep(100);
+
+        assertThatThrownBy(() -> hasher.encode("c"))
+                .isInstanceOf(ApplicationException.class)
+                .extracting(e -> ((ApplicationException) e).getErrorCode())
+                .isEqualTo(ErrorCode.PASSWORD_HASHER_BUSY);
+        assertThat(ErrorCode.PASSWORD_HASHER_BUSY.getStatus()).isEqualTo(503);
+        assertThat(meterRegistry.get("password.hasher.rejected").counter().count()).isEqualTo(1.0);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hash");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hash");
+    }
+
+    @Test
+    @DisplayName("설정 cost보다 낮은 cost로 저장된 해시는 재해시 대상")
+    void upgradeEncoding() {
+        String oldHash = new BCryptPasswordEncoder(4).encode("password1!");
+        hasher = new PasswordHasher(new BCryptPasswordEncoder(5), meterRegistry, 1, 1, 3000);
+
+        assertThat(hasher.upgradeEncoding(oldHash)).isTrue();
+        assertThat(hasher.upgradeEncoding(hasher.encode("password1!"))).isFalse();
+    }
+}
@@ -0,0 +1,62 @@
+package my.domain.auth;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class RefreshTokenRevocationsTest {
+
+    private RefreshTokenRevocationMapper mapper;
+    private RefreshTokenRevocations revocations;
+
+    @BeforeEach
+    void setUp() {
+        mapper = mock(RefreshTokenRevocationMapper.class);
+        revocations = new RefreshTokenRevocations(mapper);
+    }
+
+    @Test
+    @DisplayName("폐기한 jti만 폐기됨으로 판단한다")
+    void isRevoked() {
+        revocations.add("jti-1", Instant.now().plusSeconds(60));
+
+        assertThat(revocations.isRevoked("jti-1")).isTrue();
+        assertThat(revocations.isRevoked("jti-2")).isFalse();
+    }
+
+    @Test
+    @DisplayName("기동 시 DB의 만료 전 폐기 기록을 읽어 들인다")
+    void warmUp() {
+        RefreshTokenRevocationVO row = new RefreshTokenRevocationVO();
+        row.setJti("jti-db");
+        row.setUserId(1L);
+        row.setExpiresAt(LocalDateTime.now().plusDays(1));
+        given(mapper.selectActive()).willReturn(List.of(row));
+
+        revocations.warmUp();
+
+        assertThat(revocations.isRevoked("jti-db")).isTrue();
+    }
+
+    @Test
+    @DisplayName("만료 정리 후에도 만료 전 폐기 기록은 남고, DB 만료 행은 삭제된다")
+    void purgeExpired() {
+        revocations.add("expired", Instant.now().minusSeconds(1));
+        revocations.add("active", Instant.now().plusSeconds(60));
+
+        revocations.purgeExpired();
+
+        assertThat(revocations.isRevoked("expired")).isFalse();
+        assertThat(revocations.isRevoked("active")).isTrue();
+        verify(mapper).deleteExpired();
+    }
+}
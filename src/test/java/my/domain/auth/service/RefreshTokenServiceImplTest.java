@@ -0,0 +1,107 @@
+package my.domain.auth.service;
+
+import my.common.exception.ApplicationException;
+import my.common.exception.ErrorCode;
+import my.domain.auth.RefreshTokenRevocationMapper;
+import my.domain.auth.RefreshTokenRevocationVO;
+import my.domain.auth.RefreshTokenRevocations;
+import my.domain.user.UserMapper;
+import my.domain.user.UserVO;
+import my.enums.Role;
+import my.jwt.JwtProvider;
+import my.jwt.JwtTokenResponseDto;
+import my.jwt.RefreshToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceImplTest {
+
+    @Mock private JwtProvider jwtProvider;
+    @Mock private UserMapper userMapper;
+    @Mock private RefreshTokenRevocationMapper refreshTokenRevocationMapper;
+    @Mock private RefreshTokenRevocations refreshTokenRevocations;
+
+    @InjectMocks
+    private RefreshTokenServiceImpl refreshTokenService;
+
+    private final RefreshToken current = new RefreshToken("jti-1", 1L, Instant.now().plusSeconds(600));
+    private UserVO user;
+
+    @BeforeEach
+    void setUp() {
+        user = UserVO.builder().role(Role.CUSTOMER).build();
+        user.setId(1L);
+    }
+
+    private void assertErrorCode(ErrorCode errorCode) {
+        assertThatThrownBy(() -> refreshTokenService.rotate("refresh"))
+                .isInstanceOf(ApplicationException.class)
+                .extracting(e -> ((ApplicationException) e).getErrorCode())
+                .isEqualTo(errorCode);
+    }
+
+    @Test
+    @DisplayName("사용한 refresh token은 폐기하고 새 토큰 쌍을 발급한다")
+    void rotate_success() {
+        given(jwtProvider.parseRefreshToken("refresh")).willReturn(current);
+        given(userMapper.selectById(1L)).willReturn(user);
+        given(jwtProvider.createToken(user)).willReturn("new-access");
+        given(jwtProvider.createRefreshToken(user)).willReturn("new-refresh");
+
+        JwtTokenResponseDto tokens = refreshTokenService.rotate("refresh");
+
+        assertThat(tokens.getToken()).isEqualTo("new-access");
+        assertThat(tokens.getRefreshToken()).isEqualTo("new-refresh");
+        ArgumentCaptor<RefreshTokenRevocationVO> captor = ArgumentCaptor.forClass(RefreshTokenRevocationVO.class);
+        verify(refreshTokenRevocationMapper).insert(captor.capture());
+        assertThat(captor.getValue().getJti()).isEqualTo("jti-1");
+        verify(refreshTokenRevocations).add("jti-1", current.expiresAt());
+    }
+
+    @Test
+    @DisplayName("서명 / 만료 / 타입이 맞지 않으면 REFRESH_TOKEN_INVALID")
+    void rotate_invalid() {
+        given(jwtProvider.parseRefreshToken("refresh")).willReturn(null);
+
+        assertErrorCode(ErrorCode.REFRESH_TOKEN_INVALID);
+    }
+
+    @Test
+    @DisplayName("이미 폐기된 토큰은 DB를 거치지 않고 REFRESH_TOKEN_REVOKED")
+    void rotate_revokedInMemory() {
+        given(jwtProvider.parseRefreshToken("refresh")).willReturn(current);
+        given(refreshTokenRevocations.isRevoked("jti-1")).willReturn(true);
+
+        assertErrorCode(ErrorCode.REFRESH_TOKEN_REVOKED);
+        verify(userMapper, never()).selectById(any());
+        verify(refreshTokenRevocationMapper, never()).insert(any());
+    }
+
+    @Test
+    @DisplayName("동시에 같은 토큰으로 재발급하면 늦은 쪽은 PK 중복으로 REFRESH_TOKEN_REVOKED")
+    void rotate_concurrentReuse() {
+        given(jwtProvider.parseRefreshToken("refresh")).willReturn(current);
+        given(userMapper.selectById(1L)).willReturn(user);
+        given(refreshTokenRevocationMapper.insert(any())).willThrow(new DuplicateKeyException("JTI"));
+
+        assertErrorCode(ErrorCode.REFRESH_TOKEN_REVOKED);
+        verify(jwtProvider, never()).createRefreshToken(any());
+    }
+}
@@ -0,0 +1,120 @@
+package my.domain.book;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class BookSearchIndexTest {
+
+    private BookMapper bookMapper;
+    private BookSearchIndex index;
+
+    private BookVO book(long id, String name, String publisher, String author) {
+        BookVO book = new BookVO();
+        book.setId(id);
+        book.setBookName(name);
+        book.setPublisherHouse(publisher);
+        book.setAuthor(author);
+        return book;
+    }
+
+    @BeforeEach
+    void setUp() {
+        bookMapper = mock(BookMapper.class);
+        given(bookMapper.selectSearchableBooks()).willReturn(List.of(
+                book(1L, "해리포터와 마법사의 돌", "문학수첩", "J.K. 롤링"),
+                book(2L, "채식주의자", "창비", "한강"),
+                book(3L, "Clean Code", "인사이트", "Robert C. Martin"),
+                book(4L, "소년이 온다", "창비", "한강")
+        ));
+        index = new BookSearchIndex(bookMapper);
+        index.warmUp();
+    }
+
+    @Nested
+    @DisplayName("일반 검색어")
+    class PlainQueryTest {
+
+        @Test
+        @DisplayName("책 이름 부분 문자열로 검색된다")
+        void search_byBookName() {
+            assertThat(index.search("포터")).contains(List.of(1L));
+        }
+
+        @Test
+        @DisplayName("출판사, 저자로도 검색되고 최신 ID 순으로 정렬된다")
+        void search_byPublisherAndAuthor() {
+            assertThat(index.search("창비")).contains(List.of(4L, 2L));
+            assertThat(index.search("한강")).contains(List.of(4L, 2L));
+        }
+
+        @Test
+        @DisplayName("영문은 대소문자를 구분하지 않는다")
+        void search_caseInsensitive() {
+            assertThat(index.search("CLEAN c")).contains(List.of(3L));
+        }
+
+        @Test
+        @DisplayName("한 글자 검색어도 처리된다")
+        void search_singleSyllable() {
+            assertThat(index.search("돌")).contains(List.of(1L));
+        }
+
+        @Test
+        @DisplayName("bigram은 모두 있지만 연속되지 않으면 걸리지 않는다")
+        void search_bigramFalsePositiveFiltered() {
+            assertThat(index.search("채식의자")).contains(List.of());
+        }
+    }
+
+    @Nested
+    @DisplayName("초성 검색어")
+    class ChosungQueryTest {
+
+        @Test
+        @DisplayName("초성만으로 검색된다")
+        void search_chosung() {
+            assertThat(index.search("ㅎㄹㅍㅌ")).contains(List.of(1L));
+            assertThat(index.search("ㅊㅅㅈㅇㅈ")).contains(List.of(2L));
+        }
+    }
+
+    @Nested
+    @DisplayName("증분 갱신")
+    class IncrementalUpdateTest {
+
+        @Test
+        @DisplayName("추가된 책은 바로 검색된다")
+        void add_searchable() {
+            index.addAll(List.of(book(5L, "작별하지 않는다", "문학동네", "한강")));
+
+            assertThat(index.search("작별")).contains(List.of(5L));
+            assertThat(index.search("한강")).contains(List.of(5L, 4L, 2L));
+        }
+
+        @Test
+        @DisplayName("제거된 책은 더 이상 검색되지 않는다")
+        void remove_notSearchable() {
+            index.removeAll(List.of(2L));
+
+            assertThat(index.search("채식")).contains(List.of());
+            assertThat(index.search("창비")).contains(List.of(4L));
+            assertThat(index.size()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("색인이 준비되기 전에는 DB 조회로 넘긴다")
+        void search_notReady() {
+            BookSearchIndex cold = new BookSearchIndex(bookMapper);
+
+            assertThat(cold.search("포터")).isEmpty();
+        }
+    }
+}
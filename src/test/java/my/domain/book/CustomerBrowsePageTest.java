@@ -0,0 +1,127 @@
+package my.domain.book;
+
+import my.common.exception.ApplicationException;
+import my.common.exception.ErrorCode;
+import my.common.response.CursorPage;
+import my.domain.catalog.BookCatalogMapper;
+import my.domain.catalog.BookFacetIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerBrowsePageTest {
+
+    @Mock
+    private BookCatalogMapper bookCatalogMapper;
+
+    @Mock
+    private BookSearchIndex bookSearchIndex;
+
+    @Mock
+    private BookFacetIndex bookFacetIndex;
+
+    @InjectMocks
+    private BookServiceImpl bookService;
+
+    private List<CustomerBookDetailVO> rows(int count) {
+        List<CustomerBookDetailVO> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            CustomerBookDetailVO vo = new CustomerBookDetailVO();
+            vo.setId(1000L - i);
+            vo.setEnteredAt(new Date(1_700_000_000_000L - i * 1000L));
+            rows.add(vo);
+        }
+        return rows;
+    }
+
+    @Test
+    @DisplayName("요청 크기보다 1건 더 조회되면 마지막 항목 기준으로 next 커서를 만든다")
+    void browse_hasNext() {
+        given(bookCatalogMapper.selectForCustomerBrowse(isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), eq(3)))
+                .willReturn(rows(3));
+
+        CursorPage<CustomerBookDetailVO> page = bookService.findForCustomerBrowse(null, null, null, null, null, 2);
+
+        assertThat(page.getItems()).hasSize(2);
+        BookBrowseCursor next = BookBrowseCursor.decode(page.getNext());
+        assertThat(next.id()).isEqualTo(999L);
+        assertThat(next.enteredAt()).isEqualTo(page.getItems().get(1).getEnteredAt());
+    }
+
+    @Test
+    @DisplayName("마지막 페이지는 next가 없다")
+    void browse_lastPage() {
+        given(bookCatalogMapper.selectForCustomerBrowse(isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), eq(3)))
+                .willReturn(rows(1));
+
+        CursorPage<CustomerBookDetailVO> page = bookService.findForCustomerBrowse(null, null, null, null, null, 2);
+
+        assertThat(page.getItems()).hasSize(1);
+        assertThat(page.getNext()).isNull();
+    }
+
+    @Test
+    @DisplayName("facet 건수는 첫 페이지에만 포함된다")
+    void browse_facetsOnFirstPageOnly() {
+        Map<String, Map<String, Integer>> facets = Map.of(BookFacetIndex.GENRE, Map.of("NOVEL", 3));
+        given(bookFacetIndex.count("NOVEL", null, null, null)).willReturn(facets);
+        given(bookCatalogMapper.selectForCustomerBrowse(any(), any(), any(), any(), any(), any(), eq(3)))
+                .willReturn(rows(3));
+
+        CursorPage<CustomerBookDetailVO> first = bookService.findForCustomerBrowse(null, "NOVEL", null, null, null, 2);
+        CursorPage<CustomerBookDetailVO> second = bookService.findForCustomerBrowse(null, "NOVEL", null, null, first.getNext(), 2);
+
+        assertThat(first.getFacets()).isEqualTo(facets);
+        assertThat(second.getFacets()).isNull();
+    }
+
+    @Test
+    @DisplayName("페이지 크기는 최대값으로 제한된다")
+    void browse_sizeCapped() {
+        given(bookCatalogMapper.selectForCustomerBrowse(any(), any(), any(), any(), any(), any(), eq(BookServiceImpl.MAX_BROWSE_SIZE + 1)))
+                .willReturn(List.of());
+
+        bookService.findForCustomerBrowse(null, null, null, null, null, 10_000);
+
+        verify(bookCatalogMapper).selectForCustomerBrowse(null, null, null, null, null, null, BookServiceImpl.MAX_BROWSE_SIZE + 1);
+    }
+
+    @Test
+    @DisplayName("색인 검색 결과가 없으면 DB를 조회하지 않는다")
+    void browse_noSearchHits() {
+        given(bookSearchIndex.search("없는책")).willReturn(Optional.of(List.of()));
+
+        CursorPage<CustomerBookDetailVO> page = bookService.findForCustomerBrowse("없는책", null, null, null, null, 20);
+
+        assertThat(page.getItems()).isEmpty();
+        verifyNoInteractions(bookCatalogMapper);
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 INVALID_CURSOR")
+    void browse_invalidCursor() {
+        assertThatThrownBy(() -> bookService.findForCustomerBrowse(null, null, null, null, "not-a-cursor", 20))
+                .isInstanceOf(ApplicationException.class)
+                .extracting(e -> ((ApplicationException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_CURSOR);
+    }
+}
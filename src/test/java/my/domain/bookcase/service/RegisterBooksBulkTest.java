@@ -0,0 +1,135 @@
+package my.domain.bookcase.service;
+
+import my.common.exception.ApplicationException;
+import my.common.exception.ErrorCode;
+import my.domain.book.BookMapper;
+import my.domain.book.BookSearchIndex;
+import my.domain.book.BookVO;
+import my.domain.bookcase.BookCaseMapper;
+import my.domain.bookcase.BookCaseOccupiedRecordMapper;
+import my.domain.bookcase.BookCaseOccupiedRecordVO;
+import my.domain.bookcase.BookCaseVO;
+import my.domain.bookcase.BookRegisterDto;
+import my.domain.catalog.service.BookCatalogService;
+import my.domain.code.CommonCodeMapper;
+import my.domain.code.CommonCodeVO;
+import my.domain.user.UserMapper;
+import my.domain.user.UserVO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RegisterBooksBulkTest {
+
+    private static final long BOOK_CASE_ID = 7L;
+    private static final long BOOK_OWNER_ID = 3L;
+
+    @Mock private BookCaseMapper bookCaseMapper;
+    @Mock private BookCaseOccupiedRecordMapper occupiedRecordMapper;
+    @Mock private UserMapper userMapper;
+    @Mock private BookMapper bookMapper;
+    @Mock private CommonCodeMapper commonCodeMapper;
+    @Mock private BookSearchIndex bookSearchIndex;
+    @Mock private BookCatalogService bookCatalogService;
+
+    @InjectMocks
+    private BookCaseServiceImpl bookCaseService;
+
+    @BeforeEach
+    void setUp() {
+        given(bookCaseMapper.selectById(BOOK_CASE_ID)).willReturn(new BookCaseVO());
+        UserVO owner = new UserVO();
+        owner.setId(BOOK_OWNER_ID);
+        given(userMapper.selectBookOwnerByNameAndPhone("홍길동", "01012345678")).willReturn(owner);
+        BookCaseOccupiedRecordVO record = new BookCaseOccupiedRecordVO();
+        record.setBookOwnerId(BOOK_OWNER_ID);
+        given(occupiedRecordMapper.selectCurrentByBookCaseId(BOOK_CASE_ID)).willReturn(record);
+    }
+
+    private List<BookRegisterDto> dtos(int count, String... typeCodes) {
+        List<BookRegisterDto> dtos = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            BookRegisterDto dto = new BookRegisterDto();
+            dto.setUserName("홍길동");
+            dto.setUserPhone("01012345678");
+            dto.setBookName("책" + i);
+            dto.setPrice(10000);
+            dto.setBookTypeCode(typeCodes[i % typeCodes.length]);
+            dtos.add(dto);
+        }
+        return dtos;
+    }
+
+    private CommonCodeVO code(String code) {
+        CommonCodeVO vo = new CommonCodeVO();
+        vo.setGroupCode("BOOK_TYPE");
+        vo.setCode(code);
+        return vo;
+    }
+
+    @Test
+    @DisplayName("코드 검증 1회, ID 발급 1회, 청크 단위 INSERT, 재조회 후 요청 순서대로 반환")
+    void registerBooks_bulk() {
+        int count = 600;
+        List<Long> ids = LongStream.rangeClosed(101, 100 + count).boxed().toList();
+        given(commonCodeMapper.selectByGroupCodeAndCodes(eq("BOOK_TYPE"), eq(Set.of("01", "02"))))
+                .willReturn(List.of(code("01"), code("02")));
+        given(bookMapper.selectNextIds(count)).willReturn(ids);
+        given(bookMapper.insertAll(anyList())).willAnswer(inv -> ((List<?>) inv.getArgument(0)).size());
+        given(bookMapper.selectByIds(anyList())).willAnswer(inv -> {
+            List<Long> bookIds = new ArrayList<>(inv.getArgument(0));
+            Collections.reverse(bookIds);
+            return bookIds.stream().map(id -> {
+                BookVO book = new BookVO();
+                book.setId(id);
+                return book;
+            }).toList();
+        });
+
+        List<BookVO> books = bookCaseService.registerBooks(BOOK_CASE_ID, dtos(count, "01", "02"));
+
+        verify(commonCodeMapper, times(1)).selectByGroupCodeAndCodes(any(), any());
+        verify(commonCodeMapper, never()).selectByGroupCodeAndCode(any(), any());
+        verify(bookMapper, times(2)).insertAll(anyList());
+        verify(bookMapper, never()).insert(any());
+        verify(bookMapper, never()).selectById(any());
+        assertThat(books).extracting(BookVO::getId).containsExactlyElementsOf(ids);
+        verify(bookCatalogService).upsert(ids);
+    }
+
+    @Test
+    @DisplayName("없는 도서 유형 코드가 섞여 있으면 INSERT 없이 실패")
+    void registerBooks_invalidTypeCode() {
+        given(commonCodeMapper.selectByGroupCodeAndCodes(eq("BOOK_TYPE"), any()))
+                .willReturn(List.of(code("01")));
+
+        assertThatThrownBy(() -> bookCaseService.registerBooks(BOOK_CASE_ID, dtos(3, "01", "99")))
+                .isInstanceOf(ApplicationException.class)
+                .extracting(e -> ((ApplicationException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_BOOK_TYPE);
+        verify(bookMapper, never()).selectNextIds(anyInt());
+        verify(bookMapper, never()).insertAll(anyList());
+    }
+}
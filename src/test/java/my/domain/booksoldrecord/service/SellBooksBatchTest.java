@@ -0,0 +1,122 @@
+package my.domain.booksoldrecord.service;
+
+import my.common.exception.ApplicationException;
+import my.common.exception.ErrorCode;
+import my.domain.book.BookMapper;
+import my.domain.book.BookSearchIndex;
+import my.domain.book.BookVO;
+import my.domain.booksoldrecord.BookSoldRecordMapper;
+import my.domain.booksoldrecord.dto.BookSaleFailureDto;
+import my.domain.booksoldrecord.dto.BuyBookRequestDto;
+import my.domain.booksoldrecord.vo.BookSoldRecordVO;
+import my.domain.catalog.service.BookCatalogService;
+import my.domain.code.CommonCodeMapper;
+import my.domain.code.CommonCodeVO;
+import my.domain.settlement.BookOwnerBalanceLedger;
+import my.domain.settlement_ratio.service.SettlementRatioService;
+import my.domain.settlement_ratio.vo.SettlementRatioVO;
+import my.enums.BookState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SellBooksBatchTest {
+
+    @Mock private BookMapper bookMapper;
+    @Mock private BookSoldRecordMapper bookSoldRecordMapper;
+    @Mock private SettlementRatioService settlementRatioService;
+    @Mock private CommonCodeMapper commonCodeMapper;
+    @Mock private BookSearchIndex bookSearchIndex;
+    @Mock private BookCatalogService bookCatalogService;
+    @Mock private BookOwnerBalanceLedger bookOwnerBalanceLedger;
+
+    @InjectMocks
+    private BookSoldRecordServiceImpl bookSoldRecordService;
+
+    @BeforeEach
+    void setUp() {
+        CommonCodeVO buyType = new CommonCodeVO();
+        buyType.setCode("01");
+        given(commonCodeMapper.selectByGroupCodeAndCodes(eq("BUY_TYPE"), any())).willReturn(List.of(buyType));
+        SettlementRatioVO ratio = new SettlementRatioVO();
+        ratio.setId(5L);
+        given(settlementRatioService.findCurrentRatio()).willReturn(ratio);
+    }
+
+    private BookVO book(long id, BookState state) {
+        BookVO book = new BookVO();
+        book.setId(id);
+        book.setPrice(10000 + (int) id);
+        book.setState(state.name());
+        return book;
+    }
+
+    private BuyBookRequestDto buy(long bookId) {
+        BuyBookRequestDto dto = new BuyBookRequestDto();
+        dto.setBookId(bookId);
+        dto.setCustomerId(9L);
+        dto.setBuyTypeCommonCode("01");
+        return dto;
+    }
+
+    @Test
+    @DisplayName("여러 권도 조회 / 상태 변경 / 기록 INSERT를 각각 한 번에 처리한다")
+    void sellBooks_constantRoundTrips() {
+        given(bookMapper.selectByIdsForUpdate(List.of(1L, 2L, 3L)))
+                .willReturn(List.of(book(1L, BookState.NORMAL), book(2L, BookState.NORMAL), book(3L, BookState.NORMAL)));
+        given(bookMapper.updateStateSoldByIds(List.of(1L, 2L, 3L))).willReturn(3);
+        given(bookSoldRecordMapper.insertAll(anyList())).willReturn(3);
+
+        List<BookSoldRecordVO> result = bookSoldRecordService.sellBooks(List.of(buy(1L), buy(2L), buy(3L)));
+
+        assertThat(result).extracting(BookSoldRecordVO::getId).containsExactly(1L, 2L, 3L);
+        assertThat(result).extracting(BookSoldRecordVO::getSoldPrice).containsExactly(10001, 10002, 10003);
+        assertThat(result).allSatisfy(r -> assertThat(r.getRatioId()).isEqualTo(5L));
+        verify(commonCodeMapper, times(1)).selectByGroupCodeAndCodes(any(), any());
+        verify(settlementRatioService, times(1)).findCurrentRatio();
+        verify(bookMapper, never()).selectById(any());
+        verify(bookMapper, never()).updateStateSold(any());
+        verify(bookSoldRecordMapper, never()).insert(any());
+        verify(bookCatalogService).changeState(List.of(1L, 2L, 3L), BookState.SOLD);
+        verify(bookOwnerBalanceLedger).addSales(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    @DisplayName("없는 책 / 이미 팔린 책 / 중복 요청을 항목별로 모두 알려주고 아무것도 바꾸지 않는다")
+    void sellBooks_reportsEveryFailure() {
+        given(bookMapper.selectByIdsForUpdate(List.of(1L, 2L, 3L)))
+                .willReturn(List.of(book(1L, BookState.NORMAL), book(2L, BookState.SOLD)));
+
+        ApplicationException e = catchThrowableOfType(
+                () -> bookSoldRecordService.sellBooks(List.of(buy(1L), buy(2L), buy(3L), buy(1L))),
+                ApplicationException.class);
+
+        assertThat(e.getErrorCode()).isEqualTo(ErrorCode.BOOK_ALREADY_SOLD);
+        @SuppressWarnings("unchecked")
+        List<BookSaleFailureDto> failures = (List<BookSaleFailureDto>) e.getData();
+        assertThat(failures).containsExactly(
+                BookSaleFailureDto.of(2L, ErrorCode.BOOK_ALREADY_SOLD),
+                BookSaleFailureDto.of(3L, ErrorCode.BOOK_NOT_FOUND),
+                BookSaleFailureDto.of(1L, ErrorCode.BOOK_ALREADY_SOLD));
+        verify(bookMapper, never()).updateStateSoldByIds(anyList());
+        verify(bookSoldRecordMapper, never()).insertAll(anyList());
+        verify(bookOwnerBalanceLedger, never()).addSales(anyList());
+    }
+}
@@ -0,0 +1,88 @@
+package my.domain.catalog;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import my.domain.book.CustomerBookDetailVO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class BookDetailCacheTest {
+
+    private BookCatalogMapper bookCatalogMapper;
+    private SimpleMeterRegistry meterRegistry;
+    private BookDetailCache cache;
+
+    private CustomerBookDetailVO book(long id, long bookOwnerId) {
+        CustomerBookDetailVO book = new CustomerBookDetailVO();
+        book.setId(id);
+        book.setBookOwnerId(bookOwnerId);
+        return book;
+    }
+
+    @BeforeEach
+    void setUp() {
+        bookCatalogMapper = mock(BookCatalogMapper.class);
+        given(bookCatalogMapper.selectById(1L)).willReturn(book(1L, 10L));
+        given(bookCatalogMapper.selectById(2L)).willReturn(book(2L, 20L));
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new BookDetailCache(bookCatalogMapper, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("두 번째 조회부터는 DB를 타지 않고 hit / miss가 기록된다")
+    void get_cached() {
+        cache.get(1L);
+        cache.get(1L);
+
+        verify(bookCatalogMapper, times(1)).selectById(1L);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", BookDetailCache.CACHE_NAME).tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", BookDetailCache.CACHE_NAME).tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("상태 변경된 도서만 무효화된다")
+    void invalidateAll() {
+        cache.get(1L);
+        cache.get(2L);
+
+        cache.invalidateAll(List.of(1L));
+        cache.get(1L);
+        cache.get(2L);
+
+        verify(bookCatalogMapper, times(2)).selectById(1L);
+        verify(bookCatalogMapper, times(1)).selectById(2L);
+    }
+
+    @Test
+    @DisplayName("책 주인 단위로 무효화된다")
+    void invalidateBookOwner() {
+        cache.get(1L);
+        cache.get(2L);
+
+        cache.invalidateBookOwner(20L);
+        cache.get(1L);
+        cache.get(2L);
+
+        verify(bookCatalogMapper, times(1)).selectById(1L);
+        verify(bookCatalogMapper, times(2)).selectById(2L);
+    }
+
+    @Test
+    @DisplayName("없는 도서는 캐시하지 않는다")
+    void get_missingNotCached() {
+        assertThat(cache.get(99L)).isNull();
+        cache.get(99L);
+
+        verify(bookCatalogMapper, times(2)).selectById(99L);
+    }
+}
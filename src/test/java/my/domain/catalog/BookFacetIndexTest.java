@@ -0,0 +1,120 @@
+package my.domain.catalog;
+
+import my.domain.book.CustomerBookDetailVO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class BookFacetIndexTest {
+
+    private BookFacetIndex index;
+
+    private CustomerBookDetailVO book(long id, String genre, String location, long bookOwnerId) {
+        CustomerBookDetailVO book = new CustomerBookDetailVO();
+        book.setId(id);
+        book.setGenreCode(genre);
+        book.setLocationCode(location);
+        book.setBookOwnerId(bookOwnerId);
+        return book;
+    }
+
+    @BeforeEach
+    void setUp() {
+        BookCatalogMapper bookCatalogMapper = mock(BookCatalogMapper.class);
+        given(bookCatalogMapper.selectFacetRows(null)).willReturn(List.of(
+                book(1L, "NOVEL", "SEOUL", 10L),
+                book(2L, "NOVEL", "BUSAN", 10L),
+                book(3L, "ESSAY", "SEOUL", 20L),
+                book(4L, "NOVEL", "SEOUL", 20L)
+        ));
+        index = new BookFacetIndex(bookCatalogMapper);
+        index.warmUp();
+    }
+
+    @Nested
+    @DisplayName("건수 집계")
+    class CountTest {
+
+        @Test
+        @DisplayName("필터가 없으면 facet 값별 전체 건수")
+        void count_noFilter() {
+            Map<String, Map<String, Integer>> facets = index.count(null, null, null, null);
+
+            assertThat(facets.get(BookFacetIndex.GENRE)).containsExactly(Map.entry("NOVEL", 3), Map.entry("ESSAY", 1));
+            assertThat(facets.get(BookFacetIndex.LOCATION)).containsExactly(Map.entry("SEOUL", 3), Map.entry("BUSAN", 1));
+            assertThat(facets.get(BookFacetIndex.BOOK_OWNER)).containsOnly(Map.entry("10", 2), Map.entry("20", 2));
+        }
+
+        @Test
+        @DisplayName("각 facet에는 자신을 제외한 다른 필터만 적용된다")
+        void count_otherFiltersOnly() {
+            Map<String, Map<String, Integer>> facets = index.count("NOVEL", "SEOUL", null, null);
+
+            // 장르 건수: 위치(SEOUL) 필터만 적용
+            assertThat(facets.get(BookFacetIndex.GENRE)).containsOnly(Map.entry("NOVEL", 2), Map.entry("ESSAY", 1));
+            // 위치 건수: 장르(NOVEL) 필터만 적용
+            assertThat(facets.get(BookFacetIndex.LOCATION)).containsOnly(Map.entry("SEOUL", 2), Map.entry("BUSAN", 1));
+            // 책 주인 건수: 장르 + 위치 모두 적용
+            assertThat(facets.get(BookFacetIndex.BOOK_OWNER)).containsOnly(Map.entry("10", 1), Map.entry("20", 1));
+        }
+
+        @Test
+        @DisplayName("검색 후보 ID가 있으면 그 안에서만 센다")
+        void count_withCandidates() {
+            Map<String, Map<String, Integer>> facets = index.count(null, null, null, List.of(2L, 3L));
+
+            assertThat(facets.get(BookFacetIndex.GENRE)).containsOnly(Map.entry("NOVEL", 1), Map.entry("ESSAY", 1));
+        }
+
+        @Test
+        @DisplayName("로드 전에는 null")
+        void count_notReady() {
+            BookFacetIndex cold = new BookFacetIndex(mock(BookCatalogMapper.class));
+
+            assertThat(cold.count(null, null, null, null)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("증분 갱신")
+    class IncrementalUpdateTest {
+
+        @Test
+        @DisplayName("판매 / 회수된 책은 모든 facet에서 빠진다")
+        void removeAll() {
+            index.removeAll(List.of(3L));
+
+            Map<String, Map<String, Integer>> facets = index.count(null, null, null, null);
+            assertThat(facets.get(BookFacetIndex.GENRE)).containsOnlyKeys("NOVEL");
+            assertThat(facets.get(BookFacetIndex.BOOK_OWNER)).containsOnly(Map.entry("10", 2), Map.entry("20", 1));
+        }
+
+        @Test
+        @DisplayName("책 주인 삭제 시 그 주인의 책이 모두 빠진다")
+        void removeBookOwner() {
+            index.removeBookOwner(10L);
+
+            Map<String, Map<String, Integer>> facets = index.count(null, null, null, null);
+            assertThat(facets.get(BookFacetIndex.LOCATION)).containsOnly(Map.entry("SEOUL", 2));
+            assertThat(facets.get(BookFacetIndex.BOOK_OWNER)).containsOnlyKeys("20");
+        }
+
+        @Test
+        @DisplayName("등록된 책은 바로 집계된다")
+        void addAll() {
+            index.addAll(List.of(book(5L, "POEM", "BUSAN", 30L)));
+
+            Map<String, Map<String, Integer>> facets = index.count("POEM", null, null, null);
+            assertThat(facets.get(BookFacetIndex.LOCATION)).containsOnly(Map.entry("BUSAN", 1));
+            assertThat(facets.get(BookFacetIndex.BOOK_OWNER)).containsOnly(Map.entry("30", 1));
+        }
+    }
+}
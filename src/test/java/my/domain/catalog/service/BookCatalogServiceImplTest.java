@@ -0,0 +1,81 @@
+package my.domain.catalog.service;
+
+import my.common.util.ListUtil;
+import my.domain.catalog.BookCatalogMapper;
+import my.domain.catalog.BookDetailCache;
+import my.domain.catalog.BookFacetIndex;
+import my.domain.catalog.CatalogVersion;
+import my.enums.BookState;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BookCatalogServiceImplTest {
+
+    @Mock
+    private BookCatalogMapper bookCatalogMapper;
+
+    @Mock
+    private BookFacetIndex bookFacetIndex;
+
+    @Mock
+    private BookDetailCache bookDetailCache;
+
+    @Mock
+    private CatalogVersion catalogVersion;
+
+    @InjectMocks
+    private BookCatalogServiceImpl bookCatalogService;
+
+    @Test
+    @DisplayName("IN 절 제한을 넘는 ID 목록은 나눠서 갱신한다")
+    void upsert_chunked() {
+        List<Long> bookIds = LongStream.rangeClosed(1, 2500).boxed().toList();
+
+        bookCatalogService.upsert(bookIds);
+
+        verify(bookCatalogMapper, times(2)).mergeByBookIds(argThat(ids -> ids.size() == ListUtil.IN_CLAUSE_LIMIT));
+        verify(bookCatalogMapper).mergeByBookIds(argThat(ids -> ids.size() == 500));
+    }
+
+    @Test
+    @DisplayName("상태 변경은 enum 이름으로 전달된다")
+    void changeState() {
+        bookCatalogService.changeState(List.of(1L, 2L), BookState.SOLD);
+
+        verify(bookCatalogMapper).updateState(List.of(1L, 2L), "SOLD");
+        verify(bookFacetIndex).removeAll(List.of(1L, 2L));
+        verify(bookDetailCache).invalidateAll(List.of(1L, 2L));
+        verify(catalogVersion).bumpCatalog();
+    }
+
+    @Test
+    @DisplayName("닉네임 변경 시 해당 책 주인의 상세 캐시를 비운다")
+    void refreshOwner_invalidatesCache() {
+        bookCatalogService.refreshOwner(10L);
+
+        verify(bookCatalogMapper).updateOwner(10L);
+        verify(bookDetailCache).invalidateBookOwner(10L);
+    }
+
+    @Test
+    @DisplayName("빈 목록이면 쿼리를 실행하지 않는다")
+    void remove_empty() {
+        bookCatalogService.remove(List.of());
+
+        verify(bookCatalogMapper, never()).deleteByBookIds(anyList());
+    }
+}
@@ -0,0 +1,110 @@
+package my.domain.deposit;
+
+import my.domain.rental.RentalSettlementVO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DepositOffsetPlanTest {
+
+    private static DepositVO deposit(int remaining) {
+        DepositVO deposit = new DepositVO();
+        deposit.setId(1L);
+        deposit.setBookOwnerId(10L);
+        deposit.setAmount(100_000);
+        deposit.setRemainingAmount(remaining);
+        deposit.setStatus("HELD");
+        return deposit;
+    }
+
+    private static RentalSettlementVO rental(long id, String targetMonth, int remaining) {
+        RentalSettlementVO rental = new RentalSettlementVO();
+        rental.setId(id);
+        rental.setBookOwnerId(10L);
+        rental.setTargetMonth(targetMonth);
+        rental.setAmount(remaining);
+        rental.setStatus("UNPAID");
+        rental.setDeductedAmount(0);
+        rental.setRemainingAmount(remaining);
+        return rental;
+    }
+
+    @Test
+    @DisplayName("오래된 임대료부터 보증금으로 전액 공제한다")
+    void plan_offsetsFifo() {
+        DepositOffsetPlan plan = DepositOffsetPlan.plan(deposit(100_000),
+                List.of(rental(1L, "2026-07", 30_000), rental(2L, "2026-08", 30_000)));
+
+        assertThat(plan.getDeposit().getRemainingAmount()).isEqualTo(40_000);
+        assertThat(plan.getDeposit().getStatus()).isEqualTo("HELD");
+        assertThat(plan.getRentals()).extracting(RentalSettlementVO::getId).containsExactly(1L, 2L);
+        assertThat(plan.getRentals()).allSatisfy(rental -> {
+            assertThat(rental.getStatus()).isEqualTo("PAID");
+            assertThat(rental.getRemainingAmount()).isZero();
+            assertThat(rental.getDeductedAmount()).isEqualTo(30_000);
+        });
+        assertThat(plan.getOffsets()).extracting(DepositRentalOffsetVO::getOffsetAmount).containsExactly(30_000, 30_000);
+        assertThat(plan.isSuspend()).isFalse();
+    }
+
+    @Test
+    @DisplayName("보증금이 모자라면 일부만 공제하고 임대료는 UNPAID로 남긴다")
+    void plan_partialOffset() {
+        DepositOffsetPlan plan = DepositOffsetPlan.plan(deposit(20_000), List.of(rental(1L, "2026-07", 30_000)));
+
+        assertThat(plan.getDeposit().getRemainingAmount()).isZero();
+        assertThat(plan.getDeposit().getStatus()).isEqualTo("DEPLETED");
+        RentalSettlementVO rental = plan.getRentals().get(0);
+        assertThat(rental.getStatus()).isEqualTo("UNPAID");
+        assertThat(rental.getDeductedAmount()).isEqualTo(20_000);
+        assertThat(rental.getRemainingAmount()).isEqualTo(10_000);
+        assertThat(plan.isSuspend()).isFalse();
+    }
+
+    @Test
+    @DisplayName("보증금 소진 후 연체가 더 남아 있으면 중지 대상이다")
+    void plan_suspendsAfterDepletion() {
+        DepositOffsetPlan plan = DepositOffsetPlan.plan(deposit(20_000),
+                List.of(rental(1L, "2026-07", 30_000), rental(2L, "2026-08", 30_000)));
+
+        assertThat(plan.getRentals()).extracting(RentalSettlementVO::getId).containsExactly(1L);
+        assertThat(plan.getOffsets()).hasSize(1);
+        assertThat(plan.isSuspend()).isTrue();
+    }
+
+    @Test
+    @DisplayName("보증금이 연체 합계와 정확히 같으면 소진되지만 중지하지 않는다")
+    void plan_exactDepletionDoesNotSuspend() {
+        DepositOffsetPlan plan = DepositOffsetPlan.plan(deposit(60_000),
+                List.of(rental(1L, "2026-07", 30_000), rental(2L, "2026-08", 30_000)));
+
+        assertThat(plan.getDeposit().getStatus()).isEqualTo("DEPLETED");
+        assertThat(plan.isSuspend()).isFalse();
+    }
+
+    @Test
+    @DisplayName("이미 소진된 보증금이면 공제 없이 중지 대상이다")
+    void plan_alreadyDepleted() {
+        DepositOffsetPlan plan = DepositOffsetPlan.plan(deposit(0), List.of(rental(1L, "2026-07", 30_000)));
+
+        assertThat(plan.hasOffsets()).isFalse();
+        assertThat(plan.getRentals()).isEmpty();
+        assertThat(plan.isSuspend()).isTrue();
+    }
+
+    @Test
+    @DisplayName("입력 보증금과 임대료는 바꾸지 않는다")
+    void plan_doesNotMutateInput() {
+        DepositVO deposit = deposit(100_000);
+        RentalSettlementVO rental = rental(1L, "2026-07", 30_000);
+
+        DepositOffsetPlan.plan(deposit, List.of(rental));
+
+        assertThat(deposit.getRemainingAmount()).isEqualTo(100_000);
+        assertThat(rental.getRemainingAmount()).isEqualTo(30_000);
+        assertThat(rental.getStatus()).isEqualTo("UNPAID");
+    }
+}
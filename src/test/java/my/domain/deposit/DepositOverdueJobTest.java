@@ -0,0 +1,41 @@
+package my.domain.deposit;
+
+import my.common.exception.ApplicationException;
+import my.common.exception.ErrorCode;
+import my.domain.bookcase.BookCaseOccupiedRecordMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(MockitoExtension.class)
+class DepositOverdueJobTest {
+
+    @Mock private BookCaseOccupiedRecordMapper occupiedRecordMapper;
+    @Mock private MonthlyOverdueEngine monthlyOverdueEngine;
+
+    @InjectMocks
+    private DepositOverdueJob job;
+
+    @Test
+    @DisplayName("이번 달까지의 yyyy-MM 키만 받는다")
+    void validateKey() {
+        assertThatCode(() -> job.validateKey(YearMonth.now().toString())).doesNotThrowAnyException();
+        assertThatCode(() -> job.validateKey(YearMonth.now().minusMonths(1).toString())).doesNotThrowAnyException();
+
+        for (String key : List.of(YearMonth.now().plusMonths(1).toString(), "2026-13", "nov")) {
+            assertThatThrownBy(() -> job.validateKey(key))
+                    .isInstanceOf(ApplicationException.class)
+                    .extracting(e -> ((ApplicationException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.JOB_KEY_INVALID);
+        }
+    }
+}
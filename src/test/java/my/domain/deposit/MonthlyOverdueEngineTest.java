@@ -0,0 +1,194 @@
+package my.domain.deposit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import my.domain.bookcase.BookCaseOccupiedRecordMapper;
+import my.domain.bookcase.BookCaseOccupiedRecordVO;
+import my.domain.bookcase.service.BookCaseService;
+import my.domain.job.JobLease;
+import my.domain.rental.RentalSettlementMapper;
+import my.domain.rental.RentalSettlementVO;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class MonthlyOverdueEngineTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2026, 10);
+
+    private BookCaseOccupiedRecordMapper occupiedRecordMapper;
+    private RentalSettlementMapper rentalSettlementMapper;
+    private DepositMapper depositMapper;
+    private BookCaseService bookCaseService;
+
+    private DepositMapper batchDepositMapper;
+    private RentalSettlementMapper batchRentalMapper;
+    private DepositRentalOffsetMapper batchOffsetMapper;
+    private BookCaseOccupiedRecordMapper batchOccupiedRecordMapper;
+
+    private MonthlyOverdueEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        occupiedRecordMapper = mock(BookCaseOccupiedRecordMapper.class);
+        rentalSettlementMapper = mock(RentalSettlementMapper.class);
+        depositMapper = mock(DepositMapper.class);
+        bookCaseService = mock(BookCaseService.class);
+        batchDepositMapper = mock(DepositMapper.class);
+        batchRentalMapper = mock(RentalSettlementMapper.class);
+        batchOffsetMapper = mock(DepositRentalOffsetMapper.class);
+        batchOccupiedRecordMapper = mock(BookCaseOccupiedRecordMapper.class);
+
+        SqlSessionFactory sqlSessionFactory = mock(SqlSessionFactory.class, RETURNS_DEEP_STUBS);
+        given(sqlSessionFactory.getConfiguration().getMapper(eq(DepositMapper.class), any())).willReturn(batchDepositMapper);
+        given(sqlSessionFactory.getConfiguration().getMapper(eq(RentalSettlementMapper.class), any())).willReturn(batchRentalMapper);
+        given(sqlSessionFactory.getConfiguration().getMapper(eq(DepositRentalOffsetMapper.class), any())).willReturn(batchOffsetMapper);
+        given(sqlSessionFactory.getConfiguration().getMapper(eq(BookCaseOccupiedRecordMapper.class), any()))
+                .willReturn(batchOccupiedRecordMapper);
+
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+
+        engine = new MonthlyOverdueEngine(occupiedRecordMapper, rentalSettlementMapper, depositMapper,
+                mock(DepositRentalOffsetMapper.class), bookCaseService, sqlSessionFactory, transactionManager,
+                new SimpleMeterRegistry(), 2, 200);
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+    }
+
+    private static BookCaseOccupiedRecordVO record(long id, long bookOwnerId, boolean suspended) {
+        BookCaseOccupiedRecordVO record = new BookCaseOccupiedRecordVO();
+        record.setId(id);
+        record.setBookOwnerId(bookOwnerId);
+        record.setBookCaseId(id + 100);
+        record.setSuspendedAt(suspended ? LocalDateTime.now() : null);
+        return record;
+    }
+
+    private static DepositVO deposit(long bookOwnerId, int remaining) {
+        DepositVO deposit = new DepositVO();
+        deposit.setId(bookOwnerId + 1000);
+        deposit.setBookOwnerId(bookOwnerId);
+        deposit.setAmount(remaining);
+        deposit.setRemainingAmount(remaining);
+        deposit.setStatus("HELD");
+        return deposit;
+    }
+
+    private static RentalSettlementVO overdue(long id, long bookOwnerId, String targetMonth, int remaining) {
+        RentalSettlementVO rental = new RentalSettlementVO();
+        rental.setId(id);
+        rental.setBookOwnerId(bookOwnerId);
+        rental.setTargetMonth(targetMonth);
+        rental.setAmount(remaining);
+        rental.setStatus("UNPAID");
+        rental.setDeductedAmount(0);
+        rental.setRemainingAmount(remaining);
+        return rental;
+    }
+
+    @Test
+    @DisplayName("연체는 한 번에 조회해 BookOwner별로 공제하고, 소진 후 연체가 남으면 점유를 중지한다")
+    void run_offsetsAndSuspends() {
+        given(occupiedRecordMapper.selectAllActive()).willReturn(List.of(
+                record(1L, 10L, false), record(2L, 20L, false), record(3L, 20L, true)));
+        given(rentalSettlementMapper.selectOverdueOfActiveOccupancies("2026-10", null, null)).willReturn(List.of(
+                overdue(11L, 10L, "2026-08", 30_000),
+                overdue(21L, 20L, "2026-08", 30_000),
+                overdue(22L, 20L, "2026-09", 30_000)));
+        given(depositMapper.selectByBookOwnerIds(List.of(10L, 20L)))
+                .willReturn(List.of(deposit(10L, 100_000), deposit(20L, 30_000)));
+
+        MonthlyOverdueReport report = engine.run(MONTH);
+
+        assertThat(report.owners()).isEqualTo(2);
+        assertThat(report.offsets()).isEqualTo(2);
+        assertThat(report.suspended()).isEqualTo(1);
+        assertThat(report.evicted()).isEqualTo(1);
+        assertThat(report.failed()).isZero();
+        verify(bookCaseService).unOccupyProcess(List.of(103L));
+        verify(batchDepositMapper).update(argThat(d -> d.getBookOwnerId() == 10L && d.getRemainingAmount() == 70_000));
+        verify(batchDepositMapper).update(argThat(d -> d.getBookOwnerId() == 20L && "DEPLETED".equals(d.getStatus())));
+        verify(batchRentalMapper, times(2)).update(argThat(r -> "PAID".equals(r.getStatus())));
+        verify(batchOffsetMapper, times(2)).insertWithoutKey(any());
+        verify(batchOccupiedRecordMapper).updateSuspendedAt(2L);
+        verify(batchOccupiedRecordMapper, never()).updateSuspendedAt(3L);
+        verify(depositMapper, never()).update(any());
+    }
+
+    @Test
+    @DisplayName("범위 실행은 범위 안의 BookOwner만 읽고, 실행 시작 후 중지된 점유는 퇴거하지 않는다")
+    void runRange_evictsOnlyEarlierSuspensions() {
+        LocalDateTime executionStartedAt = LocalDateTime.now().minusMinutes(10);
+        BookCaseOccupiedRecordVO suspendedLastMonth = record(1L, 10L, true);
+        suspendedLastMonth.setSuspendedAt(executionStartedAt.minusDays(30));
+        BookCaseOccupiedRecordVO suspendedThisRun = record(2L, 10L, true);
+        given(occupiedRecordMapper.selectActiveByBookOwnerIdRange(10L, 20L))
+                .willReturn(List.of(suspendedLastMonth, suspendedThisRun));
+        given(rentalSettlementMapper.selectOverdueOfActiveOccupancies("2026-10", 10L, 20L)).willReturn(List.of());
+
+        MonthlyOverdueReport report = engine.run(MONTH, 10L, 20L, executionStartedAt, JobLease.NONE);
+
+        assertThat(report.evicted()).isEqualTo(1);
+        verify(bookCaseService).unOccupyProcess(List.of(101L));
+        verify(bookCaseService, never()).unOccupyProcess(List.of(102L));
+        verify(occupiedRecordMapper, never()).selectAllActive();
+    }
+
+    @Test
+    @DisplayName("보증금이 없는 BookOwner는 건너뛴다")
+    void run_skipsOwnerWithoutDeposit() {
+        given(occupiedRecordMapper.selectAllActive()).willReturn(List.of(record(1L, 10L, false)));
+        given(rentalSettlementMapper.selectOverdueOfActiveOccupancies("2026-10", null, null))
+                .willReturn(List.of(overdue(11L, 10L, "2026-08", 30_000)));
+        given(depositMapper.selectByBookOwnerIds(List.of(10L))).willReturn(List.of());
+
+        MonthlyOverdueReport report = engine.run(MONTH);
+
+        assertThat(report.skipped()).isEqualTo(1);
+        verify(batchRentalMapper, never()).update(any());
+        verify(batchOffsetMapper, never()).insertWithoutKey(any());
+    }
+
+    @Test
+    @DisplayName("묶음이 실패하면 BookOwner 단위로 다시 처리해 실패한 BookOwner만 남긴다")
+    void run_fallsBackPerOwner() {
+        given(occupiedRecordMapper.selectAllActive()).willReturn(List.of(record(1L, 10L, false), record(2L, 20L, false)));
+        given(rentalSettlementMapper.selectOverdueOfActiveOccupancies("2026-10", null, null)).willReturn(List.of(
+                overdue(11L, 10L, "2026-08", 30_000),
+                overdue(21L, 20L, "2026-08", 30_000)));
+        given(depositMapper.selectByBookOwnerIds(List.of(10L, 20L)))
+                .willReturn(List.of(deposit(10L, 100_000), deposit(20L, 100_000)));
+        willThrow(new IllegalStateException("lock timeout"))
+                .given(batchDepositMapper).update(argThat(d -> d.getBookOwnerId() == 10L));
+
+        MonthlyOverdueReport report = engine.run(MONTH);
+
+        assertThat(report.failed()).isEqualTo(1);
+        assertThat(report.offsets()).isEqualTo(1);
+        verify(batchDepositMapper, times(2)).update(argThat(d -> d.getBookOwnerId() == 10L));
+        verify(batchDepositMapper).update(argThat(d -> d.getBookOwnerId() == 20L));
+    }
+}
@@ -13,6 +13,7 @@ import my.domain.deposit.DepositMapper;
 import my.domain.deposit.DepositRentalOffsetMapper;
 import my.domain.deposit.DepositRentalOffsetVO;
 import my.domain.deposit.DepositVO;
+import my.domain.deposit.MonthlyOverdueEngine;
 import my.domain.rental.RentalSettlementMapper;
 import my.domain.rental.RentalSettlementVO;
 import my.domain.settlement_ratio.service.SettlementRatioService;
@@ -36,7 +37,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 @Transactional
 class ProcessMonthlyOverdueTest {
 
-    @Autowired private DepositService depositService;
+    @Autowired private MonthlyOverdueEngine monthlyOverdueEngine;
     @Autowired private BookCaseService bookCaseService;
     @Autowired private BookCaseTypeService bookCaseTypeService;
     @Autowired private BookOwnerAuthService bookOwnerAuthService;
@@ -126,7 +127,7 @@ class ProcessMonthlyOverdueTest {
 
             DepositVO before = depositMapper.selectByBookOwnerId(owner.getId());
 
-            depositService.processMonthlyOverdue();
+            monthlyOverdueEngine.run(YearMonth.now());
 
             DepositVO after = depositMapper.selectByBookOwnerId(owner.getId());
             assertThat(after.getRemainingAmount()).isEqualTo(before.getRemainingAmount());
@@ -145,7 +146,7 @@ class ProcessMonthlyOverdueTest {
 
             insertOverdue(record.getId(), owner.getId(), pastMonth(1), 30000);
 
-            depositService.processMonthlyOverdue();
+            monthlyOverdueEngine.run(YearMonth.now());
 
             DepositVO deposit = depositMapper.selectByBookOwnerId(owner.getId());
             assertThat(deposit.getRemainingAmount()).isEqualTo(20000);
@@ -172,7 +173,7 @@ class ProcessMonthlyOverdueTest {
             RentalSettlementVO older = insertOverdue(record.getId(), owner.getId(), pastMonth(2), 30000);
             RentalSettlementVO newer = insertOverdue(record.getId(), owner.getId(), pastMonth(1), 30000);
 
-            depositService.processMonthlyOverdue();
+            monthlyOverdueEngine.run(YearMonth.now());
 
             DepositVO deposit = depositMapper.selectByBookOwnerId(owner.getId());
             assertThat(deposit.getRemainingAmount()).isEqualTo(40000);
@@ -197,7 +198,7 @@ class ProcessMonthlyOverdueTest {
 
             RentalSettlementVO overdue = insertOverdue(record.getId(), owner.getId(), pastMonth(1), 50000);
 
-            depositService.processMonthlyOverdue();
+            monthlyOverdueEngine.run(YearMonth.now());
 
             DepositVO deposit = depositMapper.selectByBookOwnerId(owner.getId());
             assertThat(deposit.getRemainingAmount()).isEqualTo(0);
@@ -226,7 +227,7 @@ class ProcessMonthlyOverdueTest {
             insertOverdue(record.getId(), owner.getId(), pastMonth(2), 30000);
             insertOverdue(record.getId(), owner.getId(), pastMonth(1), 30000);
 
-            depositService.processMonthlyOverdue();
+            monthlyOverdueEngine.run(YearMonth.now());
 
             DepositVO deposit = depositMapper.selectByBookOwnerId(owner.getId());
             assertThat(deposit.getRemainingAmount()).isEqualTo(0);
@@ -247,7 +248,7 @@ class ProcessMonthlyOverdueTest {
 
             insertOverdue(record.getId(), owner.getId(), pastMonth(1), 50000);
 
-            depositService.processMonthlyOverdue();
+            monthlyOverdueEngine.run(YearMonth.now());
 
             DepositVO deposit = depositMapper.selectByBookOwnerId(owner.getId());
             assertThat(deposit.getRemainingAmount()).isEqualTo(0);
@@ -274,7 +275,7 @@ class ProcessMonthlyOverdueTest {
             insertOverdue(record.getId(), owner.getId(), pastMonth(2), 50000);
             insertOverdue(record.getId(), owner.getId(), pastMonth(1), 50000);
 
-            depositService.processMonthlyOverdue();
+            monthlyOverdueEngine.run(YearMonth.now());
 
             DepositVO deposit = depositMapper.selectByBookOwnerId(owner.getId());
             assertThat(deposit.getRemainingAmount()).isEqualTo(0);
@@ -297,7 +298,7 @@ class ProcessMonthlyOverdueTest {
             BookCaseOccupiedRecordVO record = occupiedRecordMapper.selectCurrentByBookCaseId(bookCaseId);
             occupiedRecordMapper.updateSuspendedAt(record.getId());
 
-            depositService.processMonthlyOverdue();
+            monthlyOverdueEngine.run(YearMonth.now());
 
             // 강제 퇴거 → 점유 해제됨
             BookCaseOccupiedRecordVO afterRecord = occupiedRecordMapper.selectCurrentByBookCaseId(bookCaseId);
@@ -328,7 +329,7 @@ class ProcessMonthlyOverdueTest {
             insertOverdue(rec1.getId(), owner.getId(), pastMonth(2), 30000);
             insertOverdue(rec2.getId(), owner.getId(), pastMonth(1), 30000);
 
-            depositService.processMonthlyOverdue();
+            monthlyOverdueEngine.run(YearMonth.now());
 
             DepositVO depositAfter = depositMapper.selectByBookOwnerId(owner.getId());
             assertThat(depositAfter.getRemainingAmount()).isEqualTo(90000);
@@ -352,7 +353,7 @@ class ProcessMonthlyOverdueTest {
             BookOwnerVO ownerB = createBookOwner();
             occupyBookCase(ownerB, bookCaseIdB, 50000);
 
-            depositService.processMonthlyOverdue();
+            monthlyOverdueEngine.run(YearMonth.now());
 
             // Owner A: 공제 처리됨
             DepositVO depositA = depositMapper.selectByBookOwnerId(ownerA.getId());
@@ -383,7 +384,7 @@ class ProcessMonthlyOverdueTest {
             RentalSettlementVO rental = insertOverdue(record.getId(), owner.getId(), pastMonth(1), 50000);
 
             // 보증금 없이 실행 → 에러 없이 스킵
-            depositService.processMonthlyOverdue();
+            monthlyOverdueEngine.run(YearMonth.now());
 
             // 임대료 상태 변동 없음
             RentalSettlementVO after = rentalSettlementMapper.selectById(rental.getId());
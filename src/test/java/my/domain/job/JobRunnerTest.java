@@ -0,0 +1,291 @@
+package my.domain.job;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import my.common.exception.ApplicationException;
+import my.common.exception.ErrorCode;
+import my.domain.job.dto.JobPartitionResult;
+import my.domain.job.vo.JobCheckpointVO;
+import my.domain.job.vo.JobExecutionVO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class JobRunnerTest {
+
+    private static final String JOB = "test-job";
+    private static final String KEY = "2026-11";
+    private static final long EXECUTION_ID = 7L;
+    private static final String NODE = "node-a";
+
+    @Mock private JobMapper jobMapper;
+    @Mock private PartitionedJob job;
+    @Mock private PlatformTransactionManager transactionManager;
+    @Captor private ArgumentCaptor<List<JobCheckpointVO>> checkpointsCaptor;
+
+    private SimpleMeterRegistry meterRegistry;
+    private JobRunner jobRunner;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        given(job.name()).willReturn(JOB);
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+        jobRunner = new JobRunner(List.of(job), jobMapper, transactionManager, meterRegistry, NODE, 2, 900, 300);
+
+        willAnswer(inv -> {
+            inv.getArgument(0, JobExecutionVO.class).setId(EXECUTION_ID);
+            return 1;
+        }).given(jobMapper).insertExecution(any());
+        given(jobMapper.claimCheckpoint(eq(EXECUTION_ID), anyInt(), eq(NODE), anyLong())).willReturn(1);
+        given(jobMapper.selectCheckpoint(eq(EXECUTION_ID), anyInt())).willAnswer(inv -> {
+            int partitionNo = inv.getArgument(1);
+            return checkpoint(partitionNo, partitionNo * 2L - 1, Math.min(partitionNo * 2L, 5L));
+        });
+        given(jobMapper.completeCheckpoint(eq(EXECUTION_ID), anyInt(), eq(NODE), anyInt(), anyInt())).willReturn(1);
+    }
+
+    private static JobExecutionVO execution(String status) {
+        JobExecutionVO execution = new JobExecutionVO();
+        execution.setId(EXECUTION_ID);
+        execution.setJobName(JOB);
+        execution.setJobKey(KEY);
+        execution.setStatus(status);
+        execution.setStartedAt(Timestamp.valueOf(LocalDateTime.of(2026, 11, 1, 5, 0)));
+        if (!JobRunner.STATUS_RUNNING.equals(status)) {
+            execution.setFinishedAt(Timestamp.valueOf(LocalDateTime.of(2026, 11, 1, 5, 3)));
+        }
+        return execution;
+    }
+
+    private static JobCheckpointVO checkpoint(int partitionNo, long fromId, long toId) {
+        JobCheckpointVO checkpoint = new JobCheckpointVO();
+        checkpoint.setExecutionId(EXECUTION_ID);
+        checkpoint.setPartitionNo(partitionNo);
+        checkpoint.setFromId(fromId);
+        checkpoint.setToId(toId);
+        return checkpoint;
+    }
+
+    @Test
+    @DisplayName("lease를 잡으면 대상 ID를 범위 파티션으로 나눠 저장하고, 파티션은 처리하지 않고 바로 돌려준다")
+    void launch_plansPartitions() {
+        given(jobMapper.acquireLock(JOB, NODE, 300)).willReturn(1);
+        given(jobMapper.selectExecutionById(EXECUTION_ID)).willReturn(execution("RUNNING"));
+        given(job.plan(any())).willAnswer(inv -> {
+            inv.getArgument(0, JobExecutionVO.class).setTargetId(42L);
+            return List.of(1L, 2L, 3L, 4L, 5L);
+        });
+
+        JobExecutionVO result = jobRunner.launch(JOB, KEY);
+
+        assertThat(result.getStatus()).isEqualTo("RUNNING");
+        assertThat(result.getPartitionCount()).isEqualTo(3);
+        verify(jobMapper).insertCheckpoints(checkpointsCaptor.capture());
+        assertThat(checkpointsCaptor.getValue())
+                .extracting(JobCheckpointVO::getPartitionNo, JobCheckpointVO::getFromId, JobCheckpointVO::getToId)
+                .containsExactly(
+                        tuple(1, 1L, 2L),
+                        tuple(2, 3L, 4L),
+                        tuple(3, 5L, 5L));
+        verify(jobMapper).updatePlan(EXECUTION_ID, 42L, 3);
+        verify(jobMapper).releaseLock(JOB, NODE);
+        verify(jobMapper, never()).claimCheckpoint(anyLong(), anyInt(), anyString(), anyLong());
+        verify(job, never()).process(any(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 계획 중이면 실행을 만들지 않고 null")
+    void launch_lockHeldElsewhere() {
+        given(jobMapper.acquireLock(JOB, NODE, 300)).willReturn(0);
+
+        assertThat(jobRunner.launch(JOB, KEY)).isNull();
+        verify(jobMapper, never()).insertExecution(any());
+        verify(job, never()).plan(any());
+    }
+
+    @Test
+    @DisplayName("같은 키의 실행이 있으면 계획하지 않고 그 실행을 돌려준다")
+    void launch_returnsExistingExecution() {
+        given(jobMapper.selectExecution(JOB, KEY)).willReturn(execution("RUNNING"));
+
+        JobExecutionVO result = jobRunner.launch(JOB, KEY);
+
+        assertThat(result.getId()).isEqualTo(EXECUTION_ID);
+        verify(jobMapper, never()).acquireLock(anyString(), anyString(), anyLong());
+        verify(jobMapper, never()).insertExecution(any());
+        verify(job, never()).process(any(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("작업이 받지 않는 키면 실행을 만들지 않고 예외")
+    void launch_invalidKey() {
+        willThrow(new ApplicationException(ErrorCode.JOB_KEY_INVALID)).given(job).validateKey("bad");
+
+        assertThatThrownBy(() -> jobRunner.launch(JOB, "bad"))
+                .isInstanceOf(ApplicationException.class)
+                .extracting(e -> ((ApplicationException) e).getErrorCode())
+                .isEqualTo(ErrorCode.JOB_KEY_INVALID);
+        verify(jobMapper, never()).acquireLock(anyString(), anyString(), anyLong());
+        verify(jobMapper, never()).insertExecution(any());
+    }
+
+    @Test
+    @DisplayName("poll은 진행 중인 실행의 파티션을 모두 처리한 뒤 작업을 닫는다")
+    void poll_processesPartitionsAndCompletes() {
+        given(jobMapper.selectRunningExecutions()).willReturn(List.of(execution("RUNNING")));
+        given(jobMapper.selectClaimablePartitionNos(EXECUTION_ID, 10))
+                .willReturn(List.of(1, 2, 3), List.of(2, 3), List.of(3), List.of());
+        given(job.process(any(), anyLong(), anyLong(), any())).willReturn(new JobPartitionResult(2, 1));
+        given(jobMapper.finishExecution(EXECUTION_ID)).willReturn(1);
+        given(jobMapper.selectExecutionById(EXECUTION_ID)).willReturn(execution("COMPLETED"));
+
+        jobRunner.poll();
+
+        verify(job).process(any(), eq(1L), eq(2L), any());
+        verify(job).process(any(), eq(3L), eq(4L), any());
+        verify(job).process(any(), eq(5L), eq(5L), any());
+        verify(job).complete(any());
+        assertThat(meterRegistry.counter("job.processed", "job", JOB).count()).isEqualTo(6);
+        assertThat(meterRegistry.counter("job.failures", "job", JOB).count()).isEqualTo(3);
+        assertThat(meterRegistry.timer("job.execution.duration", "job", JOB, "status", "completed").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 먼저 선점한 파티션은 처리하지 않는다")
+    void poll_skipsPartitionClaimedElsewhere() {
+        given(jobMapper.selectRunningExecutions()).willReturn(List.of(execution("RUNNING")));
+        given(jobMapper.selectClaimablePartitionNos(EXECUTION_ID, 10)).willReturn(List.of(1), List.of());
+        given(jobMapper.claimCheckpoint(EXECUTION_ID, 1, NODE, 900)).willReturn(0);
+
+        jobRunner.poll();
+
+        verify(job, never()).process(any(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("파티션이 실패하면 FAILED로 남기고 작업을 닫지 않는다")
+    void poll_partitionFailure() {
+        given(jobMapper.selectRunningExecutions()).willReturn(List.of(execution("RUNNING")));
+        given(jobMapper.selectClaimablePartitionNos(EXECUTION_ID, 10)).willReturn(List.of(1), List.of());
+        given(job.process(any(), anyLong(), anyLong(), any())).willThrow(new IllegalStateException("db down"));
+        given(jobMapper.finishExecution(EXECUTION_ID)).willReturn(1);
+        given(jobMapper.selectExecutionById(EXECUTION_ID)).willReturn(execution("FAILED"));
+
+        jobRunner.poll();
+
+        verify(jobMapper).failCheckpoint(EXECUTION_ID, 1, NODE, "IllegalStateException: db down");
+        verify(job, never()).complete(any());
+        assertThat(meterRegistry.counter("job.partitions", "job", JOB, "result", "failed").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("처리 중에 lease를 연장하고, 연장이 0건이면 파티션을 FAILED로 남기지 않고 멈춘다")
+    void poll_leaseLostStopsPartition() {
+        jobRunner = new JobRunner(List.of(job), jobMapper, transactionManager, meterRegistry, NODE, 2, 0, 300);
+        given(jobMapper.claimCheckpoint(EXECUTION_ID, 1, NODE, 0)).willReturn(1);
+        given(jobMapper.selectRunningExecutions()).willReturn(List.of(execution("RUNNING")));
+        given(jobMapper.selectClaimablePartitionNos(EXECUTION_ID, 10)).willReturn(List.of(1), List.of());
+        given(jobMapper.renewCheckpointLease(EXECUTION_ID, 1, NODE, 0)).willReturn(1, 0);
+        given(job.process(any(), anyLong(), anyLong(), any())).willAnswer(inv -> {
+            JobLease lease = inv.getArgument(3);
+            lease.renew();
+            // 워커 스레드 예외로 감싸져도 lease 손실로 본다
+            try {
+                lease.renew();
+            } catch (JobLeaseLostException e) {
+                throw new IllegalStateException(e);
+            }
+            return new JobPartitionResult(2, 0);
+        });
+
+        jobRunner.poll();
+
+        verify(jobMapper, never()).failCheckpoint(any(), anyInt(), anyString(), anyString());
+        verify(jobMapper, never()).completeCheckpoint(any(), anyInt(), anyString(), anyInt(), anyInt());
+        assertThat(meterRegistry.counter("job.partitions", "job", JOB, "result", "lost").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("lease를 한 번 잃으면 다시 연장하지 않고 계속 JobLeaseLostException")
+    void poll_leaseStaysLost() {
+        jobRunner = new JobRunner(List.of(job), jobMapper, transactionManager, meterRegistry, NODE, 2, 0, 300);
+        given(jobMapper.claimCheckpoint(EXECUTION_ID, 1, NODE, 0)).willReturn(1);
+        given(jobMapper.selectRunningExecutions()).willReturn(List.of(execution("RUNNING")));
+        given(jobMapper.selectClaimablePartitionNos(EXECUTION_ID, 10)).willReturn(List.of(1), List.of());
+        given(jobMapper.renewCheckpointLease(EXECUTION_ID, 1, NODE, 0)).willReturn(0);
+        given(job.process(any(), anyLong(), anyLong(), any())).willAnswer(inv -> {
+            JobLease lease = inv.getArgument(3);
+            assertThatThrownBy(lease::renew).isInstanceOf(JobLeaseLostException.class);
+            assertThatThrownBy(lease::renew).isInstanceOf(JobLeaseLostException.class);
+            return new JobPartitionResult(0, 0);
+        });
+
+        jobRunner.poll();
+
+        verify(jobMapper).renewCheckpointLease(EXECUTION_ID, 1, NODE, 0);
+    }
+
+    @Test
+    @DisplayName("재개하면 실패한 파티션을 되돌리고 실행을 RUNNING으로 돌려준다")
+    void resume_resetsFailedPartitions() {
+        given(jobMapper.selectExecutionById(EXECUTION_ID))
+                .willReturn(execution("FAILED"), execution("RUNNING"));
+
+        JobExecutionVO result = jobRunner.resume(EXECUTION_ID);
+
+        assertThat(result.getStatus()).isEqualTo("RUNNING");
+        verify(jobMapper).resetFailedCheckpoints(EXECUTION_ID);
+        verify(jobMapper).reopenExecution(EXECUTION_ID);
+        verify(job, never()).process(any(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("완료된 실행은 재개할 수 없다")
+    void resume_completed() {
+        given(jobMapper.selectExecutionById(EXECUTION_ID)).willReturn(execution("COMPLETED"));
+
+        assertThatThrownBy(() -> jobRunner.resume(EXECUTION_ID))
+                .isInstanceOf(ApplicationException.class)
+                .extracting(e -> ((ApplicationException) e).getErrorCode())
+                .isEqualTo(ErrorCode.JOB_EXECUTION_ALREADY_COMPLETED);
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 작업이면 예외")
+    void launch_unknownJob() {
+        assertThatThrownBy(() -> jobRunner.launch("unknown", KEY))
+                .isInstanceOf(ApplicationException.class)
+                .extracting(e -> ((ApplicationException) e).getErrorCode())
+                .isEqualTo(ErrorCode.JOB_NOT_FOUND);
+    }
+}
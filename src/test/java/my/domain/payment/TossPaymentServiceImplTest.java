@@ -0,0 +1,113 @@
+package my.domain.payment;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import my.common.http.OutboundHttpClients;
+import my.common.http.OutboundHttpProperties;
+import my.domain.payment.dto.TossBulkTransferItemDto;
+import my.domain.payment.dto.TossTransferResponseDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TossPaymentServiceImplTest {
+
+    private TossPayoutStubServer stub;
+    private OutboundHttpClients outboundHttpClients;
+    private TossPaymentServiceImpl tossPaymentService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = new TossPayoutStubServer();
+        outboundHttpClients = new OutboundHttpClients(new OutboundHttpProperties(), new RestTemplateBuilder(),
+                new SimpleMeterRegistry());
+        tossPaymentService = new TossPaymentServiceImpl(outboundHttpClients, "test_sk", stub.baseUrl(), true, 100, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tossPaymentService.shutdown();
+        outboundHttpClients.shutdown();
+        stub.close();
+    }
+
+    private List<TossBulkTransferItemDto> items(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new TossBulkTransferItemDto("settlement-" + i, "088",
+                        (i % 50 == 7 ? "000-" : "110-") + i, 10000 + i, "소유주" + i))
+                .toList();
+    }
+
+    @Test
+    @DisplayName("chunk 단위로 나눠 몇 번의 요청으로 보내고, 동시 요청 수는 max-in-flight를 넘지 않는다")
+    void transferAll_chunksWithBoundedConcurrency() {
+        List<TossBulkTransferItemDto> items = items(450);
+
+        List<TossTransferResponseDto> results = tossPaymentService.transferAll(items);
+
+        assertThat(stub.bulkRequests()).isEqualTo(5);
+        assertThat(stub.maxInFlight()).isBetween(1, 2);
+        assertThat(stub.lastAuthorization()).startsWith("Basic ");
+        assertThat(results).hasSize(450);
+        assertThat(results).extracting(TossTransferResponseDto::getIdempotencyKey)
+                .containsExactlyElementsOf(items.stream().map(TossBulkTransferItemDto::getIdempotencyKey).toList());
+    }
+
+    @Test
+    @DisplayName("항목별 실패와 요청 실패는 예외 없이 해당 항목의 FAILED 결과로 돌려준다")
+    void transferAll_partialFailures() {
+        stub.failRequestContaining("settlement-150");
+
+        List<TossTransferResponseDto> results = tossPaymentService.transferAll(items(250));
+
+        // 항목 실패: 계좌 오류
+        assertThat(results.get(7).isFailed()).isTrue();
+        assertThat(results.get(7).getFailureCode()).isEqualTo("INVALID_ACCOUNT");
+        // 요청 실패: 두 번째 chunk(100~199) 전체
+        assertThat(results.subList(100, 200)).allSatisfy(r -> {
+            assertThat(r.isFailed()).isTrue();
+            assertThat(r.getFailureCode()).isEqualTo("REQUEST_FAILED");
+        });
+        // 나머지는 성공
+        assertThat(results.get(0).getStatus()).isEqualTo("COMPLETED");
+        assertThat(results.get(0).getPayoutKey()).isNotBlank();
+        assertThat(results.subList(200, 250)).filteredOn(TossTransferResponseDto::isFailed).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("같은 idempotencyKey로 다시 보내면 같은 송금 결과를 받는다")
+    void transferAll_retryIsIdempotent() {
+        List<TossBulkTransferItemDto> items = items(3);
+
+        String first = tossPaymentService.transferAll(items).get(0).getPayoutKey();
+        String retried = tossPaymentService.transferAll(items).get(0).getPayoutKey();
+        String single = tossPaymentService.transfer("088", "110-0", 10000, "소유주0", "settlement-0").getPayoutKey();
+
+        assertThat(retried).isEqualTo(first);
+        assertThat(single).isEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("bulk.enabled=false 이면 일괄 API 없이 건별로 보내고, 결과 순서와 항목 실패는 같다")
+    void transferAll_bulkDisabledFallsBackToSingleTransfers() {
+        tossPaymentService.shutdown();
+        tossPaymentService = new TossPaymentServiceImpl(outboundHttpClients, "test_sk", stub.baseUrl(), false, 100, 2);
+        List<TossBulkTransferItemDto> items = items(10);
+
+        List<TossTransferResponseDto> results = tossPaymentService.transferAll(items);
+
+        assertThat(stub.bulkRequests()).isZero();
+        assertThat(stub.singleRequests()).isEqualTo(10);
+        assertThat(results).extracting(TossTransferResponseDto::getIdempotencyKey)
+                .containsExactlyElementsOf(items.stream().map(TossBulkTransferItemDto::getIdempotencyKey).toList());
+        assertThat(results.get(7).isFailed()).isTrue();
+        assertThat(results.get(0).getPayoutKey()).isNotBlank();
+    }
+}
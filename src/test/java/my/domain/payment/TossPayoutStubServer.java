@@ -0,0 +1,142 @@
+package my.domain.payment;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 토스 송금 API stub (localhost 임의 포트).
+ * - POST /payouts, POST /payouts/bulk 지원, 같은 idempotencyKey에는 같은 payoutKey를 돌려준다.
+ * - 계좌번호가 "000"으로 시작하면 그 항목만 FAILED, failRequestKeys 의 키가 섞인 요청은 통째로 500.
+ * - 동시에 처리 중인 요청 수의 최댓값을 maxInFlight()로 확인할 수 있다.
+ */
+class TossPayoutStubServer implements AutoCloseable {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newFixedThreadPool(16);
+    private final Map<String, String> payoutKeys = new ConcurrentHashMap<>();
+    private final Set<String> failRequestKeys = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger bulkRequests = new AtomicInteger();
+    private final AtomicInteger singleRequests = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private volatile String lastAuthorization;
+
+    TossPayoutStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/payouts/bulk", this::handleBulk);
+        server.createContext("/payouts", this::handleSingle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    void failRequestContaining(String idempotencyKey) {
+        failRequestKeys.add(idempotencyKey);
+    }
+
+    int bulkRequests() {
+        return bulkRequests.get();
+    }
+
+    int singleRequests() {
+        return singleRequests.get();
+    }
+
+    int maxInFlight() {
+        return maxInFlight.get();
+    }
+
+    String lastAuthorization() {
+        return lastAuthorization;
+    }
+
+    private void handleBulk(HttpExchange exchange) throws IOException {
+        bulkRequests.incrementAndGet();
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            lastAuthorization = exchange.getRequestHeaders().getFirst("Authorization");
+            JsonNode payouts = objectMapper.readTree(exchange.getRequestBody()).get("payouts");
+            Thread.sleep(30);
+
+            ArrayNode results = objectMapper.createArrayNode();
+            for (JsonNode payout : payouts) {
+                String key = payout.get("idempotencyKey").asText();
+                if (failRequestKeys.contains(key)) {
+                    respond(exchange, 500, "{\"code\":\"INTERNAL_ERROR\"}");
+                    return;
+                }
+                results.add(result(key, payout));
+            }
+            ObjectNode body = objectMapper.createObjectNode();
+            body.set("results", results);
+            respond(exchange, 200, objectMapper.writeValueAsString(body));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            respond(exchange, 500, "{}");
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private void handleSingle(HttpExchange exchange) throws IOException {
+        singleRequests.incrementAndGet();
+        lastAuthorization = exchange.getRequestHeaders().getFirst("Authorization");
+        JsonNode payout = objectMapper.readTree(exchange.getRequestBody());
+        String key = exchange.getRequestHeaders().getFirst("Idempotency-Key");
+        respond(exchange, 200, objectMapper.writeValueAsString(result(key, payout)));
+    }
+
+    private ObjectNode result(String key, JsonNode payout) {
+        ObjectNode result = objectMapper.createObjectNode();
+        result.put("idempotencyKey", key);
+        result.put("bankCode", payout.get("bankCode").asText());
+        result.put("accountNumber", payout.get("accountNumber").asText());
+        result.put("amount", payout.get("amount").asInt());
+        if (payout.get("accountNumber").asText().startsWith("000")) {
+            result.put("status", "FAILED");
+            result.put("failureCode", "INVALID_ACCOUNT");
+            result.put("failureMessage", "존재하지 않는 계좌입니다");
+        } else {
+            String payoutKey = key == null ? "payout_" + UUID.randomUUID()
+                    : payoutKeys.computeIfAbsent(key, k -> "payout_" + UUID.randomUUID());
+            result.put("payoutKey", payoutKey);
+            result.put("status", "COMPLETED");
+        }
+        return result;
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,85 @@
+package my.domain.rental.service;
+
+import my.common.exception.ApplicationException;
+import my.common.exception.ErrorCode;
+import my.domain.rental.RentalSettlementMapper;
+import my.domain.rental.RentalSettlementVO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RentalSettlementServiceImplTest {
+
+    @Mock private RentalSettlementMapper rentalSettlementMapper;
+    @InjectMocks private RentalSettlementServiceImpl rentalSettlementService;
+
+    @Test
+    @DisplayName("첫 달은 남은 일수만큼 일할 계산하고 이후 달은 월 임대료 그대로 일정을 만든다")
+    void scheduleSettlements_proratesFirstMonth() {
+        List<RentalSettlementVO> schedule = rentalSettlementService.scheduleSettlements(
+                1L, 2L, LocalDate.of(2026, 4, 21), LocalDate.of(2026, 6, 30), 30000);
+
+        assertThat(schedule).extracting(RentalSettlementVO::getTargetMonth)
+                .containsExactly("2026-04", "2026-05", "2026-06");
+        assertThat(schedule).extracting(RentalSettlementVO::getAmount)
+                .containsExactly(10000, 30000, 30000);
+        assertThat(schedule).allSatisfy(settlement -> {
+            assertThat(settlement.getOccupiedRecordId()).isEqualTo(1L);
+            assertThat(settlement.getBookOwnerId()).isEqualTo(2L);
+        });
+        verify(rentalSettlementMapper, never()).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("일정은 다중 행 INSERT 한 번으로 저장한다")
+    void generateSettlements_insertsOnce() {
+        given(rentalSettlementMapper.insertAll(anyList())).willAnswer(inv -> inv.getArgument(0, List.class).size());
+
+        rentalSettlementService.generateSettlements(1L, 2L, LocalDate.of(2026, 1, 1), LocalDate.of(2027, 12, 31), 30000);
+
+        verify(rentalSettlementMapper, times(1)).insertAll(anyList());
+        verify(rentalSettlementMapper, never()).insert(any());
+    }
+
+    @Test
+    @DisplayName("청크 크기를 넘으면 청크마다 INSERT 한다")
+    void saveSettlements_chunks() {
+        given(rentalSettlementMapper.insertAll(anyList())).willAnswer(inv -> inv.getArgument(0, List.class).size());
+        List<RentalSettlementVO> settlements = Stream.generate(RentalSettlementVO::new)
+                .limit(RentalSettlementServiceImpl.INSERT_CHUNK_SIZE + 1)
+                .toList();
+
+        rentalSettlementService.saveSettlements(settlements);
+
+        verify(rentalSettlementMapper, times(2)).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("저장된 행 수가 다르면 예외")
+    void saveSettlements_countMismatch() {
+        given(rentalSettlementMapper.insertAll(anyList())).willReturn(1);
+
+        assertThatThrownBy(() -> rentalSettlementService.saveSettlements(
+                List.of(new RentalSettlementVO(), new RentalSettlementVO())))
+                .isInstanceOf(ApplicationException.class)
+                .extracting(e -> ((ApplicationException) e).getErrorCode())
+                .isEqualTo(ErrorCode.RENTAL_SETTLEMENT_INSERT_FAIL);
+    }
+}
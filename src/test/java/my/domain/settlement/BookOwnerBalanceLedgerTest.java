@@ -0,0 +1,71 @@
+package my.domain.settlement;
+
+import my.domain.settlement.vo.BookOwnerBalanceVO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BookOwnerBalanceLedgerTest {
+
+    @Mock private BookOwnerBalanceMapper bookOwnerBalanceMapper;
+
+    @InjectMocks
+    private BookOwnerBalanceLedger ledger;
+
+    @Test
+    @DisplayName("잔액 행이 없는 BookOwner는 0 잔액을 돌려준다")
+    void find_missingRowIsZero() {
+        BookOwnerBalanceVO balance = ledger.find(7L);
+
+        assertThat(balance.getBookOwnerId()).isEqualTo(7L);
+        assertThat(balance.getGrossAmount()).isZero();
+        assertThat(balance.getOwnerAmount()).isZero();
+        assertThat(balance.getRecordCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("판매 기록은 IN 절 한도 단위로 나눠 반영한다")
+    void addSales_chunksByInClauseLimit() {
+        List<Long> ids = LongStream.rangeClosed(1, 1500).boxed().toList();
+
+        ledger.addSales(ids);
+
+        verify(bookOwnerBalanceMapper).addSales(ids.subList(0, 1000));
+        verify(bookOwnerBalanceMapper).addSales(ids.subList(1000, 1500));
+    }
+
+    @Test
+    @DisplayName("첫 판매가 동시에 들어와 잔액 행 INSERT가 겹치면 한 번 더 반영한다")
+    void addSales_retriesOnConcurrentInsert() {
+        willThrow(new DuplicateKeyException("UQ")).willReturn(1).given(bookOwnerBalanceMapper).addSales(anyList());
+
+        ledger.addSales(List.of(1L, 2L));
+
+        verify(bookOwnerBalanceMapper, times(2)).addSales(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("정산 시 정산된 금액과 건수만큼 뺀다")
+    void subtractSettled() {
+        given(bookOwnerBalanceMapper.subtract(7L, 30000L, 21000L, 3)).willReturn(1);
+
+        ledger.subtractSettled(7L, 30000, 21000, 3);
+
+        verify(bookOwnerBalanceMapper).subtract(7L, 30000L, 21000L, 3);
+    }
+}
@@ -0,0 +1,61 @@
+package my.domain.settlement;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BookOwnerBalanceReconcilerTest {
+
+    @Mock private BookOwnerBalanceMapper bookOwnerBalanceMapper;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BookOwnerBalanceReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        reconciler = new BookOwnerBalanceReconciler(bookOwnerBalanceMapper, transactionManager, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("어긋난 BookOwner만 잠근 뒤 재계산하고, 동시 INSERT와 겹친 건은 건너뛴다")
+    void reconcile_rebuildsDriftedOwnersOnly() {
+        given(bookOwnerBalanceMapper.selectDriftedBookOwnerIds()).willReturn(List.of(3L, 4L));
+        willReturn(1).given(bookOwnerBalanceMapper).rebuild(3L);
+        willThrow(new DuplicateKeyException("PK")).given(bookOwnerBalanceMapper).rebuild(4L);
+
+        int repaired = reconciler.reconcile();
+
+        assertThat(repaired).isEqualTo(1);
+        verify(bookOwnerBalanceMapper).lockByBookOwnerId(3L);
+        verify(bookOwnerBalanceMapper).lockByBookOwnerId(4L);
+        assertThat(meterRegistry.counter("settlement.balance.drift").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("불일치가 없으면 아무것도 재계산하지 않는다")
+    void reconcile_noDrift() {
+        given(bookOwnerBalanceMapper.selectDriftedBookOwnerIds()).willReturn(List.of());
+
+        assertThat(reconciler.reconcile()).isZero();
+        verify(bookOwnerBalanceMapper, never()).rebuild(anyLong());
+    }
+}
@@ -0,0 +1,65 @@
+package my.domain.settlement;
+
+import my.common.exception.ApplicationException;
+import my.common.exception.ErrorCode;
+import my.domain.job.JobLease;
+import my.domain.job.vo.JobExecutionVO;
+import my.domain.settlement.dto.SettlementBatchReport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MonthlySettlementJobTest {
+
+    private static final long RUN_ID = 10L;
+
+    @Mock private SettlementBatchEngine settlementBatchEngine;
+    @Mock private SettlementRunMapper settlementRunMapper;
+
+    @InjectMocks
+    private MonthlySettlementJob job;
+
+    @Test
+    @DisplayName("이번 달이 아닌 키나 형식이 다른 키는 받지 않는다")
+    void validateKey() {
+        assertThatCode(() -> job.validateKey(YearMonth.now().toString())).doesNotThrowAnyException();
+
+        for (String key : List.of(YearMonth.now().minusMonths(1).toString(), "2026/11", "latest")) {
+            assertThatThrownBy(() -> job.validateKey(key))
+                    .isInstanceOf(ApplicationException.class)
+                    .extracting(e -> ((ApplicationException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.JOB_KEY_INVALID);
+        }
+    }
+
+    @Test
+    @DisplayName("계획할 때 연 정산 실행을 실행에 남기고, 파티션과 완료 처리는 그 실행에만 적용한다")
+    void pinsSettlementRun() {
+        JobExecutionVO execution = new JobExecutionVO();
+        given(settlementBatchEngine.openRun()).willReturn(RUN_ID);
+        given(settlementRunMapper.selectPendingOwnerIds(RUN_ID)).willReturn(List.of(1L, 2L));
+        given(settlementBatchEngine.runRange(RUN_ID, 1L, 2L, JobLease.NONE))
+                .willReturn(SettlementBatchReport.of(RUN_ID, true, 1, 1, 0, 5));
+
+        assertThat(job.plan(execution)).containsExactly(1L, 2L);
+        assertThat(execution.getTargetId()).isEqualTo(RUN_ID);
+
+        assertThat(job.process(execution, 1L, 2L, JobLease.NONE).failed()).isEqualTo(1);
+        job.complete(execution);
+
+        verify(settlementBatchEngine).completeRun(RUN_ID);
+    }
+}
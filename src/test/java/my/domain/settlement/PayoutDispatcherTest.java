@@ -0,0 +1,150 @@
+package my.domain.settlement;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import my.common.exception.ApplicationException;
+import my.common.exception.ErrorCode;
+import my.domain.payment.TossPaymentService;
+import my.domain.payment.dto.TossBulkTransferItemDto;
+import my.domain.payment.dto.TossTransferResponseDto;
+import my.domain.settlement.vo.PayoutOutboxVO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PayoutDispatcherTest {
+
+    @Mock private PayoutOutboxMapper payoutOutboxMapper;
+    @Mock private SettlementMapper settlementMapper;
+    @Mock private TossPaymentService tossPaymentService;
+    @Mock private PlatformTransactionManager transactionManager;
+    @Captor private ArgumentCaptor<List<TossBulkTransferItemDto>> itemsCaptor;
+
+    private PayoutDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new PayoutDispatcher(payoutOutboxMapper, settlementMapper, tossPaymentService,
+                transactionManager, new SimpleMeterRegistry(), 50, 3, 60, 30);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    private PayoutOutboxVO payout(long id, int attempts) {
+        PayoutOutboxVO payout = new PayoutOutboxVO();
+        payout.setId(id);
+        payout.setSettlementId(id + 100);
+        payout.setBankCode("088");
+        payout.setAccountNumber("110-123-456789");
+        payout.setHolderName("홍길동");
+        payout.setAmount(27000);
+        payout.setIdempotencyKey("settlement-" + (id + 100));
+        payout.setAttempts(attempts);
+        return payout;
+    }
+
+    private TossTransferResponseDto completed(String idempotencyKey, String payoutKey) {
+        TossTransferResponseDto response = new TossTransferResponseDto();
+        response.setIdempotencyKey(idempotencyKey);
+        response.setPayoutKey(payoutKey);
+        response.setStatus("COMPLETED");
+        return response;
+    }
+
+    @Test
+    @DisplayName("선점한 행만 한 번의 일괄 송금으로 보내고 결과를 정산에 반영")
+    void dispatchDue_sendsClaimedRowsInOneBulkCall() {
+        given(payoutOutboxMapper.selectDue(50)).willReturn(List.of(payout(1L, 0), payout(2L, 0), payout(3L, 0)));
+        given(payoutOutboxMapper.claim(1L, 60)).willReturn(1);
+        given(payoutOutboxMapper.claim(2L, 60)).willReturn(0);
+        given(payoutOutboxMapper.claim(3L, 60)).willReturn(1);
+        given(tossPaymentService.transferAll(anyList()))
+                .willReturn(List.of(completed("settlement-101", "payout_1"), completed("settlement-103", "payout_3")));
+
+        int attempted = dispatcher.dispatchDue();
+
+        assertThat(attempted).isEqualTo(2);
+        verify(tossPaymentService).transferAll(itemsCaptor.capture());
+        assertThat(itemsCaptor.getValue()).extracting(TossBulkTransferItemDto::getIdempotencyKey)
+                .containsExactly("settlement-101", "settlement-103");
+        verify(payoutOutboxMapper).markSent(1L);
+        verify(payoutOutboxMapper).markSent(3L);
+        verify(settlementMapper).updateTransfer(101L, "payout_1", "COMPLETED");
+        verify(settlementMapper).updateTransfer(103L, "payout_3", "COMPLETED");
+    }
+
+    @Test
+    @DisplayName("일부 항목만 실패하면 그 항목만 지수 백오프로 재시도 예약")
+    void dispatchDue_schedulesRetryForFailedItems() {
+        given(payoutOutboxMapper.selectDue(50)).willReturn(List.of(payout(1L, 1), payout(2L, 0)));
+        given(payoutOutboxMapper.claim(anyLong(), eq(60L))).willReturn(1);
+        given(tossPaymentService.transferAll(anyList())).willReturn(List.of(
+                TossTransferResponseDto.failed("settlement-101", "INVALID_ACCOUNT", "계좌 오류"),
+                completed("settlement-102", "payout_2")));
+
+        dispatcher.dispatchDue();
+
+        verify(payoutOutboxMapper).markRetry(1L, 60L, "INVALID_ACCOUNT: 계좌 오류");
+        verify(payoutOutboxMapper, never()).markSent(1L);
+        verify(payoutOutboxMapper).markSent(2L);
+        verify(settlementMapper, never()).updateTransfer(eq(101L), any(), any());
+    }
+
+    @Test
+    @DisplayName("일괄 송금 호출이 예외로 끝나면 선점한 항목 모두 재시도 예약")
+    void dispatchDue_retriesAllWhenBulkCallThrows() {
+        given(payoutOutboxMapper.selectDue(50)).willReturn(List.of(payout(1L, 0)));
+        given(payoutOutboxMapper.claim(1L, 60)).willReturn(1);
+        given(tossPaymentService.transferAll(anyList()))
+                .willThrow(new ApplicationException(ErrorCode.SETTLEMENT_TRANSFER_FAIL));
+
+        dispatcher.dispatchDue();
+
+        verify(payoutOutboxMapper).markRetry(1L, 30L, "REQUEST_FAILED: " + ErrorCode.SETTLEMENT_TRANSFER_FAIL.getMessage());
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수에 도달하면 outbox와 정산 모두 FAILED")
+    void dispatchDue_givesUpAfterMaxAttempts() {
+        given(payoutOutboxMapper.selectDue(50)).willReturn(List.of(payout(1L, 2)));
+        given(payoutOutboxMapper.claim(1L, 60)).willReturn(1);
+        given(tossPaymentService.transferAll(anyList()))
+                .willReturn(List.of(TossTransferResponseDto.failed("settlement-101", "REQUEST_FAILED", "timeout")));
+
+        dispatcher.dispatchDue();
+
+        verify(payoutOutboxMapper).markFailed(1L, "REQUEST_FAILED: timeout");
+        verify(settlementMapper).updateTransfer(101L, null, "FAILED");
+        verify(payoutOutboxMapper, never()).markRetry(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("재시도 간격은 두 배씩 늘고 1시간에서 멈춘다")
+    void retryDelaySeconds() {
+        assertThat(dispatcher.retryDelaySeconds(1)).isEqualTo(30);
+        assertThat(dispatcher.retryDelaySeconds(2)).isEqualTo(60);
+        assertThat(dispatcher.retryDelaySeconds(4)).isEqualTo(240);
+        assertThat(dispatcher.retryDelaySeconds(12)).isEqualTo(3600);
+    }
+}
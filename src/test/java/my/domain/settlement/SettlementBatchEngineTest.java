@@ -0,0 +1,214 @@
+package my.domain.settlement;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import my.common.exception.ApplicationException;
+import my.common.exception.ErrorCode;
+import my.domain.booksoldrecord.BookSoldRecordMapper;
+import my.domain.booksoldrecord.vo.BookSoldRecordVO;
+import my.domain.job.JobLease;
+import my.domain.job.JobLeaseLostException;
+import my.domain.settlement.dto.SettlementBatchReport;
+import my.domain.settlement.dto.SettlementRequestDto;
+import my.domain.settlement.service.SettlementService;
+import my.domain.settlement.vo.SettlementRunVO;
+import my.domain.settlement.vo.SettlementVO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SettlementBatchEngineTest {
+
+    private static final long RUN_ID = 10L;
+
+    @Mock private SettlementService settlementService;
+    @Mock private SettlementRunMapper settlementRunMapper;
+    @Mock private BookSoldRecordMapper bookSoldRecordMapper;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SettlementBatchEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        engine = new SettlementBatchEngine(settlementService, settlementRunMapper, bookSoldRecordMapper,
+                transactionManager, meterRegistry, 2);
+
+        given(settlementRunMapper.claimItem(eq(RUN_ID), anyLong())).willReturn(1);
+        given(bookSoldRecordMapper.selectUnsettledByBookOwnerId(anyLong()))
+                .willAnswer(inv -> List.of(saleRecord(inv.getArgument(0, Long.class) * 100)));
+        given(settlementService.settle(any())).willAnswer(inv -> {
+            SettlementRequestDto dto = inv.getArgument(0);
+            SettlementVO settlement = new SettlementVO();
+            settlement.setId(dto.getBookOwnerId() + 1000);
+            settlement.setBookOwnerId(dto.getBookOwnerId());
+            return settlement;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+    }
+
+    private BookSoldRecordVO saleRecord(long id) {
+        BookSoldRecordVO record = new BookSoldRecordVO();
+        record.setId(id);
+        return record;
+    }
+
+    private void givenRunningRun(List<Long> ownerIds) {
+        SettlementRunVO run = new SettlementRunVO();
+        run.setId(RUN_ID);
+        run.setStatus("RUNNING");
+        given(settlementRunMapper.selectById(RUN_ID)).willReturn(run);
+        given(settlementRunMapper.selectPendingOwnerIdsInRange(eq(RUN_ID), anyLong(), anyLong())).willReturn(ownerIds);
+    }
+
+    @Test
+    @DisplayName("진행 중인 실행이 없으면 미정산 BookOwner를 스냅샷해 새 실행을 연다")
+    void openRun_startsNewRun() {
+        willAnswer(inv -> {
+            inv.getArgument(0, SettlementRunVO.class).setId(RUN_ID);
+            return 1;
+        }).given(settlementRunMapper).insertRun(any());
+
+        assertThat(engine.openRun()).isEqualTo(RUN_ID);
+        verify(settlementRunMapper).insertItems(RUN_ID);
+    }
+
+    @Test
+    @DisplayName("RUNNING 실행이 남아 있으면 새로 만들지 않고 그 실행을 이어 간다")
+    void openRun_resumesCrashedRun() {
+        SettlementRunVO running = new SettlementRunVO();
+        running.setId(RUN_ID);
+        given(settlementRunMapper.selectRunning()).willReturn(running);
+
+        assertThat(engine.openRun()).isEqualTo(RUN_ID);
+        verify(settlementRunMapper, never()).insertRun(any());
+        verify(settlementRunMapper, never()).insertItems(anyLong());
+    }
+
+    @Test
+    @DisplayName("BookOwner마다 따로 정산하고 실패한 BookOwner만 FAILED로 남긴다")
+    void runRange_isolatesFailures() {
+        givenRunningRun(List.of(1L, 2L, 3L));
+        willThrow(new ApplicationException(ErrorCode.BANK_CODE_NOT_FOUND))
+                .given(settlementService).settle(argThat(dto -> dto.getBookOwnerId() == 2L));
+
+        SettlementBatchReport report = engine.runRange(RUN_ID, 1L, 3L, JobLease.NONE);
+
+        assertThat(report.runId()).isEqualTo(RUN_ID);
+        assertThat(report.owners()).isEqualTo(3);
+        assertThat(report.settled()).isEqualTo(2);
+        assertThat(report.failed()).isEqualTo(1);
+        verify(settlementRunMapper).updateItemSettlementId(RUN_ID, 1L, 1001L);
+        verify(settlementRunMapper).updateItemSettlementId(RUN_ID, 3L, 1003L);
+        verify(settlementRunMapper).failItem(RUN_ID, 2L, "BANK_CODE_NOT_FOUND");
+        assertThat(meterRegistry.counter("settlement.batch.owners", "result", "settled").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("settlement.batch.owners", "result", "failed").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이미 다른 곳에서 가져간 항목은 정산하지 않는다")
+    void runRange_skipsClaimedItems() {
+        givenRunningRun(List.of(1L, 2L));
+        given(settlementRunMapper.claimItem(RUN_ID, 2L)).willReturn(0);
+
+        SettlementBatchReport report = engine.runRange(RUN_ID, 1L, 2L, JobLease.NONE);
+
+        assertThat(report.settled()).isEqualTo(1);
+        assertThat(report.skipped()).isEqualTo(1);
+        verify(settlementService, never()).settle(argThat(dto -> dto.getBookOwnerId() == 2L));
+    }
+
+    @Test
+    @DisplayName("BookOwner 정산은 워커 풀 스레드에서 실행된다")
+    void runRange_usesWorkerPool() {
+        givenRunningRun(List.of(1L, 2L, 3L, 4L));
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        given(settlementRunMapper.claimItem(eq(RUN_ID), anyLong())).willAnswer(inv -> {
+            threads.add(Thread.currentThread().getName());
+            return 1;
+        });
+
+        engine.runRange(RUN_ID, 1L, 4L, JobLease.NONE);
+
+        assertThat(threads).isNotEmpty().allMatch(name -> name.startsWith("settlement-batch-"));
+    }
+
+    @Test
+    @DisplayName("범위 정산은 주어진 실행에서 범위 안의 항목만 정산하고 실행을 닫지 않는다")
+    void runRange_settlesRangeWithoutCompleting() {
+        givenRunningRun(List.of(1L, 2L));
+
+        SettlementBatchReport report = engine.runRange(RUN_ID, 1L, 2L, JobLease.NONE);
+
+        assertThat(report.settled()).isEqualTo(2);
+        verify(settlementRunMapper).selectPendingOwnerIdsInRange(RUN_ID, 1L, 2L);
+        verify(settlementRunMapper, never()).selectRunning();
+        verify(settlementRunMapper, never()).completeRun(anyLong());
+    }
+
+    @Test
+    @DisplayName("lease를 잃으면 남은 BookOwner는 정산하지 않고, FAILED로도 남기지 않는다")
+    void runRange_stopsWhenLeaseLost() {
+        givenRunningRun(List.of(1L, 2L, 3L, 4L));
+        JobLease lost = () -> {
+            throw new JobLeaseLostException(1L, 1);
+        };
+
+        assertThatThrownBy(() -> engine.runRange(RUN_ID, 1L, 4L, lost))
+                .isInstanceOf(IllegalStateException.class)
+                .hasCauseInstanceOf(JobLeaseLostException.class);
+        verify(settlementRunMapper, never()).claimItem(eq(RUN_ID), anyLong());
+        verify(settlementRunMapper, never()).failItem(eq(RUN_ID), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("실행이 이미 닫혔으면 범위 정산은 빈 결과로 넘어가지 않고 실패한다")
+    void runRange_closedRun() {
+        SettlementRunVO closed = new SettlementRunVO();
+        closed.setId(RUN_ID);
+        closed.setStatus("COMPLETED");
+        given(settlementRunMapper.selectById(RUN_ID)).willReturn(closed);
+
+        assertThatThrownBy(() -> engine.runRange(RUN_ID, 1L, 2L, JobLease.NONE))
+                .isInstanceOf(IllegalStateException.class);
+        verify(settlementService, never()).settle(any());
+    }
+
+    @Test
+    @DisplayName("이미 닫힌 실행을 닫으려 하면 실패한다")
+    void completeRun_closedRun() {
+        given(settlementRunMapper.completeRun(RUN_ID)).willReturn(0);
+
+        assertThatThrownBy(() -> engine.completeRun(RUN_ID))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
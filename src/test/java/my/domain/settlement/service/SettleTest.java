@@ -17,6 +17,9 @@ import my.domain.booksoldrecord.dto.BuyBookRequestDto;
 import my.domain.booksoldrecord.service.BookSoldRecordService;
 import my.domain.booksoldrecord.vo.BookSoldRecordVO;
 import my.domain.customer.service.auth.CustomerAuthService;
+import my.domain.job.JobLease;
+import my.domain.settlement.SettlementBatchEngine;
+import my.domain.settlement.dto.SettlementBatchReport;
 import my.domain.settlement.dto.SettlementRequestDto;
 import my.domain.settlement.vo.SettlementVO;
 import my.domain.settlement_ratio.service.SettlementRatioService;
@@ -44,6 +47,9 @@ class SettleTest {
     @Autowired
     private SettlementService settlementService;
 
+    @Autowired
+    private SettlementBatchEngine settlementBatchEngine;
+
     @Autowired
     private BookSoldRecordService bookSoldRecordService;
 
@@ -384,21 +390,21 @@ class SettleTest {
     // ========== 배치 정산 ==========
 
     @Test
-    @DisplayName("배치 정산 - settleAll()로 여러 BookOwner 일괄 정산")
+    @DisplayName("배치 정산 - SettlementBatchEngine으로 여러 BookOwner 일괄 정산")
     void settleAll_batch_success() {
         BookOwnerVO owner1 = createOwnerAndSellBook("batch-o1", "자바의 정석", 30000);
         BookOwnerVO owner2 = createOwnerAndSellBook("batch-o2", "스프링 인 액션", 40000);
 
-        List<SettlementVO> results = settlementService.settleAll();
+        Long runId = settlementBatchEngine.openRun();
+        SettlementBatchReport report = settlementBatchEngine.runRange(runId, Long.MIN_VALUE, Long.MAX_VALUE, JobLease.NONE);
+        settlementBatchEngine.completeRun(runId);
 
         // 최소 2명의 BookOwner가 정산됨
-        assertThat(results.size()).isGreaterThanOrEqualTo(2);
+        assertThat(report.settled()).isGreaterThanOrEqualTo(2);
 
         // owner1, owner2 모두 정산됨
-        boolean owner1Settled = results.stream().anyMatch(r -> r.getBookOwnerId().equals(owner1.getId()));
-        boolean owner2Settled = results.stream().anyMatch(r -> r.getBookOwnerId().equals(owner2.getId()));
-        assertThat(owner1Settled).isTrue();
-        assertThat(owner2Settled).isTrue();
+        assertThat(settlementService.findSettled(owner1.getId())).isNotEmpty();
+        assertThat(settlementService.findSettled(owner2.getId())).isNotEmpty();
 
         // 미정산 내역에서 제외됨
         List<BookSoldRecordVO> unsettled1 = bookSoldRecordMapper.selectUnsettledByBookOwnerId(owner1.getId());
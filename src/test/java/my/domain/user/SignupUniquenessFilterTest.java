@@ -0,0 +1,47 @@
+package my.domain.user;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class SignupUniquenessFilterTest {
+
+    @Mock private UserMapper userMapper;
+
+    @InjectMocks
+    private SignupUniquenessFilter filter;
+
+    @Test
+    @DisplayName("시작 시 기존 회원의 이메일 / 전화번호 / 주민번호를 모두 적재")
+    void warmUp_loadsExistingUsers() {
+        given(userMapper.selectSignupKeys()).willReturn(List.of(UserVO.builder()
+                .email("a@test.com").phone("010-1111-2222").residentNumber("900101-1234567").build()));
+
+        filter.warmUp();
+
+        assertThat(filter.mightContainEmail("a@test.com")).isTrue();
+        assertThat(filter.mightContainPhone("010-1111-2222")).isTrue();
+        assertThat(filter.mightContainResidentNumber("900101-1234567")).isTrue();
+    }
+
+    @Test
+    @DisplayName("추가하지 않은 값과 null은 없음으로 판정")
+    void mightContain_missAndNull() {
+        filter.add("a@test.com", null, null);
+
+        assertThat(filter.mightContainEmail("a@test.com")).isTrue();
+        assertThat(filter.mightContainEmail("b@test.com")).isFalse();
+        assertThat(filter.mightContainPhone("010-1111-2222")).isFalse();
+        assertThat(filter.mightContainEmail(null)).isFalse();
+        assertThat(filter.mightContainResidentNumber(null)).isFalse();
+    }
+}
@@ -0,0 +1,89 @@
+package my.domain.user.service.auth;
+
+import my.common.exception.ApplicationException;
+import my.common.exception.ErrorCode;
+import my.common.security.PasswordHasher;
+import my.domain.user.UserMapper;
+import my.domain.user.UserVO;
+import my.domain.user.dto.request.LoginRequestDto;
+import my.domain.user.dto.request.UserUpdateDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class LoginRehashTest {
+
+    @Mock private UserMapper userMapper;
+    @Mock private PasswordHasher passwordHasher;
+
+    @InjectMocks
+    private UserAuthServiceImpl userAuthService;
+
+    private LoginRequestDto request;
+
+    @BeforeEach
+    void setUp() {
+        UserVO user = UserVO.builder()
+                .email("test@test.com")
+                .password("$2a$04$old")
+                .build();
+        user.setId(1L);
+        given(userMapper.selectByEmail("test@test.com")).willReturn(user);
+        given(passwordHasher.matches("password1!", "$2a$04$old")).willReturn(true);
+
+        request = new LoginRequestDto();
+        ReflectionTestUtils.setField(request, "email", "test@test.com");
+        ReflectionTestUtils.setField(request, "password", "password1!");
+    }
+
+    @Test
+    @DisplayName("cost가 낮은 해시로 로그인하면 새 cost로 재해시해 저장한다")
+    void login_rehashesOutdatedHash() {
+        given(passwordHasher.upgradeEncoding("$2a$04$old")).willReturn(true);
+        given(passwordHasher.encode("password1!")).willReturn("$2a$10$new");
+
+        userAuthService.login(request);
+
+        ArgumentCaptor<UserUpdateDto> captor = ArgumentCaptor.forClass(UserUpdateDto.class);
+        verify(userMapper).update(captor.capture());
+        assertThat(captor.getValue().getId()).isEqualTo(1L);
+        assertThat(captor.getValue().getPassword()).isEqualTo("$2a$10$new");
+    }
+
+    @Test
+    @DisplayName("현재 cost 해시면 재해시하지 않는다")
+    void login_currentHash_noRehash() {
+        given(passwordHasher.upgradeEncoding("$2a$04$old")).willReturn(false);
+
+        userAuthService.login(request);
+
+        verify(passwordHasher, never()).encode(any());
+        verify(userMapper, never()).update(any());
+    }
+
+    @Test
+    @DisplayName("재해시 중 실행기가 포화돼도 로그인은 성공한다")
+    void login_rehashRejected_stillSucceeds() {
+        given(passwordHasher.upgradeEncoding("$2a$04$old")).willReturn(true);
+        given(passwordHasher.encode("password1!"))
+                .willThrow(new ApplicationException(ErrorCode.PASSWORD_HASHER_BUSY));
+
+        UserVO user = userAuthService.login(request);
+
+        assertThat(user.getId()).isEqualTo(1L);
+        verify(userMapper, never()).update(any());
+    }
+}
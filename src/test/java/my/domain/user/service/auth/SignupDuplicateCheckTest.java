@@ -0,0 +1,121 @@
+package my.domain.user.service.auth;
+
+import my.common.exception.ApplicationException;
+import my.common.exception.ErrorCode;
+import my.common.security.PasswordHasher;
+import my.domain.user.SignupUniquenessFilter;
+import my.domain.user.UserMapper;
+import my.domain.user.UserVO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SignupDuplicateCheckTest {
+
+    @Mock private UserMapper userMapper;
+    @Mock private PasswordHasher passwordHasher;
+    @Mock private SignupUniquenessFilter signupUniquenessFilter;
+
+    @InjectMocks
+    private UserAuthServiceImpl userAuthService;
+
+    private UserVO user() {
+        return UserVO.builder()
+                .email("new@test.com")
+                .phone("010-1234-5678")
+                .residentNumber("900101-1234567")
+                .password("encoded")
+                .build();
+    }
+
+    @Test
+    @DisplayName("filter에 없는 값이면 중복 조회 없이 INSERT 하고 커밋 후 filter에 추가")
+    void save_skipsQueryWhenFilterMisses() {
+        UserVO user = user();
+        given(userMapper.insert(user)).willReturn(1);
+
+        int result = userAuthService.save(user);
+
+        assertThat(result).isEqualTo(1);
+        verify(userMapper, never()).selectDuplicateFields(any(), any(), any());
+        verify(userMapper, never()).selectByEmail(any());
+        verify(userMapper, never()).selectByPhone(any());
+        verify(userMapper, never()).selectByResidentNumber(any());
+        verify(signupUniquenessFilter).add("new@test.com", "010-1234-5678", "900101-1234567");
+    }
+
+    @Test
+    @DisplayName("filter가 있을 수도 있다고 한 항목만 한 번의 쿼리로 확인")
+    void save_checksOnlyCandidatesInOneQuery() {
+        UserVO user = user();
+        given(signupUniquenessFilter.mightContainPhone("010-1234-5678")).willReturn(true);
+        given(userMapper.selectDuplicateFields(null, "010-1234-5678", null)).willReturn(List.of());
+        given(userMapper.insert(user)).willReturn(1);
+
+        userAuthService.save(user);
+
+        verify(userMapper).selectDuplicateFields(null, "010-1234-5678", null);
+        verify(userMapper).insert(user);
+    }
+
+    @Test
+    @DisplayName("여러 항목이 겹치면 이메일 → 전화번호 → 주민번호 순으로 보고하고 INSERT 하지 않음")
+    void save_reportsInExistingOrder() {
+        UserVO user = user();
+        given(signupUniquenessFilter.mightContainEmail(any())).willReturn(true);
+        given(signupUniquenessFilter.mightContainPhone(any())).willReturn(true);
+        given(signupUniquenessFilter.mightContainResidentNumber(any())).willReturn(true);
+        given(userMapper.selectDuplicateFields("new@test.com", "010-1234-5678", "900101-1234567"))
+                .willReturn(List.of("RESIDENT_NUMBER", "PHONE"));
+
+        assertThatThrownBy(() -> userAuthService.save(user))
+                .isInstanceOf(ApplicationException.class)
+                .extracting(e -> ((ApplicationException) e).getErrorCode())
+                .isEqualTo(ErrorCode.DUPLICATE_PHONE);
+        verify(userMapper, never()).insert(any());
+        verify(signupUniquenessFilter, never()).add(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("사전 검사를 통과했어도 unique index 위반이면 해당 항목의 중복 에러로 변환")
+    void save_mapsUniqueIndexViolation() {
+        UserVO user = user();
+        given(userMapper.insert(user)).willThrow(new DuplicateKeyException("insert",
+                new SQLIntegrityConstraintViolationException("ORA-00001: unique constraint (BOOKSHARE.UX_USERS_ACTIVE_RESIDENT_NUMBER) violated")));
+
+        assertThatThrownBy(() -> userAuthService.save(user))
+                .isInstanceOf(ApplicationException.class)
+                .extracting(e -> ((ApplicationException) e).getErrorCode())
+                .isEqualTo(ErrorCode.DUPLICATE_RESIDENT_NUMBER);
+        verify(signupUniquenessFilter, never()).add(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("이메일 unique index(UQ_USERS_EMAIL) 위반은 이메일 중복 에러로 변환")
+    void save_mapsEmailUniqueIndexViolation() {
+        UserVO user = user();
+        given(userMapper.insert(user)).willThrow(new DuplicateKeyException("insert",
+                new SQLIntegrityConstraintViolationException("ORA-00001: unique constraint (BOOKSHARE.UQ_USERS_EMAIL) violated")));
+
+        assertThatThrownBy(() -> userAuthService.save(user))
+                .isInstanceOf(ApplicationException.class)
+                .extracting(e -> ((ApplicationException) e).getErrorCode())
+                .isEqualTo(ErrorCode.DUPLICATE_EMAIL);
+        verify(signupUniquenessFilter, never()).add(any(), any(), any());
+    }
+}
@@ -0,0 +1,141 @@
+package my.interceptor;
+
+import my.annotation.RequireRole;
+import my.common.exception.ApplicationException;
+import my.common.exception.ErrorCode;
+import my.enums.Role;
+import my.jwt.JwtPrincipal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RoleCheckInterceptorTest {
+
+    private RoleCheckInterceptor interceptor;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    static class TestController {
+
+        public void open() {
+        }
+
+        @RequireRole(Role.ADMIN)
+        public void adminOnly() {
+        }
+
+        @RequireRole(value = {Role.ADMIN, Role.BOOK_OWNER}, checkOwnership = true)
+        public void ownerResource() {
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new RoleCheckInterceptor();
+        request = new MockHttpServletRequest();
+        response = new MockHttpServletResponse();
+    }
+
+    private HandlerMethod handler(String methodName) throws NoSuchMethodException {
+        return new HandlerMethod(new TestController(), methodName);
+    }
+
+    private void login(Long userId, Role role) {
+        request.setAttribute(JwtPrincipal.ATTRIBUTE, new JwtPrincipal(userId, role, Instant.now().plusSeconds(60)));
+    }
+
+    private void pathId(String id) {
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("id", id));
+    }
+
+    private void assertForbidden(HandlerMethod handler) {
+        assertThatThrownBy(() -> interceptor.preHandle(request, response, handler))
+                .isInstanceOf(ApplicationException.class)
+                .extracting(e -> ((ApplicationException) e).getErrorCode())
+                .isEqualTo(ErrorCode.FORBIDDEN);
+    }
+
+    @Nested
+    @DisplayName("권한 검사")
+    class RoleTest {
+
+        @Test
+        @DisplayName("@RequireRole 없는 핸들러는 로그인 없이 통과")
+        void noAnnotation_passes() throws Exception {
+            assertThat(interceptor.preHandle(request, response, handler("open"))).isTrue();
+        }
+
+        @Test
+        @DisplayName("허용된 Role이면 통과")
+        void permittedRole_passes() throws Exception {
+            login(1L, Role.ADMIN);
+
+            assertThat(interceptor.preHandle(request, response, handler("adminOnly"))).isTrue();
+        }
+
+        @Test
+        @DisplayName("허용되지 않은 Role이면 FORBIDDEN")
+        void otherRole_forbidden() throws Exception {
+            login(1L, Role.CUSTOMER);
+
+            assertForbidden(handler("adminOnly"));
+        }
+
+        @Test
+        @DisplayName("principal이 없으면 FORBIDDEN")
+        void noPrincipal_forbidden() throws Exception {
+            assertForbidden(handler("adminOnly"));
+        }
+    }
+
+    @Nested
+    @DisplayName("소유권 검사")
+    class OwnershipTest {
+
+        @Test
+        @DisplayName("BOOK_OWNER는 자기 id 경로만 접근 가능")
+        void bookOwner_ownId_passes() throws Exception {
+            login(3L, Role.BOOK_OWNER);
+            pathId("3");
+
+            assertThat(interceptor.preHandle(request, response, handler("ownerResource"))).isTrue();
+        }
+
+        @Test
+        @DisplayName("BOOK_OWNER가 다른 id 경로에 접근하면 FORBIDDEN")
+        void bookOwner_otherId_forbidden() throws Exception {
+            login(3L, Role.BOOK_OWNER);
+            pathId("4");
+
+            assertForbidden(handler("ownerResource"));
+        }
+
+        @Test
+        @DisplayName("ADMIN은 소유권 검사를 하지 않는다")
+        void admin_skipsOwnership() throws Exception {
+            login(1L, Role.ADMIN);
+            pathId("4");
+
+            assertThat(interceptor.preHandle(request, response, handler("ownerResource"))).isTrue();
+        }
+
+        @Test
+        @DisplayName("경로에 id가 없으면 통과")
+        void noPathId_passes() throws Exception {
+            login(3L, Role.BOOK_OWNER);
+
+            assertThat(interceptor.preHandle(request, response, handler("ownerResource"))).isTrue();
+        }
+    }
+}
@@ -11,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import javax.crypto.SecretKey;
 import java.lang.reflect.Field;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -272,4 +273,124 @@ class JwtProviderTest {
             assertFalse(isValid);
         }
     }
+
+    @Nested
+    @DisplayName("principal / 검증 캐시 테스트")
+    class PrincipalTest {
+
+        @Test
+        @DisplayName("한 번의 파싱으로 userId, role, 만료시각을 모두 꺼낸다")
+        void parse_ReturnsPrincipal() {
+            // given
+            UserVO user = createTestUser(7L, Role.CUSTOMER);
+            String token = jwtProvider.createToken(user);
+
+            // when
+            JwtPrincipal principal = jwtProvider.parse(token);
+
+            // then
+            assertEquals(7L, principal.userId());
+            assertEquals(Role.CUSTOMER, principal.role());
+            assertFalse(principal.isExpired(Instant.now()));
+        }
+
+        @Test
+        @DisplayName("같은 토큰은 두 번째부터 캐시된 principal을 돌려준다")
+        void authenticate_SameToken_ReturnsCachedPrincipal() {
+            // given
+            String token = jwtProvider.createToken(createTestUser(1L, Role.BOOK_OWNER));
+
+            // when
+            JwtPrincipal first = jwtProvider.authenticate(token);
+            JwtPrincipal second = jwtProvider.authenticate(token);
+
+            // then
+            assertNotNull(first);
+            assertSame(first, second);
+        }
+
+        @Test
+        @DisplayName("변조 / 빈 / null 토큰은 null")
+        void authenticate_InvalidToken_ReturnsNull() {
+            // given
+            String token = jwtProvider.createToken(createTestUser(1L, Role.BOOK_OWNER));
+            String tamperedToken = token.substring(0, token.length() - 5) + "xxxxx";
+
+            // when & then
+            assertNotNull(jwtProvider.authenticate(token));
+            assertNull(jwtProvider.authenticate(tamperedToken));
+            assertNull(jwtProvider.authenticate(""));
+            assertNull(jwtProvider.authenticate(null));
+        }
+
+        @Test
+        @DisplayName("만료된 토큰은 null")
+        void authenticate_ExpiredToken_ReturnsNull() throws Exception {
+            // given
+            JwtProvider expiredProvider = new JwtProvider();
+            setField(expiredProvider, "secretKey", SECRET_KEY);
+            setField(expiredProvider, "exp", 0L);
+            expiredProvider.init();
+            String token = expiredProvider.createToken(createTestUser(1L, Role.BOOK_OWNER));
+
+            Thread.sleep(10);
+
+            // when & then
+            assertNull(expiredProvider.authenticate(token));
+        }
+    }
+
+    @Nested
+    @DisplayName("refresh token 테스트")
+    class RefreshTokenTest {
+
+        @BeforeEach
+        void setUp() throws Exception {
+            setField(jwtProvider, "refreshExp", EXPIRATION);
+        }
+
+        @Test
+        @DisplayName("refresh token에서 jti, userId, 만료시각을 꺼낸다")
+        void parseRefreshToken_Success() {
+            // given
+            String refreshToken = jwtProvider.createRefreshToken(createTestUser(5L, Role.CUSTOMER));
+
+            // when
+            RefreshToken parsed = jwtProvider.parseRefreshToken(refreshToken);
+
+            // then
+            assertNotNull(parsed);
+            assertNotNull(parsed.jti());
+            assertEquals(5L, parsed.userId());
+        }
+
+        @Test
+        @DisplayName("발급할 때마다 jti가 다르다")
+        void createRefreshToken_UniqueJti() {
+            UserVO user = createTestUser(5L, Role.CUSTOMER);
+
+            String first = jwtProvider.parseRefreshToken(jwtProvider.createRefreshToken(user)).jti();
+            String second = jwtProvider.parseRefreshToken(jwtProvider.createRefreshToken(user)).jti();
+
+            assertNotEquals(first, second);
+        }
+
+        @Test
+        @DisplayName("refresh token으로는 API 인증이 되지 않는다")
+        void authenticate_RefreshToken_ReturnsNull() {
+            String refreshToken = jwtProvider.createRefreshToken(createTestUser(5L, Role.CUSTOMER));
+
+            assertNull(jwtProvider.authenticate(refreshToken));
+            assertFalse(jwtProvider.validateToken(refreshToken));
+        }
+
+        @Test
+        @DisplayName("access token은 refresh token으로 쓸 수 없다")
+        void parseRefreshToken_AccessToken_ReturnsNull() {
+            String accessToken = jwtProvider.createToken(createTestUser(5L, Role.CUSTOMER));
+
+            assertNull(jwtProvider.parseRefreshToken(accessToken));
+            assertNull(jwtProvider.parseRefreshToken("invalid.token.here"));
+        }
+    }
 }